@@ -0,0 +1,119 @@
+package com.devops.projeto_ac2.application.arquivamento;
+
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Move periodicamente os alunos concluídos há mais de alunos.arquivo.idade-minima-dias
+ * da tabela ativa (tb_alunos) para o arquivo (tb_alunos_arquivo)
+ * 
+ * Cada lote é movido em sua própria transação, então as escritas concorrentes
+ * esperam no máximo um lote e uma falha desfaz apenas o lote corrente. A tabela
+ * ativa fica com os alunos em andamento e os concluídos recentemente, que são
+ * os consultados e atualizados com frequência; seus índices e o cache encolhem junto.
+ * 
+ * O agendamento apenas dispara a execução em uma thread própria, para não ocupar
+ * a thread compartilhada das tarefas @Scheduled durante um arquivamento longo.
+ */
+@Component
+@ConditionalOnProperty(name = "alunos.arquivo.habilitado", havingValue = "true")
+public class ArquivadorAlunos {
+    
+    static final int TAMANHO_MAXIMO_LOTE = 1000;
+    
+    private final AlunoRepository alunoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int idadeMinimaDias;
+    private final int tamanhoLote;
+    private final Executor execucao;
+    
+    private final Counter arquivados;
+    private final AtomicBoolean executando = new AtomicBoolean();
+    
+    @Autowired
+    public ArquivadorAlunos(
+            AlunoRepository alunoRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${alunos.arquivo.idade-minima-dias:365}") int idadeMinimaDias,
+            @Value("${alunos.arquivo.tamanho-lote:500}") int tamanhoLote) {
+        this(alunoRepository, transactionManager, meterRegistry, idadeMinimaDias, tamanhoLote,
+                Executors.newSingleThreadExecutor(tarefa -> {
+                    Thread thread = new Thread(tarefa, "arquivamento-alunos");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+    
+    ArquivadorAlunos(
+            AlunoRepository alunoRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            int idadeMinimaDias,
+            int tamanhoLote,
+            Executor execucao) {
+        this.alunoRepository = alunoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.idadeMinimaDias = Math.max(0, idadeMinimaDias);
+        this.tamanhoLote = Math.min(Math.max(1, tamanhoLote), TAMANHO_MAXIMO_LOTE);
+        this.execucao = execucao;
+        this.arquivados = Counter.builder("alunos.arquivo.arquivados")
+                .description("Alunos concluídos movidos para o arquivo")
+                .register(meterRegistry);
+    }
+    
+    @PreDestroy
+    public void encerrar() {
+        if (execucao instanceof ExecutorService servico) {
+            servico.shutdownNow();
+        }
+    }
+    
+    @Scheduled(
+            initialDelayString = "${alunos.arquivo.intervalo-ms:3600000}",
+            fixedDelayString = "${alunos.arquivo.intervalo-ms:3600000}")
+    public void agendar() {
+        execucao.execute(this::arquivar);
+    }
+    
+    /**
+     * Arquiva lote a lote até não restar aluno elegível
+     * Uma execução por vez; chamadas durante uma execução retornam 0
+     * 
+     * @return Quantidade de alunos arquivados
+     */
+    public int arquivar() {
+        if (!executando.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            LocalDateTime limite = LocalDateTime.now().minusDays(idadeMinimaDias);
+            int total = 0;
+            List<Long> lote;
+            do {
+                lote = transactionTemplate.execute(status -> alunoRepository.arquivarConcluidosAte(limite, tamanhoLote));
+                total += lote.size();
+                arquivados.increment(lote.size());
+            } while (lote.size() == tamanhoLote && !Thread.currentThread().isInterrupted());
+            return total;
+        } finally {
+            executando.set(false);
+        }
+    }
+}
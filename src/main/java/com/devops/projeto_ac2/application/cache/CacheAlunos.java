@@ -0,0 +1,94 @@
+package com.devops.projeto_ac2.application.cache;
+
+import com.devops.projeto_ac2.domain.events.AlunoRemovidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoSalvoEvent;
+import com.devops.projeto_ac2.domain.readmodels.AlunoResumo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Cache em memória (Caffeine) dos alunos lidos por ID, limitado em tamanho e em tempo
+ * 
+ * Guarda o read model imutável AlunoResumo, nunca a entidade. Cada escrita de um
+ * aluno o invalida após o commit; a carga de um ID segura a chave até terminar,
+ * então uma invalidação concorrente nunca é sobrescrita por uma leitura anterior
+ * a ela. A expiração limita o tempo de vida de escritas feitas por outra instância.
+ * 
+ * Os alunos gravados há menos de alunos.replicas.atraso-maximo-ms ficam marcados
+ * (gravadoRecentemente): a carga seguinte deve ler do primário, porque uma réplica
+ * atrasada devolveria a versão anterior à escrita logo após a invalidação.
+ * 
+ * Métricas no Micrometer com cache=alunos.por-id: cache.gets (hit/miss),
+ * cache.evictions, cache.load.duration e alunos.cache.taxa-acertos.
+ */
+@Component
+@ConditionalOnProperty(name = "alunos.cache.habilitado", havingValue = "true", matchIfMissing = true)
+public class CacheAlunos {
+    
+    static final String NOME = "alunos.por-id";
+    
+    private final Cache<Long, AlunoResumo> porId;
+    private final Cache<Long, Boolean> gravadosRecentemente;
+    
+    public CacheAlunos(
+            MeterRegistry meterRegistry,
+            @Value("${alunos.cache.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${alunos.cache.expiracao-ms:300000}") long expiracaoMs,
+            @Value("${alunos.replicas.atraso-maximo-ms:1000}") long atrasoReplicasMs) {
+        this.porId = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(Duration.ofMillis(expiracaoMs))
+                .recordStats()
+                .build();
+        this.gravadosRecentemente = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(Duration.ofMillis(Math.max(1, atrasoReplicasMs)))
+                .build();
+        
+        CaffeineCacheMetrics.monitor(meterRegistry, porId, NOME);
+        Gauge.builder("alunos.cache.taxa-acertos", porId, cache -> cache.stats().hitRate())
+                .tag("cache", NOME)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Aluno em cache ou, na falta, carregado (e guardado se existir)
+     * Alunos inexistentes não são guardados
+     */
+    public Optional<AlunoResumo> buscar(Long id, Function<Long, Optional<AlunoResumo>> carregar) {
+        return Optional.ofNullable(porId.get(id, chave -> carregar.apply(chave).orElse(null)));
+    }
+    
+    /**
+     * Se o aluno foi gravado nesta instância há menos do atraso máximo aceito das réplicas
+     */
+    public boolean gravadoRecentemente(Long id) {
+        return gravadosRecentemente.getIfPresent(id) != null;
+    }
+    
+    /**
+     * A marca vem antes da invalidação: a próxima carga já a enxerga
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoSalvarAluno(AlunoSalvoEvent evento) {
+        gravadosRecentemente.put(evento.getAluno().getId(), Boolean.TRUE);
+        porId.invalidate(evento.getAluno().getId());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoRemoverAluno(AlunoRemovidoEvent evento) {
+        gravadosRecentemente.put(evento.getAlunoId(), Boolean.TRUE);
+        porId.invalidate(evento.getAlunoId());
+    }
+}
@@ -0,0 +1,270 @@
+package com.devops.projeto_ac2.application.cache;
+
+import com.devops.projeto_ac2.domain.events.AlunoRemovidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoSalvoEvent;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom com os RAs cadastrados, consultado antes do existsByRA
+ * 
+ * Quando o filtro responde que o RA com certeza não existe, a criação de aluno
+ * dispensa a consulta ao banco; quando responde "talvez", a consulta é feita
+ * normalmente. O filtro é montado na inicialização percorrendo os RAs do banco
+ * e recebe cada RA gravado já na publicação do evento, antes do commit: um RA
+ * de uma transação desfeita apenas gera um falso positivo a mais.
+ * 
+ * Filtros de Bloom não removem elementos, então remoções só são contadas; o
+ * filtro é reconstruído em segundo plano quando as remoções passam de um quarto
+ * dos elementos ou quando a capacidade é ultrapassada. A unique constraint de ra
+ * continua sendo a garantia final contra duplicidade.
+ */
+@Component
+public class FiltroRAs {
+    
+    static final long CAPACIDADE_MINIMA = 1024;
+    
+    private final AlunoRepository alunoRepository;
+    private final double taxaFalsosPositivos;
+    
+    private final Counter consultasAusente;
+    private final Counter consultasTalvez;
+    private final Counter falsosPositivos;
+    
+    /**
+     * Filtro em uso; null até a primeira carga terminar (tudo "talvez" até lá)
+     */
+    private volatile Bloom atual;
+    
+    /**
+     * Filtro sendo reconstruído; também recebe os RAs gravados durante a reconstrução
+     */
+    private volatile Bloom emConstrucao;
+    
+    private final AtomicLong removidos = new AtomicLong();
+    private final AtomicBoolean reconstruindo = new AtomicBoolean();
+    
+    public FiltroRAs(
+            AlunoRepository alunoRepository,
+            MeterRegistry meterRegistry,
+            @Value("${alunos.filtro-ra.taxa-falsos-positivos:0.01}") double taxaFalsosPositivos) {
+        this.alunoRepository = alunoRepository;
+        this.taxaFalsosPositivos = Math.min(Math.max(taxaFalsosPositivos, 1e-6), 0.5);
+        
+        this.consultasAusente = Counter.builder("alunos.filtro-ra.consultas")
+                .tag("resultado", "ausente")
+                .register(meterRegistry);
+        this.consultasTalvez = Counter.builder("alunos.filtro-ra.consultas")
+                .tag("resultado", "talvez")
+                .register(meterRegistry);
+        this.falsosPositivos = Counter.builder("alunos.filtro-ra.falsos-positivos")
+                .description("Consultas em que o filtro respondeu talvez e o RA não existia")
+                .register(meterRegistry);
+        
+        Gauge.builder("alunos.filtro-ra.memoria", this, FiltroRAs::memoriaBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("alunos.filtro-ra.elementos", this, FiltroRAs::elementos)
+                .register(meterRegistry);
+        Gauge.builder("alunos.filtro-ra.taxa-falsos-positivos.estimada", this, FiltroRAs::taxaFalsosPositivosEstimada)
+                .register(meterRegistry);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarNaInicializacao() {
+        reconstruir();
+    }
+    
+    /**
+     * Síncrono (não espera o commit), para que o RA já conste no filtro antes de ficar visível no banco
+     */
+    @EventListener
+    public void aoSalvarAluno(AlunoSalvoEvent evento) {
+        adicionar(evento.getAluno().getRegistroAcademico().getValor());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoRemoverAluno(AlunoRemovidoEvent evento) {
+        removidos.incrementAndGet();
+    }
+    
+    @Scheduled(fixedDelayString = "${alunos.filtro-ra.verificacao-ms:60000}")
+    public void reconstruirSeNecessario() {
+        Bloom bloom = atual;
+        if (bloom != null && (bloom.elementos() > bloom.capacidade || removidos.get() > bloom.elementos() / 4)) {
+            reconstruir();
+        }
+    }
+    
+    /**
+     * Monta um novo filtro a partir dos RAs do banco, com capacidade para o dobro dos alunos atuais
+     */
+    public void reconstruir() {
+        if (!reconstruindo.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long removidosAntes = removidos.get();
+            Bloom novo = new Bloom(Math.max(CAPACIDADE_MINIMA, alunoRepository.contar() * 2), taxaFalsosPositivos);
+            emConstrucao = novo;
+            alunoRepository.paraCadaRA(novo::adicionar);
+            atual = novo;
+            removidos.addAndGet(-removidosAntes);
+        } finally {
+            emConstrucao = null;
+            reconstruindo.set(false);
+        }
+    }
+    
+    public void adicionar(String ra) {
+        Bloom bloom = atual;
+        if (bloom != null) {
+            bloom.adicionar(ra);
+        }
+        Bloom novo = emConstrucao;
+        if (novo != null) {
+            novo.adicionar(ra);
+        }
+    }
+    
+    /**
+     * @return false apenas quando o RA com certeza não está cadastrado
+     */
+    public boolean podeExistir(String ra) {
+        Bloom bloom = atual;
+        if (bloom == null) {
+            return true;
+        }
+        if (bloom.contem(ra)) {
+            consultasTalvez.increment();
+            return true;
+        }
+        consultasAusente.increment();
+        return false;
+    }
+    
+    /**
+     * Informa o resultado da consulta ao banco feita após um "talvez", para medir os falsos positivos
+     */
+    public void registrarConfirmacao(boolean existia) {
+        if (!existia && atual != null) {
+            falsosPositivos.increment();
+        }
+    }
+    
+    public boolean pronto() {
+        return atual != null;
+    }
+    
+    double memoriaBytes() {
+        Bloom bloom = atual;
+        return bloom == null ? 0 : bloom.bits.length() * (double) Long.BYTES;
+    }
+    
+    double elementos() {
+        Bloom bloom = atual;
+        return bloom == null ? 0 : bloom.elementos();
+    }
+    
+    /**
+     * (bits ligados / total de bits) ^ quantidade de funções de hash
+     */
+    double taxaFalsosPositivosEstimada() {
+        Bloom bloom = atual;
+        return bloom == null ? 0 : Math.pow((double) bloom.bitsLigados.get() / bloom.quantidadeBits, bloom.quantidadeHashes);
+    }
+    
+    /**
+     * Vetor de bits com k posições por RA, obtidas por hash duplo (h1 + i * h2)
+     * Seguro para escritas concorrentes: cada bit é ligado com CAS na palavra
+     */
+    static final class Bloom {
+        
+        private final long capacidade;
+        private final long quantidadeBits;
+        private final int quantidadeHashes;
+        private final AtomicLongArray bits;
+        private final AtomicLong bitsLigados = new AtomicLong();
+        private final AtomicLong elementos = new AtomicLong();
+        
+        Bloom(long capacidade, double taxaFalsosPositivos) {
+            // m = -n ln p / (ln 2)^2 e k = m / n ln 2
+            long bitsDesejados = (long) Math.ceil(-capacidade * Math.log(taxaFalsosPositivos) / (Math.log(2) * Math.log(2)));
+            int palavras = (int) Math.min(Integer.MAX_VALUE - 8, (bitsDesejados + Long.SIZE - 1) / Long.SIZE);
+            this.capacidade = capacidade;
+            this.quantidadeBits = (long) palavras * Long.SIZE;
+            this.quantidadeHashes = Math.max(1, (int) Math.round((double) quantidadeBits / capacidade * Math.log(2)));
+            this.bits = new AtomicLongArray(palavras);
+        }
+        
+        /**
+         * RAs repetidos (o mesmo aluno salvo de novo) não ligam bits e não contam como elemento
+         */
+        void adicionar(String ra) {
+            long hash = hash(ra);
+            long h1 = hash;
+            long h2 = hash >>> 32 | 1;
+            boolean alterou = false;
+            for (int i = 0; i < quantidadeHashes; i++) {
+                long posicao = Math.floorMod(h1 + i * h2, quantidadeBits);
+                int palavra = (int) (posicao >>> 6);
+                long mascara = 1L << posicao;
+                long anterior = bits.getAndAccumulate(palavra, mascara, (valor, bit) -> valor | bit);
+                if ((anterior & mascara) == 0) {
+                    bitsLigados.incrementAndGet();
+                    alterou = true;
+                }
+            }
+            if (alterou) {
+                elementos.incrementAndGet();
+            }
+        }
+        
+        boolean contem(String ra) {
+            long hash = hash(ra);
+            long h1 = hash;
+            long h2 = hash >>> 32 | 1;
+            for (int i = 0; i < quantidadeHashes; i++) {
+                long posicao = Math.floorMod(h1 + i * h2, quantidadeBits);
+                if ((bits.get((int) (posicao >>> 6)) & 1L << posicao) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        long elementos() {
+            return elementos.get();
+        }
+        
+        /**
+         * FNV-1a de 64 bits sobre os bytes UTF-8, com a finalização do MurmurHash3 para espalhar os bits
+         */
+        private static long hash(String ra) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : ra.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
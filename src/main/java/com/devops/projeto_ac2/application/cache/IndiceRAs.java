@@ -0,0 +1,93 @@
+package com.devops.projeto_ac2.application.cache;
+
+import com.devops.projeto_ac2.domain.events.AlunoRemovidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoSalvoEvent;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Índice em memória da chave natural: RA -> ID do aluno
+ * 
+ * Carregado na inicialização e mantido pelos eventos de gravação e remoção (após
+ * o commit). O RA de um aluno nunca muda e IDs não são reaproveitados, então um
+ * ID encontrado aqui é sempre o do RA; se o aluno não existir mais (remoção feita
+ * por outra instância), quem consulta descarta a entrada com remover.
+ * 
+ * A memória ocupada é estimada (alunos.indice-ra.memoria) a partir da quantidade
+ * de entradas e do tamanho dos RAs.
+ */
+@Component
+public class IndiceRAs {
+    
+    /**
+     * Bytes estimados por entrada além dos caracteres do RA: nó do ConcurrentHashMap,
+     * posição na tabela, String com seu array e o Long do ID
+     */
+    static final int CUSTO_FIXO_ENTRADA = 104;
+    
+    private final AlunoRepository alunoRepository;
+    private final Map<String, Long> idPorRA = new ConcurrentHashMap<>();
+    
+    /**
+     * Soma dos tamanhos dos RAs indexados (um byte por caractere: RAs são alfanuméricos)
+     */
+    private final AtomicLong caracteresRAs = new AtomicLong();
+    
+    public IndiceRAs(AlunoRepository alunoRepository, MeterRegistry meterRegistry) {
+        this.alunoRepository = alunoRepository;
+        
+        Gauge.builder("alunos.indice-ra.elementos", idPorRA, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("alunos.indice-ra.memoria", this, IndiceRAs::memoriaEstimadaBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarNaInicializacao() {
+        alunoRepository.paraCadaRAComId(this::registrar);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoSalvarAluno(AlunoSalvoEvent evento) {
+        registrar(evento.getAluno().getRegistroAcademico().getValor(), evento.getAluno().getId());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoRemoverAluno(AlunoRemovidoEvent evento) {
+        remover(evento.getRa(), evento.getAlunoId());
+    }
+    
+    public Optional<Long> idDe(String ra) {
+        return Optional.ofNullable(idPorRA.get(ra));
+    }
+    
+    public void registrar(String ra, Long alunoId) {
+        if (idPorRA.put(ra, alunoId) == null) {
+            caracteresRAs.addAndGet(ra.length());
+        }
+    }
+    
+    /**
+     * Remove a entrada apenas se ainda apontar para este aluno
+     */
+    public void remover(String ra, Long alunoId) {
+        if (idPorRA.remove(ra, alunoId)) {
+            caracteresRAs.addAndGet(-ra.length());
+        }
+    }
+    
+    long memoriaEstimadaBytes() {
+        return (long) idPorRA.size() * CUSTO_FIXO_ENTRADA + caracteresRAs.get();
+    }
+}
@@ -0,0 +1,188 @@
+package com.devops.projeto_ac2.application.cache;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.events.AlunoRemovidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoSalvoEvent;
+import com.devops.projeto_ac2.domain.events.AlunosArquivadosEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versões usadas como ETag nas respostas de leitura
+ * 
+ * Cada aluno tem a versão id + dataAtualizacao, lembrada em memória depois de
+ * servida ou gravada; a tabela inteira tem um contador incrementado a cada escrita.
+ * Assim uma requisição com If-None-Match pode ser respondida com 304 sem ir ao
+ * banco e sem serializar JSON.
+ * 
+ * Os ouvintes rodam por último (após o commit e após os índices em memória),
+ * então uma versão nunca é anunciada antes de os dados que ela representa
+ * estarem visíveis.
+ * 
+ * Os eventos são locais: uma escrita feita por outra instância não chega aqui.
+ * Por isso as versões dos alunos expiram em alunos.etag.expiracao-ms (e são
+ * limitadas a alunos.etag.tamanho-maximo); um aluno sem versão conhecida tem a
+ * versão calculada de novo a partir da linha lida. A versão da coleção também
+ * muda a cada alunos.etag.expiracao-ms, mesmo sem escritas nesta instância.
+ * 
+ * Com réplicas de leitura, a coleção alterada há menos de alunos.replicas.atraso-maximo-ms
+ * é lida no primário (colecaoAlteradaRecentemente): uma réplica atrasada entregaria
+ * dados anteriores à versão já anunciada no ETag.
+ */
+@Component
+public class RastreadorVersoes {
+    
+    /**
+     * Diferencia os contadores de execuções diferentes da aplicação
+     */
+    private final String instancia = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    
+    private final AtomicLong contador = new AtomicLong();
+    
+    /**
+     * dataAtualizacao (em microssegundos) da versão mais recente conhecida de cada aluno
+     */
+    private final Cache<Long, Long> carimboPorAluno;
+    
+    /**
+     * Instante (ticker) da última escrita vista por esta instância; Long.MIN_VALUE se nenhuma
+     */
+    private final AtomicLong ultimaAlteracao = new AtomicLong(Long.MIN_VALUE);
+    
+    private final Ticker ticker;
+    private final long expiracaoNanos;
+    private final long atrasoReplicasNanos;
+    
+    @Autowired
+    public RastreadorVersoes(
+            @Value("${alunos.etag.tamanho-maximo:100000}") long tamanhoMaximo,
+            @Value("${alunos.etag.expiracao-ms:30000}") long expiracaoMs,
+            @Value("${alunos.replicas.atraso-maximo-ms:1000}") long atrasoReplicasMs) {
+        this(tamanhoMaximo, expiracaoMs, atrasoReplicasMs, Ticker.systemTicker());
+    }
+    
+    RastreadorVersoes(long tamanhoMaximo, long expiracaoMs, long atrasoReplicasMs, Ticker ticker) {
+        Duration expiracao = Duration.ofMillis(Math.max(1, expiracaoMs));
+        this.carimboPorAluno = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(expiracao)
+                .ticker(ticker)
+                .build();
+        this.ticker = ticker;
+        this.expiracaoNanos = expiracao.toNanos();
+        this.atrasoReplicasNanos = Duration.ofMillis(Math.max(0, atrasoReplicasMs)).toNanos();
+    }
+    
+    /**
+     * Os índices em memória terminam de carregar neste mesmo evento
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void aoIniciar() {
+        contador.incrementAndGet();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void aoSalvarAluno(AlunoSalvoEvent evento) {
+        registrar(evento.getAluno());
+        alterarColecao();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void aoRemoverAluno(AlunoRemovidoEvent evento) {
+        carimboPorAluno.invalidate(evento.getAlunoId());
+        alterarColecao();
+    }
+    
+    /**
+     * Os alunos arquivados não mudam, mas saem das listagens: apenas a versão da coleção muda
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void aoArquivarAlunos(AlunosArquivadosEvent evento) {
+        alterarColecao();
+    }
+    
+    /**
+     * Versão conhecida do aluno, se ele foi lido ou gravado há menos de alunos.etag.expiracao-ms
+     */
+    public Optional<String> versaoAluno(Long alunoId) {
+        return Optional.ofNullable(carimboPorAluno.getIfPresent(alunoId))
+                .map(carimbo -> versao(alunoId, carimbo));
+    }
+    
+    /**
+     * Lembra a versão do aluno lido do banco e a retorna
+     * Nunca substitui uma versão mais recente já registrada por um evento
+     */
+    public String registrar(Aluno aluno) {
+        return registrar(aluno.getId(), aluno.getDataAtualizacao());
+    }
+    
+    public String registrar(Long alunoId, LocalDateTime dataAtualizacao) {
+        long carimbo = carimbo(dataAtualizacao);
+        carimboPorAluno.asMap().merge(alunoId, carimbo, Math::max);
+        return versao(alunoId, carimbo);
+    }
+    
+    /**
+     * Versão de toda a coleção de alunos
+     * Deve ser lida antes da consulta, para que nunca seja mais nova que os dados entregues
+     * 
+     * O período (tempo / expiração) entra na versão para que uma escrita de outra
+     * instância seja entregue em no máximo alunos.etag.expiracao-ms
+     */
+    public String versaoColecao() {
+        return instancia + "-" + contador.get() + "-" + ticker.read() / expiracaoNanos;
+    }
+    
+    /**
+     * Se a coleção mudou nesta instância há menos do atraso máximo aceito das réplicas
+     * Deve ser consultado depois de versaoColecao(): uma versão nova sempre vem com true
+     */
+    public boolean colecaoAlteradaRecentemente() {
+        long ultima = ultimaAlteracao.get();
+        return ultima != Long.MIN_VALUE && ticker.read() - ultima < atrasoReplicasNanos;
+    }
+    
+    /**
+     * O instante é gravado antes do contador, para que quem veja a versão nova veja também o instante
+     */
+    private void alterarColecao() {
+        ultimaAlteracao.set(ticker.read());
+        contador.incrementAndGet();
+    }
+    
+    /**
+     * Truncado em microssegundos, a precisão com que o banco guarda a data
+     */
+    private static long carimbo(LocalDateTime dataAtualizacao) {
+        if (dataAtualizacao == null) {
+            return 0L;
+        }
+        LocalDateTime truncada = dataAtualizacao.truncatedTo(ChronoUnit.MICROS);
+        return truncada.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + truncada.getNano() / 1_000L;
+    }
+    
+    private static String versao(Long alunoId, long carimbo) {
+        return alunoId + "-" + Long.toString(carimbo, Character.MAX_RADIX);
+    }
+}
@@ -0,0 +1,85 @@
+package com.devops.projeto_ac2.application.concorrencia;
+
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Executa escritas de alunos em transação própria, repetindo-as quando a versão
+ * otimista (@Version) acusa que outra requisição alterou o aluno no meio do caminho
+ * 
+ * Cada tentativa relê o aluno e reaplica as regras da entidade. Entre tentativas há
+ * uma espera aleatória (full jitter) limitada a um teto que dobra a cada tentativa,
+ * para que as requisições em conflito não voltem a colidir no mesmo instante.
+ * Chamado dentro de uma transação já aberta, executa uma única vez: repetir dentro
+ * dela não enxergaria a versão nova.
+ */
+@Component
+public class ExecutorEscritaOtimista {
+    
+    private final TransactionTemplate transactionTemplate;
+    private final MonitorContencao monitorContencao;
+    private final int maximoTentativas;
+    private final long esperaBaseMs;
+    private final long esperaMaximaMs;
+    
+    public ExecutorEscritaOtimista(
+            PlatformTransactionManager transactionManager,
+            MonitorContencao monitorContencao,
+            @Value("${escrita.retentativas.maximo:4}") int maximoTentativas,
+            @Value("${escrita.retentativas.espera-base-ms:10}") long esperaBaseMs,
+            @Value("${escrita.retentativas.espera-maxima-ms:200}") long esperaMaximaMs) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monitorContencao = monitorContencao;
+        this.maximoTentativas = Math.max(1, maximoTentativas);
+        this.esperaBaseMs = Math.max(0, esperaBaseMs);
+        this.esperaMaximaMs = Math.max(this.esperaBaseMs, esperaMaximaMs);
+    }
+    
+    /**
+     * @param operacao Nome da operação nas métricas (ex.: concluir-curso)
+     * @param alunoId Aluno alterado, para a contagem de conflitos por aluno
+     * @param escrita Leitura, regra de negócio e gravação; repetida inteira a cada tentativa
+     * @throws ConflitoConcorrenciaException se todas as tentativas conflitarem
+     */
+    public <T> T executar(String operacao, Long alunoId, Supplier<T> escrita) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return escrita.get();
+        }
+        
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return transactionTemplate.execute(status -> escrita.get());
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                monitorContencao.registrarConflito(operacao, alunoId);
+                if (tentativa >= maximoTentativas) {
+                    monitorContencao.registrarEsgotada(operacao);
+                    throw new ConflitoConcorrenciaException(alunoId, maximoTentativas);
+                }
+                monitorContencao.registrarRetentativa(operacao);
+                esperar(tentativa, alunoId);
+            }
+        }
+    }
+    
+    private void esperar(int tentativa, Long alunoId) {
+        long teto = Math.min(esperaMaximaMs, esperaBaseMs << Math.min(tentativa - 1, 20));
+        if (teto <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(teto + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflitoConcorrenciaException(alunoId, tentativa);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.devops.projeto_ac2.application.concorrencia;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Group commit das tentativas de avaliação (opcional, tentativas.agrupamento.habilitado)
+ * 
+ * Cada requisição entra em uma fila limitada e recebe um CompletableFuture. Uma única
+ * thread junta os pedidos que chegam dentro do intervalo (ou até o tamanho do lote)
+ * e grava todos em uma transação: um SELECT pelos IDs, Aluno.registrarTentativa em
+ * ordem de chegada (então pedidos do mesmo aluno no mesmo lote respeitam o limite)
+ * e UPDATEs em lote. Os futures só são completados depois do commit.
+ * 
+ * Um pedido recusado pela entidade não afeta os demais. Se o lote inteiro falhar
+ * (ex.: conflito de versão com uma escrita fora do agrupamento), cada pedido é
+ * gravado sozinho, com as retentativas do ExecutorEscritaOtimista. Com a fila cheia,
+ * ou após o encerramento, o pedido também é gravado sozinho, na thread de quem chamou.
+ */
+@Component
+@ConditionalOnProperty(name = "tentativas.agrupamento.habilitado", havingValue = "true")
+public class GravacaoAgrupadaTentativas {
+    
+    /**
+     * Espera máxima por um pedido com a fila vazia, para perceber o encerramento
+     */
+    private static final long ESPERA_OCIOSA_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    
+    private final AlunoRepository alunoRepository;
+    private final ExecutorEscritaOtimista executorEscrita;
+    private final TransactionTemplate transactionTemplate;
+    private final long intervaloNanos;
+    private final int tamanhoLote;
+    private final BlockingQueue<Pedido> fila;
+    
+    private final DistributionSummary tamanhoLotes;
+    private final Timer latenciaCommit;
+    
+    private volatile boolean ativo;
+    private Thread gravadora;
+    
+    /**
+     * Tentativa aguardando o lote; aluno ou erro preenchidos pela gravadora antes do commit
+     */
+    private static final class Pedido {
+        
+        private final Long alunoId;
+        private final MediaFinal media;
+        private final CompletableFuture<Aluno> resultado = new CompletableFuture<>();
+        private Aluno aluno;
+        private RuntimeException erro;
+        
+        private Pedido(Long alunoId, MediaFinal media) {
+            this.alunoId = alunoId;
+            this.media = media;
+        }
+    }
+    
+    public GravacaoAgrupadaTentativas(
+            AlunoRepository alunoRepository,
+            ExecutorEscritaOtimista executorEscrita,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${tentativas.agrupamento.intervalo-ms:5}") long intervaloMs,
+            @Value("${tentativas.agrupamento.tamanho-lote:100}") int tamanhoLote,
+            @Value("${tentativas.agrupamento.capacidade:10000}") int capacidade) {
+        this.alunoRepository = alunoRepository;
+        this.executorEscrita = executorEscrita;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.intervaloNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, intervaloMs));
+        this.tamanhoLote = Math.max(1, tamanhoLote);
+        this.fila = new ArrayBlockingQueue<>(Math.max(this.tamanhoLote, capacidade));
+        
+        this.tamanhoLotes = DistributionSummary.builder("alunos.tentativas.agrupadas.lote")
+                .description("Tentativas gravadas por transação")
+                .register(meterRegistry);
+        this.latenciaCommit = Timer.builder("alunos.tentativas.agrupadas.commit")
+                .description("Duração da transação de cada lote")
+                .register(meterRegistry);
+        Gauge.builder("alunos.tentativas.agrupadas.fila", fila, Collection::size)
+                .description("Tentativas aguardando lote")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void iniciar() {
+        ativo = true;
+        gravadora = new Thread(this::gravarLotes, "gravacao-agrupada-tentativas");
+        gravadora.setDaemon(true);
+        gravadora.start();
+    }
+    
+    /**
+     * Para de aceitar pedidos e grava os que ainda estão na fila
+     */
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        ativo = false;
+        if (gravadora != null) {
+            gravadora.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+    
+    /**
+     * Enfileira a tentativa
+     * 
+     * Um encerramento entre a verificação de ativo e o offer deixaria o pedido na fila
+     * depois da última volta da gravadora: por isso ativo é lido de novo após o offer,
+     * e o pedido retirado da fila é gravado aqui. Se a gravadora já o tirou, ela o grava.
+     * 
+     * @return Completado com o aluno atualizado após o commit do lote, ou com a
+     *         exceção da recusa (AlunoNotFoundException, DomainException)
+     */
+    public CompletableFuture<Aluno> registrar(Long alunoId, MediaFinal media) {
+        Pedido pedido = new Pedido(alunoId, media);
+        if (!ativo || !fila.offer(pedido)) {
+            gravarSozinho(pedido);
+        } else if (!ativo && fila.remove(pedido)) {
+            gravarSozinho(pedido);
+        }
+        return pedido.resultado;
+    }
+    
+    private void gravarLotes() {
+        while (ativo || !fila.isEmpty()) {
+            try {
+                List<Pedido> lote = proximoLote();
+                if (!lote.isEmpty()) {
+                    gravar(lote);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // a gravadora não pode morrer; os pedidos do lote já foram completados em gravar
+            }
+        }
+    }
+    
+    /**
+     * Espera o primeiro pedido e junta os que chegarem até o fim do intervalo ou até completar o lote
+     */
+    private List<Pedido> proximoLote() throws InterruptedException {
+        Pedido primeiro = fila.poll(Math.min(intervaloNanos, ESPERA_OCIOSA_NANOS), TimeUnit.NANOSECONDS);
+        if (primeiro == null) {
+            return List.of();
+        }
+        List<Pedido> lote = new ArrayList<>(tamanhoLote);
+        lote.add(primeiro);
+        long prazo = System.nanoTime() + intervaloNanos;
+        while (lote.size() < tamanhoLote) {
+            fila.drainTo(lote, tamanhoLote - lote.size());
+            long restante = prazo - System.nanoTime();
+            if (lote.size() >= tamanhoLote || restante <= 0) {
+                break;
+            }
+            Pedido proximo = fila.poll(restante, TimeUnit.NANOSECONDS);
+            if (proximo == null) {
+                break;
+            }
+            lote.add(proximo);
+        }
+        return lote;
+    }
+    
+    private void gravar(List<Pedido> lote) {
+        long inicio = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> aplicar(lote));
+        } catch (RuntimeException e) {
+            lote.forEach(this::gravarSozinho);
+            return;
+        }
+        latenciaCommit.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        tamanhoLotes.record(lote.size());
+        
+        for (Pedido pedido : lote) {
+            if (pedido.erro != null) {
+                pedido.resultado.completeExceptionally(pedido.erro);
+            } else {
+                pedido.resultado.complete(pedido.aluno);
+            }
+        }
+    }
+    
+    /**
+     * Regras da entidade em ordem de chegada e um único flush com os UPDATEs do lote
+     */
+    private void aplicar(List<Pedido> lote) {
+        Map<Long, Aluno> alunos = alunoRepository.buscarPorIds(lote.stream().map(pedido -> pedido.alunoId).toList())
+                .stream()
+                .collect(Collectors.toMap(Aluno::getId, Function.identity()));
+        
+        Set<Aluno> alterados = new LinkedHashSet<>();
+        for (Pedido pedido : lote) {
+            pedido.aluno = null;
+            pedido.erro = null;
+            Aluno aluno = alunos.get(pedido.alunoId);
+            if (aluno == null) {
+                pedido.erro = new AlunoNotFoundException(pedido.alunoId);
+                continue;
+            }
+            try {
+                aluno.registrarTentativa(pedido.media);
+                alterados.add(aluno);
+                pedido.aluno = aluno;
+            } catch (DomainException e) {
+                pedido.erro = e;
+            }
+        }
+        
+        if (!alterados.isEmpty()) {
+            alunoRepository.atualizarTodos(new ArrayList<>(alterados));
+        }
+    }
+    
+    private void gravarSozinho(Pedido pedido) {
+        try {
+            pedido.resultado.complete(executorEscrita.executar("registrar-tentativa", pedido.alunoId, () -> {
+                Aluno aluno = alunoRepository.buscarPorId(pedido.alunoId)
+                        .orElseThrow(() -> new AlunoNotFoundException(pedido.alunoId));
+                aluno.registrarTentativa(pedido.media);
+                return alunoRepository.salvar(aluno);
+            }));
+        } catch (RuntimeException e) {
+            pedido.resultado.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.devops.projeto_ac2.application.concorrencia;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de conflitos de concorrência (versão otimista) nas escritas de alunos
+ * 
+ * Os totais por operação vão para o Micrometer (alunos.escrita.conflitos,
+ * alunos.escrita.retentativas, alunos.escrita.esgotadas). A contagem por aluno
+ * fica em memória, fora das métricas para não criar uma série por aluno, e
+ * responde quais alunos estão mais disputados.
+ */
+@Component
+public class MonitorContencao {
+    
+    /**
+     * Alunos acompanhados individualmente; acima disso os menos disputados são descartados
+     */
+    static final int MAXIMO_ALUNOS_ACOMPANHADOS = 10_000;
+    
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, LongAdder> conflitosPorAluno = new ConcurrentHashMap<>();
+    
+    /**
+     * Aluno e quantidade de conflitos nas suas escritas desde a inicialização
+     */
+    public record AlunoDisputado(Long alunoId, long conflitos) {
+    }
+    
+    public MonitorContencao(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    void registrarConflito(String operacao, Long alunoId) {
+        contador("alunos.escrita.conflitos", operacao).increment();
+        if (alunoId == null) {
+            return;
+        }
+        if (conflitosPorAluno.size() >= MAXIMO_ALUNOS_ACOMPANHADOS && !conflitosPorAluno.containsKey(alunoId)) {
+            descartarMenosDisputados();
+        }
+        conflitosPorAluno.computeIfAbsent(alunoId, id -> new LongAdder()).increment();
+    }
+    
+    void registrarRetentativa(String operacao) {
+        contador("alunos.escrita.retentativas", operacao).increment();
+    }
+    
+    void registrarEsgotada(String operacao) {
+        contador("alunos.escrita.esgotadas", operacao).increment();
+    }
+    
+    /**
+     * Alunos com mais conflitos, do mais disputado para o menos
+     */
+    public List<AlunoDisputado> maisDisputados(int limite) {
+        return conflitosPorAluno.entrySet().stream()
+                .map(entrada -> new AlunoDisputado(entrada.getKey(), entrada.getValue().sum()))
+                .sorted(Comparator.comparingLong(AlunoDisputado::conflitos).reversed()
+                        .thenComparing(AlunoDisputado::alunoId))
+                .limit(limite)
+                .toList();
+    }
+    
+    private Counter contador(String nome, String operacao) {
+        return Counter.builder(nome)
+                .tag("operacao", operacao)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Mantém apenas a metade mais disputada
+     */
+    private void descartarMenosDisputados() {
+        List<AlunoDisputado> mantidos = maisDisputados(MAXIMO_ALUNOS_ACOMPANHADOS / 2);
+        conflitosPorAluno.keySet().retainAll(mantidos.stream().map(AlunoDisputado::alunoId).toList());
+    }
+}
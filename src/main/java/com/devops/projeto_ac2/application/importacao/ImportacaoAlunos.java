@@ -0,0 +1,107 @@
+package com.devops.projeto_ac2.application.importacao;
+
+import com.devops.projeto_ac2.domain.readmodels.ProgressoImportacao;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado de uma importação de alunos a partir de CSV
+ * 
+ * Atualizada apenas pela thread da importação, após o commit de cada lote,
+ * e lida a qualquer momento pelas consultas de progresso.
+ */
+public class ImportacaoAlunos {
+    
+    public enum Status {
+        EM_ANDAMENTO, CONCLUIDA, FALHOU
+    }
+    
+    @Getter
+    private final String id;
+    @Getter
+    private final Path arquivo;
+    @Getter
+    private final Path relatorioErros;
+    private final LocalDateTime inicio = LocalDateTime.now();
+    
+    private final AtomicLong importadas = new AtomicLong();
+    private final AtomicLong rejeitadas = new AtomicLong();
+    private final AtomicLong lotesConfirmados = new AtomicLong();
+    
+    @Getter
+    private volatile Status status = Status.EM_ANDAMENTO;
+    @Getter
+    private volatile long linhaConfirmada;
+    private volatile LocalDateTime fim;
+    private volatile String erro;
+    
+    /**
+     * Início e linhas já processadas na execução atual, para a vazão não contar execuções anteriores
+     */
+    private volatile long inicioExecucaoNanos = System.nanoTime();
+    private volatile long fimExecucaoNanos;
+    private volatile long processadasAntesDaExecucao;
+    
+    ImportacaoAlunos(String id, Path arquivo, Path relatorioErros) {
+        this.id = id;
+        this.arquivo = arquivo;
+        this.relatorioErros = relatorioErros;
+    }
+    
+    void retomar() {
+        status = Status.EM_ANDAMENTO;
+        erro = null;
+        fim = null;
+        processadasAntesDaExecucao = importadas.get() + rejeitadas.get();
+        inicioExecucaoNanos = System.nanoTime();
+        fimExecucaoNanos = 0L;
+    }
+    
+    void confirmarLote(long ultimaLinha, long novasImportadas, long novasRejeitadas) {
+        importadas.addAndGet(novasImportadas);
+        rejeitadas.addAndGet(novasRejeitadas);
+        lotesConfirmados.incrementAndGet();
+        linhaConfirmada = ultimaLinha;
+    }
+    
+    void concluir() {
+        encerrar(Status.CONCLUIDA, null);
+    }
+    
+    void falhar(String motivo) {
+        encerrar(Status.FALHOU, motivo);
+    }
+    
+    private void encerrar(Status resultado, String motivo) {
+        fimExecucaoNanos = System.nanoTime();
+        fim = LocalDateTime.now();
+        erro = motivo;
+        status = resultado;
+    }
+    
+    public boolean encerrada() {
+        return status != Status.EM_ANDAMENTO;
+    }
+    
+    public ProgressoImportacao progresso() {
+        long processadas = importadas.get() + rejeitadas.get();
+        long fimNanos = fimExecucaoNanos != 0L ? fimExecucaoNanos : System.nanoTime();
+        double segundos = (fimNanos - inicioExecucaoNanos) / 1_000_000_000.0;
+        double vazao = segundos > 0 ? (processadas - processadasAntesDaExecucao) / segundos : 0.0;
+        
+        return new ProgressoImportacao(
+                id,
+                status.name(),
+                importadas.get(),
+                rejeitadas.get(),
+                lotesConfirmados.get(),
+                linhaConfirmada,
+                Math.round(vazao * 10) / 10.0,
+                inicio,
+                fim,
+                erro);
+    }
+}
@@ -0,0 +1,232 @@
+package com.devops.projeto_ac2.application.importacao;
+
+import com.devops.projeto_ac2.application.importacao.LeitorCsvAlunos.Linha;
+import com.devops.projeto_ac2.application.usecases.CriarAlunosEmLoteUseCase;
+import com.devops.projeto_ac2.application.usecases.CriarAlunosEmLoteUseCase.NovoAluno;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+import com.devops.projeto_ac2.domain.readmodels.ResultadoCriacaoAluno;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Pipeline de importação de alunos a partir de CSV
+ * 
+ * O upload é copiado em blocos para um arquivo temporário e processado em segundo
+ * plano em três estágios: leitura do próximo lote de linhas, validação do lote em
+ * paralelo (NomeAluno / RegistroAcademico, em um ForkJoinPool dedicado) e gravação
+ * do lote anterior em sua própria transação, enquanto o seguinte é validado.
+ * Linhas rejeitadas vão para um relatório CSV. Se um lote falhar, a importação
+ * pode ser retomada a partir da última linha confirmada.
+ * 
+ * Uma importação roda por vez; as demais aguardam na fila. As importações ficam
+ * em memória, então uma importação interrompida por reinício não pode ser retomada.
+ */
+@Component
+public class ImportadorAlunos {
+    
+    private static final String CABECALHO_RELATORIO = "linha,nome,ra,erro";
+    
+    /**
+     * Importações encerradas mantidas para consulta; as mais antigas são descartadas
+     */
+    private static final int MAXIMO_ENCERRADAS = 50;
+    
+    private final CriarAlunosEmLoteUseCase criarAlunosEmLoteUseCase;
+    private final int tamanhoLote;
+    private final ForkJoinPool validacao;
+    private final Executor execucao;
+    
+    private final Map<String, ImportacaoAlunos> importacoes = new ConcurrentHashMap<>();
+    
+    /**
+     * Linha com a entidade já validada, ou com o motivo da rejeição
+     */
+    private record LinhaValidada(Linha linha, Aluno aluno, String erro) {
+    }
+    
+    @Autowired
+    public ImportadorAlunos(
+            CriarAlunosEmLoteUseCase criarAlunosEmLoteUseCase,
+            @Value("${importacao.tamanho-lote:1000}") int tamanhoLote,
+            @Value("${importacao.paralelismo:0}") int paralelismo) {
+        this(criarAlunosEmLoteUseCase, tamanhoLote, paralelismo, Executors.newSingleThreadExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "importacao-alunos");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+    
+    ImportadorAlunos(CriarAlunosEmLoteUseCase criarAlunosEmLoteUseCase, int tamanhoLote, int paralelismo, Executor execucao) {
+        this.criarAlunosEmLoteUseCase = criarAlunosEmLoteUseCase;
+        this.tamanhoLote = Math.min(Math.max(1, tamanhoLote), CriarAlunosEmLoteUseCase.TAMANHO_MAXIMO_LOTE);
+        this.validacao = new ForkJoinPool(paralelismo > 0 ? paralelismo : Runtime.getRuntime().availableProcessors());
+        this.execucao = execucao;
+    }
+    
+    @PreDestroy
+    public void encerrar() {
+        validacao.shutdown();
+        if (execucao instanceof ExecutorService servico) {
+            servico.shutdownNow();
+        }
+    }
+    
+    /**
+     * Guarda o CSV recebido e agenda a importação
+     */
+    public ImportacaoAlunos iniciar(InputStream csv) throws IOException {
+        descartarEncerradasAntigas();
+        
+        String id = UUID.randomUUID().toString();
+        Path arquivo = Files.createTempFile("importacao-" + id + "-", ".csv");
+        Path relatorioErros = Files.createTempFile("importacao-" + id + "-erros-", ".csv");
+        Files.copy(csv, arquivo, StandardCopyOption.REPLACE_EXISTING);
+        Files.writeString(relatorioErros, CABECALHO_RELATORIO + "\n", StandardCharsets.UTF_8);
+        
+        ImportacaoAlunos importacao = new ImportacaoAlunos(id, arquivo, relatorioErros);
+        importacoes.put(id, importacao);
+        execucao.execute(() -> processar(importacao));
+        return importacao;
+    }
+    
+    public Optional<ImportacaoAlunos> buscar(String id) {
+        return Optional.ofNullable(importacoes.get(id));
+    }
+    
+    /**
+     * Reagenda uma importação que falhou, a partir da última linha confirmada
+     * 
+     * @throws DomainException se a importação não estiver com falha
+     */
+    public void retomar(ImportacaoAlunos importacao) {
+        synchronized (importacao) {
+            if (importacao.getStatus() != ImportacaoAlunos.Status.FALHOU) {
+                throw new DomainException("Apenas importações com falha podem ser retomadas");
+            }
+            importacao.retomar();
+        }
+        execucao.execute(() -> processar(importacao));
+    }
+    
+    void processar(ImportacaoAlunos importacao) {
+        try (LeitorCsvAlunos leitor = new LeitorCsvAlunos(importacao.getArquivo(), importacao.getLinhaConfirmada());
+             BufferedWriter relatorio = Files.newBufferedWriter(
+                     importacao.getRelatorioErros(), StandardCharsets.UTF_8, StandardOpenOption.APPEND)) {
+            
+            ForkJoinTask<List<LinhaValidada>> validando = validar(leitor.proximas(tamanhoLote));
+            while (validando != null) {
+                List<LinhaValidada> lote = validando.join();
+                // o próximo lote é validado enquanto o atual é gravado
+                validando = validar(leitor.proximas(tamanhoLote));
+                gravar(importacao, lote, relatorio);
+            }
+            
+            importacao.concluir();
+            Files.deleteIfExists(importacao.getArquivo());
+        } catch (Exception e) {
+            importacao.falhar(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+    
+    private ForkJoinTask<List<LinhaValidada>> validar(List<Linha> linhas) {
+        if (linhas.isEmpty()) {
+            return null;
+        }
+        // parallelStream dentro de uma tarefa do pool usa as threads desse pool
+        return validacao.submit(() -> linhas.parallelStream().map(ImportadorAlunos::validarLinha).toList());
+    }
+    
+    private static LinhaValidada validarLinha(Linha linha) {
+        if (linha.erro() != null) {
+            return new LinhaValidada(linha, null, linha.erro());
+        }
+        try {
+            return new LinhaValidada(linha, CriarAlunosEmLoteUseCase.validar(new NovoAluno(linha.nome(), linha.ra())), null);
+        } catch (InvalidValueObjectException e) {
+            return new LinhaValidada(linha, null, e.getMessage());
+        }
+    }
+    
+    /**
+     * Grava o lote em uma transação e, após o commit, registra as rejeições e o progresso
+     */
+    private void gravar(ImportacaoAlunos importacao, List<LinhaValidada> lote, Writer relatorio) throws IOException {
+        List<ResultadoCriacaoAluno> resultados = criarAlunosEmLoteUseCase.gravar(lote.stream()
+                .map(LinhaValidada::aluno)
+                .filter(Objects::nonNull)
+                .toList());
+        
+        long importadas = 0;
+        long rejeitadas = 0;
+        int proximoResultado = 0;
+        for (LinhaValidada item : lote) {
+            String erro = item.erro();
+            if (item.aluno() != null) {
+                ResultadoCriacaoAluno resultado = resultados.get(proximoResultado++);
+                if (resultado.criado()) {
+                    importadas++;
+                    continue;
+                }
+                erro = resultado.erro();
+            }
+            escreverRejeicao(relatorio, item.linha(), erro);
+            rejeitadas++;
+        }
+        relatorio.flush();
+        
+        importacao.confirmarLote(lote.get(lote.size() - 1).linha().numero(), importadas, rejeitadas);
+    }
+    
+    private static void escreverRejeicao(Writer relatorio, Linha linha, String erro) throws IOException {
+        relatorio.write(String.join(",",
+                Long.toString(linha.numero()), csv(linha.nome()), csv(linha.ra()), csv(erro)));
+        relatorio.write("\n");
+    }
+    
+    private static String csv(String valor) {
+        return valor == null ? "" : "\"" + valor.replace("\"", "\"\"") + "\"";
+    }
+    
+    private void descartarEncerradasAntigas() {
+        List<ImportacaoAlunos> encerradas = importacoes.values().stream()
+                .filter(ImportacaoAlunos::encerrada)
+                .sorted(Comparator.comparing(importacao -> importacao.progresso().inicio()))
+                .toList();
+        for (int i = 0; i < encerradas.size() - MAXIMO_ENCERRADAS + 1; i++) {
+            ImportacaoAlunos antiga = encerradas.get(i);
+            importacoes.remove(antiga.getId());
+            try {
+                Files.deleteIfExists(antiga.getArquivo());
+                Files.deleteIfExists(antiga.getRelatorioErros());
+            } catch (IOException e) {
+                // arquivo temporário; o sistema operacional o descarta depois
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.devops.projeto_ac2.application.importacao;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor do CSV de matrículas (colunas nome e ra), linha a linha
+ * 
+ * Nunca carrega o arquivo inteiro: cada chamada a proximas lê apenas o próximo
+ * bloco de linhas. O separador (vírgula ou ponto e vírgula) é detectado na primeira
+ * linha, que é ignorada se for o cabeçalho. Linhas em branco são ignoradas.
+ * 
+ * Campos entre aspas podem conter o separador ("Silva, João") e aspas duplicadas
+ * (""), como no RFC 4180; quebras de linha dentro de aspas não são aceitas, já que
+ * cada linha do arquivo é um registro.
+ */
+class LeitorCsvAlunos implements Closeable {
+    
+    /**
+     * Linha lida do arquivo; erro preenchido quando a linha não tem o formato esperado
+     * 
+     * numero: número da linha no arquivo (a partir de 1, contando o cabeçalho)
+     */
+    record Linha(long numero, String nome, String ra, String erro) {
+    }
+    
+    private final BufferedReader reader;
+    private final long pularAteLinha;
+    
+    private long numeroLinha;
+    private char separador = ',';
+    
+    /**
+     * @param pularAteLinha Linhas até esta (inclusive) já foram importadas e são descartadas
+     */
+    LeitorCsvAlunos(Path arquivo, long pularAteLinha) throws IOException {
+        this.reader = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8);
+        this.pularAteLinha = pularAteLinha;
+    }
+    
+    /**
+     * Próximas linhas de dados do arquivo
+     * 
+     * @return Até quantidade linhas; lista vazia no fim do arquivo
+     */
+    List<Linha> proximas(int quantidade) throws IOException {
+        List<Linha> linhas = new ArrayList<>(quantidade);
+        String texto;
+        while (linhas.size() < quantidade && (texto = reader.readLine()) != null) {
+            numeroLinha++;
+            if (numeroLinha == 1) {
+                texto = texto.replace("\uFEFF", "");
+                separador = detectarSeparador(texto);
+                if (cabecalho(texto)) {
+                    continue;
+                }
+            }
+            if (numeroLinha <= pularAteLinha || texto.isBlank()) {
+                continue;
+            }
+            linhas.add(interpretar(texto));
+        }
+        return linhas;
+    }
+    
+    private boolean cabecalho(String texto) {
+        List<String> colunas = colunas(texto, separador);
+        return colunas != null
+                && colunas.size() == 2
+                && "nome".equalsIgnoreCase(colunas.get(0))
+                && "ra".equalsIgnoreCase(colunas.get(1));
+    }
+    
+    private Linha interpretar(String texto) {
+        List<String> colunas = colunas(texto, separador);
+        if (colunas == null) {
+            return new Linha(numeroLinha, texto, null, "Aspas não fechadas");
+        }
+        if (colunas.size() != 2) {
+            return new Linha(numeroLinha, texto, null,
+                    "Esperadas 2 colunas (nome e ra), encontradas " + colunas.size());
+        }
+        return new Linha(numeroLinha, colunas.get(0), colunas.get(1), null);
+    }
+    
+    /**
+     * Ponto e vírgula se ele aparece fora de aspas na primeira linha; senão vírgula
+     */
+    private static char detectarSeparador(String primeiraLinha) {
+        List<String> colunas = colunas(primeiraLinha, ';');
+        return colunas != null && colunas.size() > 1 ? ';' : ',';
+    }
+    
+    /**
+     * Separa a linha nas colunas, sem os espaços das pontas e sem as aspas
+     * 
+     * Aspas só abrem um campo no início dele; no meio de um campo sem aspas são texto comum.
+     * 
+     * @return null se a linha termina com aspas abertas
+     */
+    private static List<String> colunas(String texto, char separador) {
+        List<String> colunas = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+        boolean citado = false;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (entreAspas) {
+                if (c != '"') {
+                    atual.append(c);
+                } else if (i + 1 < texto.length() && texto.charAt(i + 1) == '"') {
+                    atual.append('"');
+                    i++;
+                } else {
+                    entreAspas = false;
+                }
+            } else if (c == '"' && !citado && atual.toString().isBlank()) {
+                atual.setLength(0);
+                entreAspas = true;
+                citado = true;
+            } else if (c == separador) {
+                colunas.add(atual.toString().trim());
+                atual.setLength(0);
+                citado = false;
+            } else {
+                atual.append(c);
+            }
+        }
+        if (entreAspas) {
+            return null;
+        }
+        colunas.add(atual.toString().trim());
+        return colunas;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,163 @@
+package com.devops.projeto_ac2.application.ranking;
+
+import com.devops.projeto_ac2.domain.readmodels.EntradaRanking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Árvore de estatística de ordem (treap com tamanho de subárvore)
+ * 
+ * Inserção, remoção e cálculo de posição em O(log n) esperado;
+ * leitura de uma fatia de k elementos em O(log n + k).
+ * Não é thread-safe: o acesso concorrente é controlado pelo IndiceRanking.
+ */
+class ArvoreRanking {
+    
+    private static final class No {
+        private final EntradaRanking entrada;
+        private final int prioridade;
+        private No esquerda;
+        private No direita;
+        private int tamanho = 1;
+        
+        private No(EntradaRanking entrada, int prioridade) {
+            this.entrada = entrada;
+            this.prioridade = prioridade;
+        }
+    }
+    
+    private final Comparator<EntradaRanking> ordem;
+    private final SplittableRandom aleatorio = new SplittableRandom();
+    private No raiz;
+    
+    ArvoreRanking(Comparator<EntradaRanking> ordem) {
+        this.ordem = ordem;
+    }
+    
+    int tamanho() {
+        return tamanho(raiz);
+    }
+    
+    void inserir(EntradaRanking entrada) {
+        No[] partes = dividir(raiz, entrada);
+        raiz = unir(unir(partes[0], new No(entrada, aleatorio.nextInt())), partes[1]);
+    }
+    
+    void remover(EntradaRanking entrada) {
+        raiz = remover(raiz, entrada);
+    }
+    
+    void limpar() {
+        raiz = null;
+    }
+    
+    /**
+     * Quantidade de entradas que vêm antes da entrada informada na ordem da árvore
+     * (índice 0-based que ela ocupa, ou ocuparia se fosse inserida)
+     */
+    int contarAntes(EntradaRanking entrada) {
+        int contagem = 0;
+        No no = raiz;
+        while (no != null) {
+            if (ordem.compare(no.entrada, entrada) < 0) {
+                contagem += tamanho(no.esquerda) + 1;
+                no = no.direita;
+            } else {
+                no = no.esquerda;
+            }
+        }
+        return contagem;
+    }
+    
+    /**
+     * Retorna as entradas entre os índices [inicio, fim) em ordem
+     */
+    List<EntradaRanking> fatia(int inicio, int fim) {
+        int limiteFim = Math.min(fim, tamanho());
+        List<EntradaRanking> saida = new ArrayList<>(Math.max(0, limiteFim - inicio));
+        if (inicio < limiteFim) {
+            coletar(raiz, inicio, limiteFim, 0, saida);
+        }
+        return saida;
+    }
+    
+    private void coletar(No no, int inicio, int fim, int deslocamento, List<EntradaRanking> saida) {
+        if (no == null) {
+            return;
+        }
+        int indiceNo = deslocamento + tamanho(no.esquerda);
+        if (inicio < indiceNo) {
+            coletar(no.esquerda, inicio, fim, deslocamento, saida);
+        }
+        if (indiceNo >= inicio && indiceNo < fim) {
+            saida.add(no.entrada);
+        }
+        if (fim > indiceNo + 1) {
+            coletar(no.direita, inicio, fim, indiceNo + 1, saida);
+        }
+    }
+    
+    /**
+     * Divide a subárvore em [menores que a chave, maiores ou iguais à chave]
+     */
+    private No[] dividir(No no, EntradaRanking chave) {
+        if (no == null) {
+            return new No[]{null, null};
+        }
+        if (ordem.compare(no.entrada, chave) < 0) {
+            No[] partes = dividir(no.direita, chave);
+            no.direita = partes[0];
+            recalcular(no);
+            return new No[]{no, partes[1]};
+        }
+        No[] partes = dividir(no.esquerda, chave);
+        no.esquerda = partes[1];
+        recalcular(no);
+        return new No[]{partes[0], no};
+    }
+    
+    private No unir(No menor, No maior) {
+        if (menor == null) {
+            return maior;
+        }
+        if (maior == null) {
+            return menor;
+        }
+        if (menor.prioridade > maior.prioridade) {
+            menor.direita = unir(menor.direita, maior);
+            recalcular(menor);
+            return menor;
+        }
+        maior.esquerda = unir(menor, maior.esquerda);
+        recalcular(maior);
+        return maior;
+    }
+    
+    private No remover(No no, EntradaRanking entrada) {
+        if (no == null) {
+            return null;
+        }
+        int comparacao = ordem.compare(entrada, no.entrada);
+        if (comparacao == 0) {
+            return unir(no.esquerda, no.direita);
+        }
+        if (comparacao < 0) {
+            no.esquerda = remover(no.esquerda, entrada);
+        } else {
+            no.direita = remover(no.direita, entrada);
+        }
+        recalcular(no);
+        return no;
+    }
+    
+    private static void recalcular(No no) {
+        no.tamanho = 1 + tamanho(no.esquerda) + tamanho(no.direita);
+    }
+    
+    private static int tamanho(No no) {
+        return no == null ? 0 : no.tamanho;
+    }
+}
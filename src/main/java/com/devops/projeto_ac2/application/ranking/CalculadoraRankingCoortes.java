@@ -0,0 +1,159 @@
+package com.devops.projeto_ac2.application.ranking;
+
+import com.devops.projeto_ac2.domain.readmodels.EntradaRanking;
+import com.devops.projeto_ac2.domain.readmodels.PosicaoRanking;
+import com.devops.projeto_ac2.domain.readmodels.RankingCoorte;
+import com.devops.projeto_ac2.domain.readmodels.RankingCoortes;
+import com.devops.projeto_ac2.domain.valueobjects.Coorte;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Calcula os rankings por coorte de ingresso
+ * 
+ * Os alunos são particionados pela coorte, cada partição é ordenada e
+ * posicionada em paralelo em um ForkJoinPool dedicado, e o ranking geral
+ * (top N) é obtido por uma intercalação k-way dos tops N de cada coorte,
+ * sem ordenar novamente o conjunto inteiro.
+ */
+@Component
+public class CalculadoraRankingCoortes {
+    
+    private final ForkJoinPool pool;
+    
+    public CalculadoraRankingCoortes(@Value("${ranking.coortes.paralelismo:0}") int paralelismo) {
+        this.pool = new ForkJoinPool(paralelismo > 0 ? paralelismo : Runtime.getRuntime().availableProcessors());
+    }
+    
+    @PreDestroy
+    public void encerrar() {
+        pool.shutdown();
+    }
+    
+    /**
+     * Rankings de todas as coortes e o ranking geral
+     * 
+     * @param limite Top N de cada coorte e do geral (Integer.MAX_VALUE para completos)
+     */
+    public RankingCoortes calcular(Collection<EntradaRanking> entradas, Coorte.Periodicidade periodicidade, int limite) {
+        Map<Coorte, List<EntradaRanking>> particoes = new HashMap<>();
+        for (EntradaRanking entrada : entradas) {
+            if (entrada.dataCriacao() != null) {
+                particoes.computeIfAbsent(Coorte.de(entrada.dataCriacao(), periodicidade), c -> new ArrayList<>())
+                        .add(entrada);
+            }
+        }
+        
+        List<RankingCoorte> coortes = new ArrayList<>(
+                pool.invoke(new RanquearParticoes(List.copyOf(particoes.entrySet()), limite)));
+        coortes.sort(Comparator.comparing(RankingCoorte::coorte));
+        
+        return new RankingCoortes(periodicidade, intercalar(coortes, limite), coortes);
+    }
+    
+    /**
+     * Ranking de uma única coorte
+     */
+    public RankingCoorte calcular(Collection<EntradaRanking> entradas, Coorte coorte, int limite) {
+        List<EntradaRanking> particao = entradas.stream()
+                .filter(entrada -> coorte.contem(entrada.dataCriacao()))
+                .toList();
+        return ranquear(coorte, particao, limite);
+    }
+    
+    /**
+     * Divide as partições ao meio até restar uma por tarefa
+     */
+    private static final class RanquearParticoes extends RecursiveTask<List<RankingCoorte>> {
+        
+        private final List<Map.Entry<Coorte, List<EntradaRanking>>> particoes;
+        private final int limite;
+        
+        private RanquearParticoes(List<Map.Entry<Coorte, List<EntradaRanking>>> particoes, int limite) {
+            this.particoes = particoes;
+            this.limite = limite;
+        }
+        
+        @Override
+        protected List<RankingCoorte> compute() {
+            if (particoes.size() <= 1) {
+                return particoes.stream()
+                        .map(particao -> ranquear(particao.getKey(), particao.getValue(), limite))
+                        .toList();
+            }
+            
+            int meio = particoes.size() / 2;
+            RanquearParticoes esquerda = new RanquearParticoes(particoes.subList(0, meio), limite);
+            RanquearParticoes direita = new RanquearParticoes(particoes.subList(meio, particoes.size()), limite);
+            esquerda.fork();
+            List<RankingCoorte> resultado = new ArrayList<>(direita.compute());
+            resultado.addAll(esquerda.join());
+            return resultado;
+        }
+    }
+    
+    private static RankingCoorte ranquear(Coorte coorte, List<EntradaRanking> particao, int limite) {
+        List<EntradaRanking> ordenadas = new ArrayList<>(particao);
+        ordenadas.sort(EntradaRanking.ORDEM);
+        return new RankingCoorte(coorte, ordenadas.size(), posicionar(ordenadas, limite));
+    }
+    
+    /**
+     * Intercalação k-way dos rankings das coortes (já ordenados) até completar o limite;
+     * o top N geral está necessariamente contido na união dos tops N das coortes
+     */
+    private static List<PosicaoRanking> intercalar(List<RankingCoorte> coortes, int limite) {
+        PriorityQueue<Cabeca> fila = new PriorityQueue<>(Math.max(1, coortes.size()),
+                Comparator.comparing(Cabeca::atual, EntradaRanking.ORDEM));
+        for (RankingCoorte coorte : coortes) {
+            if (!coorte.posicoes().isEmpty()) {
+                fila.add(new Cabeca(coorte.posicoes(), 0));
+            }
+        }
+        
+        List<EntradaRanking> geral = new ArrayList<>();
+        while (!fila.isEmpty() && geral.size() < limite) {
+            Cabeca cabeca = fila.poll();
+            geral.add(cabeca.atual());
+            if (cabeca.indice() + 1 < cabeca.posicoes().size()) {
+                fila.add(new Cabeca(cabeca.posicoes(), cabeca.indice() + 1));
+            }
+        }
+        return posicionar(geral, limite);
+    }
+    
+    private record Cabeca(List<PosicaoRanking> posicoes, int indice) {
+        
+        EntradaRanking atual() {
+            return posicoes.get(indice).entrada();
+        }
+    }
+    
+    /**
+     * Atribui posições no padrão RANK() às primeiras entradas (já ordenadas)
+     */
+    private static List<PosicaoRanking> posicionar(List<EntradaRanking> ordenadas, int limite) {
+        int quantidade = Math.min(limite, ordenadas.size());
+        List<PosicaoRanking> resultado = new ArrayList<>(quantidade);
+        int posicao = 0;
+        for (int i = 0; i < quantidade; i++) {
+            EntradaRanking atual = ordenadas.get(i);
+            if (i == 0 || !atual.empatadaCom(ordenadas.get(i - 1))) {
+                posicao = i + 1;
+            }
+            resultado.add(new PosicaoRanking(posicao, atual));
+        }
+        return List.copyOf(resultado);
+    }
+}
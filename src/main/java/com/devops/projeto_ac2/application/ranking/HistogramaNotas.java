@@ -0,0 +1,233 @@
+package com.devops.projeto_ac2.application.ranking;
+
+import com.devops.projeto_ac2.domain.events.AlunoRemovidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoSalvoEvent;
+import com.devops.projeto_ac2.domain.events.AlunosArquivadosEvent;
+import com.devops.projeto_ac2.domain.readmodels.PosicaoAluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Histograma de médias finais para cálculo de posição e percentil
+ * 
+ * A média final é limitada a [0.0, 10.0], então cada aluno cai em um dos 1001
+ * baldes de 0,01. Dentro de cada balde a contagem é separada pela média exata
+ * e pelos cursos adicionais (critério de desempate do ranking), já que MediaFinal
+ * aceita mais de duas casas: 7.004 e 7.001 dividem o balde, mas não a posição.
+ * A posição de um aluno é 1 + quantidade de alunos estritamente melhores, obtida
+ * com uma Fenwick tree sobre os baldes mais os valores melhores do próprio balde:
+ * o custo não depende da quantidade de alunos e nada é ordenado.
+ * 
+ * Como no IndiceRanking, um evento com versão do aluno anterior à já registrada
+ * (ouvintes após o commit fora de ordem) é ignorado.
+ */
+@Component
+public class HistogramaNotas {
+    
+    static final int QUANTIDADE_BALDES = 1001;
+    
+    private final AlunoRepository alunoRepository;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    /**
+     * Fenwick tree indexada pelo balde em ordem decrescente de média
+     * (índice 1 = média 10.00), permitindo somar os baldes melhores em O(log 1001)
+     */
+    private final long[] fenwick = new long[QUANTIDADE_BALDES + 1];
+    
+    /**
+     * Quantidade de alunos por (média exata, cursos adicionais) dentro de cada balde, do pior para o melhor
+     */
+    @SuppressWarnings("unchecked")
+    private final TreeMap<Chave, Long>[] valoresPorBalde = new TreeMap[QUANTIDADE_BALDES];
+    
+    /**
+     * Balde, média e cursos adicionais atuais de cada aluno, para desfazer a contagem antiga
+     */
+    private final Map<Long, Chave> chavePorAluno = new HashMap<>();
+    
+    /**
+     * Versão otimista registrada de cada aluno, quando conhecida
+     */
+    private final Map<Long, Long> versaoPorAluno = new HashMap<>();
+    
+    /**
+     * Ordenada como o ranking, do pior para o melhor: média e depois cursos adicionais
+     */
+    private record Chave(int balde, double mediaFinal, int cursosAdicionais) implements Comparable<Chave> {
+        
+        @Override
+        public int compareTo(Chave outra) {
+            int porMedia = Double.compare(mediaFinal, outra.mediaFinal);
+            return porMedia != 0 ? porMedia : Integer.compare(cursosAdicionais, outra.cursosAdicionais);
+        }
+    }
+    
+    public HistogramaNotas(AlunoRepository alunoRepository) {
+        this.alunoRepository = alunoRepository;
+    }
+    
+    /**
+     * A leitura acontece com o lock de escrita: eventos posteriores esperam e são aplicados depois
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarNaInicializacao() {
+        lock.writeLock().lock();
+        try {
+            alunoRepository.buscarEntradasRanking().forEach(entrada -> registrarSemLock(
+                    entrada.id(), entrada.mediaFinal(), entrada.cursosAdicionais(), entrada.versao()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoSalvarAluno(AlunoSalvoEvent evento) {
+        registrar(evento.getAluno().getId(), evento.getAluno().getMediaFinal(),
+                evento.getAluno().getCursosAdicionais(), evento.getAluno().getVersao());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoRemoverAluno(AlunoRemovidoEvent evento) {
+        remover(evento.getAlunoId());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoArquivarAlunos(AlunosArquivadosEvent evento) {
+        if (evento.isSaemDoRanking()) {
+            evento.getAlunoIds().forEach(this::remover);
+        }
+    }
+    
+    /**
+     * Registra (ou move) o aluno no histograma, sem versão conhecida
+     */
+    public void registrar(Long alunoId, double mediaFinal, int cursosAdicionais) {
+        registrar(alunoId, mediaFinal, cursosAdicionais, null);
+    }
+    
+    /**
+     * Registra (ou move) o aluno no histograma
+     * Ignorado se já houver uma versão mais nova do mesmo aluno
+     */
+    public void registrar(Long alunoId, double mediaFinal, int cursosAdicionais, Long versao) {
+        lock.writeLock().lock();
+        try {
+            registrarSemLock(alunoId, mediaFinal, cursosAdicionais, versao);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remover(Long alunoId) {
+        lock.writeLock().lock();
+        try {
+            versaoPorAluno.remove(alunoId);
+            Chave anterior = chavePorAluno.remove(alunoId);
+            if (anterior != null) {
+                decrementar(anterior);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Posição e percentil do aluno
+     * 
+     * @return vazio se o aluno não estiver no histograma
+     */
+    public Optional<PosicaoAluno> posicaoDe(Long alunoId) {
+        lock.readLock().lock();
+        try {
+            Chave chave = chavePorAluno.get(alunoId);
+            if (chave == null) {
+                return Optional.empty();
+            }
+            
+            long melhores = somarBaldesMelhores(chave.balde());
+            for (long quantidade : valoresPorBalde[chave.balde()].tailMap(chave, false).values()) {
+                melhores += quantidade;
+            }
+            
+            long total = chavePorAluno.size();
+            double percentil = Math.round(10000.0 * (total - melhores) / total) / 100.0;
+            return Optional.of(new PosicaoAluno(alunoId, melhores + 1, total, percentil));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    static int balde(double mediaFinal) {
+        return (int) Math.round(mediaFinal * 100);
+    }
+    
+    private void registrarSemLock(Long alunoId, double mediaFinal, int cursosAdicionais, Long versao) {
+        Long versaoAtual = versaoPorAluno.get(alunoId);
+        if (versao != null && versaoAtual != null && versao < versaoAtual) {
+            return;
+        }
+        if (versao != null) {
+            versaoPorAluno.put(alunoId, versao);
+        }
+        Chave nova = new Chave(balde(mediaFinal), mediaFinal, cursosAdicionais);
+        Chave anterior = chavePorAluno.put(alunoId, nova);
+        if (anterior != null) {
+            decrementar(anterior);
+        }
+        incrementar(nova);
+    }
+    
+    private void incrementar(Chave chave) {
+        valoresDoBalde(chave.balde()).merge(chave, 1L, Long::sum);
+        atualizarFenwick(chave.balde(), 1);
+    }
+    
+    private void decrementar(Chave chave) {
+        valoresDoBalde(chave.balde()).computeIfPresent(chave,
+                (valor, quantidade) -> quantidade > 1 ? quantidade - 1 : null);
+        atualizarFenwick(chave.balde(), -1);
+    }
+    
+    private TreeMap<Chave, Long> valoresDoBalde(int balde) {
+        if (valoresPorBalde[balde] == null) {
+            valoresPorBalde[balde] = new TreeMap<>();
+        }
+        return valoresPorBalde[balde];
+    }
+    
+    /**
+     * Converte o balde (0 = média 0.00) no índice da Fenwick (1 = média 10.00)
+     */
+    private static int indiceFenwick(int balde) {
+        return QUANTIDADE_BALDES - balde;
+    }
+    
+    private void atualizarFenwick(int balde, long delta) {
+        for (int i = indiceFenwick(balde); i <= QUANTIDADE_BALDES; i += i & -i) {
+            fenwick[i] += delta;
+        }
+    }
+    
+    /**
+     * Quantidade de alunos em baldes com média maior que a do balde informado
+     */
+    private long somarBaldesMelhores(int balde) {
+        long soma = 0;
+        for (int i = indiceFenwick(balde) - 1; i > 0; i -= i & -i) {
+            soma += fenwick[i];
+        }
+        return soma;
+    }
+}
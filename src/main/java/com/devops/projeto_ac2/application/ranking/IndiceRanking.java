@@ -0,0 +1,244 @@
+package com.devops.projeto_ac2.application.ranking;
+
+import com.devops.projeto_ac2.domain.events.AlunoRemovidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoSalvoEvent;
+import com.devops.projeto_ac2.domain.events.AlunosArquivadosEvent;
+import com.devops.projeto_ac2.domain.readmodels.EntradaRanking;
+import com.devops.projeto_ac2.domain.readmodels.PosicaoRanking;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de ranking mantido em memória
+ * 
+ * Carregado uma única vez na inicialização e atualizado incrementalmente
+ * após o commit de cada escrita (eventos AlunoSalvoEvent / AlunoRemovidoEvent),
+ * evitando varrer e ordenar a tabela inteira a cada consulta de ranking.
+ * 
+ * Os ouvintes após o commit de transações diferentes podem rodar fora de ordem:
+ * uma entrada com versão anterior à já indexada é ignorada.
+ */
+@Component
+public class IndiceRanking {
+    
+    private final AlunoRepository alunoRepository;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, EntradaRanking> porId = new HashMap<>();
+    private final ArvoreRanking geral = new ArvoreRanking(EntradaRanking.ORDEM);
+    private final ArvoreRanking aprovados = new ArvoreRanking(EntradaRanking.ORDEM);
+    
+    public IndiceRanking(AlunoRepository alunoRepository) {
+        this.alunoRepository = alunoRepository;
+    }
+    
+    /**
+     * Carrega o índice a partir do banco ao final da inicialização
+     * (projeção de leitura, sem hidratar entidades)
+     * 
+     * Os ouvintes do índice rodam antes do RastreadorVersoes, para que a versão
+     * do ranking só mude depois de o índice refletir a escrita
+     * 
+     * A leitura acontece com o lock de escrita: eventos de escritas confirmadas depois
+     * dela esperam a carga e são aplicados em seguida, em vez de serem sobrescritos
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void carregarNaInicializacao() {
+        lock.writeLock().lock();
+        try {
+            carregar(alunoRepository.buscarEntradasRanking());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void aoSalvarAluno(AlunoSalvoEvent evento) {
+        atualizar(EntradaRanking.de(evento.getAluno()));
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void aoRemoverAluno(AlunoRemovidoEvent evento) {
+        remover(evento.getAlunoId());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void aoArquivarAlunos(AlunosArquivadosEvent evento) {
+        if (evento.isSaemDoRanking()) {
+            evento.getAlunoIds().forEach(this::remover);
+        }
+    }
+    
+    /**
+     * Substitui todo o conteúdo do índice
+     */
+    public void carregar(Collection<EntradaRanking> entradas) {
+        lock.writeLock().lock();
+        try {
+            porId.clear();
+            geral.limpar();
+            aprovados.limpar();
+            entradas.forEach(this::inserirSemLock);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Insere ou reposiciona a entrada de um aluno
+     * Ignorada se o índice já tem uma versão mais nova do mesmo aluno
+     */
+    public void atualizar(EntradaRanking entrada) {
+        lock.writeLock().lock();
+        try {
+            EntradaRanking atual = porId.get(entrada.id());
+            if (atual != null && entrada.anteriorA(atual)) {
+                return;
+            }
+            removerSemLock(entrada.id());
+            inserirSemLock(entrada);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remover(Long alunoId) {
+        lock.writeLock().lock();
+        try {
+            removerSemLock(alunoId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return geral.tamanho();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Cópia das entradas de todos os alunos, sem ordem definida
+     */
+    public List<EntradaRanking> entradas() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(porId.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Ranking completo
+     */
+    public List<PosicaoRanking> ranking() {
+        return fatia(geral, 0, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Os N primeiros do ranking, em O(log n + N)
+     */
+    public List<PosicaoRanking> top(int limite) {
+        return fatia(geral, 0, limite);
+    }
+    
+    /**
+     * Ranking contendo apenas alunos aprovados
+     */
+    public List<PosicaoRanking> aprovados() {
+        return fatia(aprovados, 0, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Alunos posicionados ao redor de um aluno (raio posições acima e abaixo),
+     * em O(log n + raio)
+     * 
+     * @return vazio se o aluno não estiver no índice
+     */
+    public Optional<List<PosicaoRanking>> aoRedor(Long alunoId, int raio) {
+        lock.readLock().lock();
+        try {
+            EntradaRanking entrada = porId.get(alunoId);
+            if (entrada == null) {
+                return Optional.empty();
+            }
+            int indice = geral.contarAntes(entrada);
+            int inicio = Math.max(0, indice - raio);
+            int fim = (int) Math.min((long) indice + raio + 1, geral.tamanho());
+            return Optional.of(posicionar(geral, geral.fatia(inicio, fim), inicio));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private List<PosicaoRanking> fatia(ArvoreRanking arvore, int inicio, int fim) {
+        lock.readLock().lock();
+        try {
+            return posicionar(arvore, arvore.fatia(inicio, fim), inicio);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Atribui posições no padrão RANK(): alunos empatados em média e cursos
+     * adicionais dividem a mesma posição e a posição seguinte pula os empates
+     */
+    private List<PosicaoRanking> posicionar(ArvoreRanking arvore, List<EntradaRanking> entradas, int inicio) {
+        List<PosicaoRanking> resultado = new ArrayList<>(entradas.size());
+        EntradaRanking anterior = null;
+        int posicao = 0;
+        for (int i = 0; i < entradas.size(); i++) {
+            EntradaRanking atual = entradas.get(i);
+            if (anterior == null) {
+                // a fatia pode começar no meio de um grupo de empatados
+                posicao = arvore.contarAntes(atual.inicioDoEmpate()) + 1;
+            } else if (!atual.empatadaCom(anterior)) {
+                posicao = inicio + i + 1;
+            }
+            resultado.add(new PosicaoRanking(posicao, atual));
+            anterior = atual;
+        }
+        return resultado;
+    }
+    
+    private void inserirSemLock(EntradaRanking entrada) {
+        porId.put(entrada.id(), entrada);
+        geral.inserir(entrada);
+        if (entrada.aprovado()) {
+            aprovados.inserir(entrada);
+        }
+    }
+    
+    private void removerSemLock(Long alunoId) {
+        EntradaRanking anterior = porId.remove(alunoId);
+        if (anterior != null) {
+            geral.remover(anterior);
+            if (anterior.aprovado()) {
+                aprovados.remover(anterior);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.devops.projeto_ac2.application.ranking;
+
+import com.devops.projeto_ac2.domain.events.AlunoRemovidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoSalvoEvent;
+import com.devops.projeto_ac2.domain.events.AlunosArquivadosEvent;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Mantém o ranking materializado (SnapshotRanking) atualizado em segundo plano
+ * 
+ * Escritas apenas marcam o ranking como pendente; um refresh agendado reconstrói
+ * o snapshot a partir de uma projeção do banco e publica a nova versão com uma
+ * troca atômica de referência. Uma rajada de escritas gera um único refresh,
+ * leitores nunca esperam por um refresh e o refresh nunca segura as escritas.
+ * As últimas versões ficam retidas para que um cliente possa terminar de
+ * paginar a versão em que começou.
+ */
+@Component
+public class MaterializadorRanking {
+    
+    private final AlunoRepository alunoRepository;
+    private final boolean habilitado;
+    private final int versoesRetidas;
+    
+    private final AtomicBoolean pendente = new AtomicBoolean();
+    private final AtomicLong ultimaVersao = new AtomicLong();
+    
+    /**
+     * Versões publicadas, da mais recente para a mais antiga
+     */
+    private final AtomicReference<List<SnapshotRanking>> publicados = new AtomicReference<>(List.of());
+    
+    public MaterializadorRanking(
+            AlunoRepository alunoRepository,
+            @Value("${ranking.snapshot.habilitado:false}") boolean habilitado,
+            @Value("${ranking.snapshot.versoes-retidas:4}") int versoesRetidas) {
+        this.alunoRepository = alunoRepository;
+        this.habilitado = habilitado;
+        this.versoesRetidas = Math.max(1, versoesRetidas);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void materializarNaInicializacao() {
+        if (habilitado) {
+            materializar();
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoSalvarAluno(AlunoSalvoEvent evento) {
+        pendente.set(true);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoRemoverAluno(AlunoRemovidoEvent evento) {
+        pendente.set(true);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoArquivarAlunos(AlunosArquivadosEvent evento) {
+        if (evento.isSaemDoRanking()) {
+            pendente.set(true);
+        }
+    }
+    
+    /**
+     * Reconstrói o snapshot se houve escrita desde o último refresh
+     */
+    @Scheduled(fixedDelayString = "${ranking.snapshot.intervalo-ms:500}")
+    public void materializarSePendente() {
+        if (habilitado && pendente.getAndSet(false)) {
+            materializar();
+        }
+    }
+    
+    /**
+     * Reconstrói e publica uma nova versão do snapshot
+     * Sincronizado apenas entre refreshes, garantindo versões publicadas em ordem
+     */
+    public synchronized SnapshotRanking materializar() {
+        SnapshotRanking snapshot = SnapshotRanking.de(
+                ultimaVersao.incrementAndGet(), alunoRepository.buscarEntradasRanking());
+        
+        List<SnapshotRanking> anteriores = publicados.get();
+        List<SnapshotRanking> atuais = new ArrayList<>(versoesRetidas);
+        atuais.add(snapshot);
+        atuais.addAll(anteriores.subList(0, Math.min(anteriores.size(), versoesRetidas - 1)));
+        publicados.set(List.copyOf(atuais));
+        return snapshot;
+    }
+    
+    /**
+     * Snapshot da versão informada, se ainda estiver retida, ou o mais recente
+     * 
+     * @param versao Versão desejada (null para a mais recente)
+     * @return vazio se nenhum snapshot foi materializado
+     */
+    public Optional<SnapshotRanking> snapshot(Long versao) {
+        List<SnapshotRanking> atuais = publicados.get();
+        if (versao != null) {
+            for (SnapshotRanking snapshot : atuais) {
+                if (snapshot.getVersao() == versao) {
+                    return Optional.of(snapshot);
+                }
+            }
+        }
+        return atuais.stream().findFirst();
+    }
+}
@@ -0,0 +1,118 @@
+package com.devops.projeto_ac2.application.ranking;
+
+import com.devops.projeto_ac2.domain.readmodels.EntradaRanking;
+import com.devops.projeto_ac2.domain.readmodels.PaginaRanking;
+import com.devops.projeto_ac2.domain.readmodels.PosicaoRanking;
+import com.devops.projeto_ac2.domain.valueobjects.CursorRanking;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ranking materializado e imutável, identificado por uma versão crescente
+ * 
+ * As posições são calculadas uma única vez na construção; a leitura de uma
+ * página é apenas uma busca binária pelo cursor e uma fatia do array,
+ * sem nenhum lock. Todas as páginas lidas de uma mesma versão são consistentes
+ * entre si, mesmo que o ranking mude enquanto o cliente pagina.
+ */
+public final class SnapshotRanking {
+    
+    @Getter
+    private final long versao;
+    
+    private final PosicaoRanking[] geral;
+    private final PosicaoRanking[] aprovados;
+    
+    private SnapshotRanking(long versao, PosicaoRanking[] geral, PosicaoRanking[] aprovados) {
+        this.versao = versao;
+        this.geral = geral;
+        this.aprovados = aprovados;
+    }
+    
+    /**
+     * Materializa o ranking a partir das entradas (em qualquer ordem)
+     */
+    public static SnapshotRanking de(long versao, List<EntradaRanking> entradas) {
+        List<EntradaRanking> ordenadas = new ArrayList<>(entradas);
+        ordenadas.sort(EntradaRanking.ORDEM);
+        return new SnapshotRanking(
+                versao,
+                posicionar(ordenadas),
+                posicionar(ordenadas.stream().filter(EntradaRanking::aprovado).toList()));
+    }
+    
+    public int tamanho(boolean apenasAprovados) {
+        return lista(apenasAprovados).length;
+    }
+    
+    /**
+     * Página do ranking que começa logo após o cursor
+     * 
+     * @param apos Cursor da última linha entregue (null para a primeira página)
+     * @param limite Quantidade máxima de linhas
+     */
+    public PaginaRanking pagina(boolean apenasAprovados, CursorRanking apos, int limite) {
+        PosicaoRanking[] lista = lista(apenasAprovados);
+        int inicio = apos != null ? indiceApos(lista, apos) : 0;
+        int fim = (int) Math.min((long) inicio + limite, lista.length);
+        
+        List<PosicaoRanking> itens = Collections.unmodifiableList(Arrays.asList(lista).subList(inicio, fim));
+        if (fim >= lista.length || itens.isEmpty()) {
+            return new PaginaRanking(itens, null, versao);
+        }
+        
+        PosicaoRanking ultima = itens.get(itens.size() - 1);
+        CursorRanking proximo = CursorRanking.criar(
+                ultima.entrada().mediaFinal(),
+                ultima.entrada().cursosAdicionais(),
+                ultima.entrada().id(),
+                ultima.posicao(),
+                fim,
+                apenasAprovados);
+        return new PaginaRanking(itens, proximo, versao);
+    }
+    
+    private PosicaoRanking[] lista(boolean apenasAprovados) {
+        return apenasAprovados ? aprovados : geral;
+    }
+    
+    /**
+     * Primeiro índice estritamente depois da chave do cursor (mesmo critério do keyset no banco),
+     * o que mantém a paginação correta mesmo com um cursor emitido por outra versão
+     */
+    private static int indiceApos(PosicaoRanking[] lista, CursorRanking apos) {
+        EntradaRanking chave = new EntradaRanking(
+                apos.getAlunoId(), null, null, apos.getMediaFinal(), apos.getCursosAdicionais(), false);
+        int baixo = 0;
+        int alto = lista.length;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (EntradaRanking.ORDEM.compare(lista[meio].entrada(), chave) <= 0) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+    
+    /**
+     * Atribui posições no padrão RANK() sobre entradas já ordenadas
+     */
+    private static PosicaoRanking[] posicionar(List<EntradaRanking> ordenadas) {
+        PosicaoRanking[] resultado = new PosicaoRanking[ordenadas.size()];
+        int posicao = 0;
+        for (int i = 0; i < resultado.length; i++) {
+            EntradaRanking atual = ordenadas.get(i);
+            if (i == 0 || !atual.empatadaCom(ordenadas.get(i - 1))) {
+                posicao = i + 1;
+            }
+            resultado[i] = new PosicaoRanking(posicao, atual);
+        }
+        return resultado;
+    }
+}
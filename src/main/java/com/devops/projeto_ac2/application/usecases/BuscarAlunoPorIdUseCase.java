@@ -1,22 +1,47 @@
 package com.devops.projeto_ac2.application.usecases;
 
+import com.devops.projeto_ac2.application.cache.CacheAlunos;
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.readmodels.AlunoParcial;
+import com.devops.projeto_ac2.domain.readmodels.AlunoResumo;
+import com.devops.projeto_ac2.domain.readmodels.CampoAluno;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
 
 /**
  * Use Case: Buscar aluno por ID
  */
 @Service
-@Transactional(readOnly = true)
 public class BuscarAlunoPorIdUseCase {
     
     private final AlunoRepository alunoRepository;
+    private final Optional<CacheAlunos> cacheAlunos;
+    
+    /**
+     * Transação somente leitura: com réplicas habilitadas, a leitura vai a uma réplica
+     */
+    private final TransactionTemplate leituraReplica;
+    
+    /**
+     * Transação sem readOnly: a leitura vai sempre ao primário
+     */
+    private final TransactionTemplate leituraPrimario;
     
-    public BuscarAlunoPorIdUseCase(AlunoRepository alunoRepository) {
+    public BuscarAlunoPorIdUseCase(
+            AlunoRepository alunoRepository,
+            Optional<CacheAlunos> cacheAlunos,
+            PlatformTransactionManager transactionManager) {
         this.alunoRepository = alunoRepository;
+        this.cacheAlunos = cacheAlunos;
+        this.leituraReplica = new TransactionTemplate(transactionManager);
+        this.leituraReplica.setReadOnly(true);
+        this.leituraPrimario = new TransactionTemplate(transactionManager);
     }
     
     /**
@@ -26,8 +51,44 @@ public class BuscarAlunoPorIdUseCase {
      * @return O aluno encontrado
      * @throws AlunoNotFoundException se não encontrar
      */
+    @Transactional(readOnly = true)
     public Aluno executar(Long id) {
         return alunoRepository.buscarPorId(id)
                 .orElseThrow(() -> new AlunoNotFoundException(id));
     }
+    
+    /**
+     * Busca o read model imutável do aluno, pelo cache em memória quando habilitado
+     * Sem transação própria: um acerto no cache não abre transação nem conexão. Só a
+     * carga de uma falta abre uma transação somente leitura (réplica), exceto para um
+     * aluno gravado recentemente nesta instância, lido no primário para que a réplica
+     * atrasada não devolva ao cache a versão anterior à escrita
+     * 
+     * @param id ID do aluno
+     * @throws AlunoNotFoundException se não encontrar
+     */
+    public AlunoResumo executarResumo(Long id) {
+        Optional<AlunoResumo> aluno = cacheAlunos
+                .map(cache -> cache.buscar(id, chave -> carregarResumo(chave, cache.gravadoRecentemente(chave))))
+                .orElseGet(() -> carregarResumo(id, false));
+        return aluno.orElseThrow(() -> new AlunoNotFoundException(id));
+    }
+    
+    private Optional<AlunoResumo> carregarResumo(Long id, boolean noPrimario) {
+        TransactionTemplate leitura = noPrimario ? leituraPrimario : leituraReplica;
+        return leitura.execute(status -> alunoRepository.buscarResumoPorId(id));
+    }
+    
+    /**
+     * Busca apenas os campos selecionados do aluno, sem carregar a entidade
+     * 
+     * @param campos Lista separada por vírgulas (ex.: "id,nome,mediaFinal")
+     * @throws AlunoNotFoundException se não encontrar
+     * @throws com.devops.projeto_ac2.domain.exceptions.CampoInvalidoException se algum campo não existir
+     */
+    @Transactional(readOnly = true)
+    public AlunoParcial executarParcial(Long id, String campos) {
+        return alunoRepository.buscarParcialPorId(id, CampoAluno.interpretar(campos))
+                .orElseThrow(() -> new AlunoNotFoundException(id));
+    }
 }
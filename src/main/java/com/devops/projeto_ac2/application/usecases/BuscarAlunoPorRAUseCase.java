@@ -0,0 +1,74 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.cache.FiltroRAs;
+import com.devops.projeto_ac2.application.cache.IndiceRAs;
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.readmodels.AlunoResumo;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Use Case: Buscar aluno pelo RA (chave natural)
+ * 
+ * Um RA presente no índice em memória vira uma busca por ID (que passa pelo cache
+ * de alunos), sem a consulta por RA. Nos demais casos o RA é consultado no banco,
+ * que é a fonte da verdade, e o resultado alimenta o índice: o índice e o filtro de
+ * RAs são locais e não veem cadastros feitos por outras instâncias.
+ * 
+ * Só com alunos.busca-ra.instancia-unica=true (uma única instância gravando no
+ * banco) um RA que o filtro de RAs garante não existir responde 404 sem SQL.
+ */
+@Service
+public class BuscarAlunoPorRAUseCase {
+    
+    private final AlunoRepository alunoRepository;
+    private final BuscarAlunoPorIdUseCase buscarAlunoPorIdUseCase;
+    private final IndiceRAs indiceRAs;
+    private final FiltroRAs filtroRAs;
+    private final boolean instanciaUnica;
+    
+    public BuscarAlunoPorRAUseCase(
+            AlunoRepository alunoRepository,
+            BuscarAlunoPorIdUseCase buscarAlunoPorIdUseCase,
+            IndiceRAs indiceRAs,
+            FiltroRAs filtroRAs,
+            @Value("${alunos.busca-ra.instancia-unica:false}") boolean instanciaUnica) {
+        this.alunoRepository = alunoRepository;
+        this.buscarAlunoPorIdUseCase = buscarAlunoPorIdUseCase;
+        this.indiceRAs = indiceRAs;
+        this.filtroRAs = filtroRAs;
+        this.instanciaUnica = instanciaUnica;
+    }
+    
+    /**
+     * @param ra RA do aluno
+     * @return O read model do aluno
+     * @throws AlunoNotFoundException se não houver aluno com o RA
+     */
+    public AlunoResumo executar(String ra) {
+        Optional<Long> id = indiceRAs.idDe(ra);
+        if (id.isPresent()) {
+            try {
+                return buscarAlunoPorIdUseCase.executarResumo(id.get());
+            } catch (AlunoNotFoundException e) {
+                // removido sem passar por esta instância
+                indiceRAs.remover(ra, id.get());
+            }
+        }
+        
+        if (instanciaUnica && !filtroRAs.podeExistir(ra)) {
+            throw naoEncontrado(ra);
+        }
+        AlunoResumo aluno = alunoRepository.buscarResumoPorRA(ra)
+                .orElseThrow(() -> naoEncontrado(ra));
+        indiceRAs.registrar(ra, aluno.id());
+        return aluno;
+    }
+    
+    private static AlunoNotFoundException naoEncontrado(String ra) {
+        return new AlunoNotFoundException("Aluno não encontrado com RA: " + ra);
+    }
+}
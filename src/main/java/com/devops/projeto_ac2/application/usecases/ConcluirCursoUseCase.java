@@ -1,23 +1,29 @@
 package com.devops.projeto_ac2.application.usecases;
 
+import com.devops.projeto_ac2.application.concorrencia.ExecutorEscritaOtimista;
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
 import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Use Case: Concluir curso de um aluno
  * Aplica regras de negócio relacionadas à conclusão
+ * 
+ * Leitura, regra e gravação são repetidas se outra requisição alterar o aluno
+ * no meio do caminho (versão otimista), em vez de sobrescrever a alteração dela.
  */
 @Service
 public class ConcluirCursoUseCase {
     
     private final AlunoRepository alunoRepository;
+    private final ExecutorEscritaOtimista executorEscrita;
     
-    public ConcluirCursoUseCase(AlunoRepository alunoRepository) {
+    public ConcluirCursoUseCase(AlunoRepository alunoRepository, ExecutorEscritaOtimista executorEscrita) {
         this.alunoRepository = alunoRepository;
+        this.executorEscrita = executorEscrita;
     }
     
     /**
@@ -27,9 +33,13 @@ public class ConcluirCursoUseCase {
      * @param mediaFinal Média final obtida
      * @return O aluno atualizado
      * @throws AlunoNotFoundException se o aluno não existir
+     * @throws ConflitoConcorrenciaException se o aluno seguir em conflito após todas as tentativas
      */
-    @Transactional
     public Aluno executar(Long alunoId, double mediaFinal) {
+        return executorEscrita.executar("concluir-curso", alunoId, () -> concluir(alunoId, mediaFinal));
+    }
+    
+    private Aluno concluir(Long alunoId, double mediaFinal) {
         // Buscar aluno
         Aluno aluno = alunoRepository.buscarPorId(alunoId)
                 .orElseThrow(() -> new AlunoNotFoundException(alunoId));
@@ -1,49 +1,78 @@
 package com.devops.projeto_ac2.application.usecases;
 
+import com.devops.projeto_ac2.application.cache.FiltroRAs;
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.exceptions.DomainException;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
 import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
 import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Use Case: Criar um novo aluno
  * Seguindo Clean Architecture, encapsula toda a lógica de criação
+ * 
+ * Com alunos.criacao.inserir-direto=true o RA não é consultado antes: o aluno é
+ * inserido direto e a unique constraint de RA decide a duplicidade (um comando
+ * em vez de dois, e sem a janela entre a verificação e o INSERT).
  */
 @Service
 public class CriarAlunoUseCase {
     
     private final AlunoRepository alunoRepository;
+    private final FiltroRAs filtroRAs;
+    private final boolean inserirDireto;
     
-    public CriarAlunoUseCase(AlunoRepository alunoRepository) {
+    public CriarAlunoUseCase(
+            AlunoRepository alunoRepository,
+            FiltroRAs filtroRAs,
+            @Value("${alunos.criacao.inserir-direto:false}") boolean inserirDireto) {
         this.alunoRepository = alunoRepository;
+        this.filtroRAs = filtroRAs;
+        this.inserirDireto = inserirDireto;
     }
     
     /**
      * Executa o caso de uso de criar um aluno
+     * Nenhuma DomainException ocorre após uma escrita, então ela não desfaz a transação de quem chamou
      * 
      * @param nome Nome do aluno
      * @param ra RA do aluno
      * @return O aluno criado
      * @throws DomainException se o RA já existir ou dados forem inválidos
      */
-    @Transactional
+    @Transactional(noRollbackFor = DomainException.class)
     public Aluno executar(String nome, String ra) {
-        // Validar se RA já existe
-        if (alunoRepository.existePorRA(ra)) {
-            throw new DomainException("Já existe um aluno cadastrado com o RA: " + ra);
+        if (inserirDireto) {
+            return alunoRepository.inserirSeRALivre(novoAluno(nome, ra))
+                    .orElseThrow(() -> raJaCadastrado(ra));
         }
         
+        // Validar se RA já existe (consulta dispensada quando o filtro garante que não existe)
+        if (filtroRAs.podeExistir(ra)) {
+            boolean existe = alunoRepository.existePorRA(ra);
+            filtroRAs.registrarConfirmacao(existe);
+            if (existe) {
+                throw raJaCadastrado(ra);
+            }
+        }
+        
+        // Persistir
+        return alunoRepository.salvar(novoAluno(nome, ra));
+    }
+    
+    private static Aluno novoAluno(String nome, String ra) {
         // Criar Value Objects (validações são feitas nos VOs)
         NomeAluno nomeVO = NomeAluno.criar(nome);
         RegistroAcademico raVO = RegistroAcademico.criar(ra);
         
         // Criar entidade usando factory method
-        Aluno aluno = Aluno.criar(nomeVO, raVO);
-        
-        // Persistir
-        return alunoRepository.salvar(aluno);
+        return Aluno.criar(nomeVO, raVO);
+    }
+    
+    private static DomainException raJaCadastrado(String ra) {
+        return new DomainException("Já existe um aluno cadastrado com o RA: " + ra);
     }
 }
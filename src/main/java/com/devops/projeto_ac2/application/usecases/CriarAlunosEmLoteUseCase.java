@@ -0,0 +1,131 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+import com.devops.projeto_ac2.domain.readmodels.ResultadoCriacaoAluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: Criar vários alunos de uma vez
+ * 
+ * Mesmas regras de CriarAlunoUseCase, mas a unicidade dos RAs é verificada para
+ * o lote inteiro com uma consulta por conjunto e os alunos válidos são gravados
+ * com INSERTs em lote. Itens inválidos não impedem a gravação dos demais:
+ * cada item recebe o seu resultado.
+ */
+@Service
+public class CriarAlunosEmLoteUseCase {
+    
+    public static final int TAMANHO_MAXIMO_LOTE = 10_000;
+    
+    private final AlunoRepository alunoRepository;
+    
+    public CriarAlunosEmLoteUseCase(AlunoRepository alunoRepository) {
+        this.alunoRepository = alunoRepository;
+    }
+    
+    /**
+     * Dados de um aluno a ser criado
+     */
+    public record NovoAluno(String nome, String ra) {
+    }
+    
+    /**
+     * Executa o caso de uso de criar alunos em lote
+     * 
+     * @param novos Alunos a criar (máximo TAMANHO_MAXIMO_LOTE)
+     * @return Um resultado por item, na ordem recebida
+     * @throws DomainException se o lote estiver vazio ou exceder o tamanho máximo
+     */
+    @Transactional
+    public List<ResultadoCriacaoAluno> executar(List<NovoAluno> novos) {
+        if (novos == null || novos.isEmpty()) {
+            throw new DomainException("Informe ao menos um aluno no lote");
+        }
+        if (novos.size() > TAMANHO_MAXIMO_LOTE) {
+            throw new DomainException("O lote deve ter no máximo " + TAMANHO_MAXIMO_LOTE + " alunos");
+        }
+        
+        ResultadoCriacaoAluno[] resultados = new ResultadoCriacaoAluno[novos.size()];
+        List<Integer> indicesValidos = new ArrayList<>();
+        List<Aluno> validos = new ArrayList<>();
+        
+        for (int i = 0; i < novos.size(); i++) {
+            NovoAluno novo = novos.get(i);
+            try {
+                validos.add(validar(novo));
+                indicesValidos.add(i);
+            } catch (InvalidValueObjectException e) {
+                resultados[i] = ResultadoCriacaoAluno.rejeitado(i, novo.ra(), e.getMessage());
+            }
+        }
+        
+        List<ResultadoCriacaoAluno> gravados = gravar(validos);
+        for (int i = 0; i < gravados.size(); i++) {
+            int indice = indicesValidos.get(i);
+            resultados[indice] = gravados.get(i).comIndice(indice);
+        }
+        return List.of(resultados);
+    }
+    
+    /**
+     * Cria a entidade validando nome e RA nos Value Objects
+     * Não consulta o banco, podendo ser chamado em paralelo
+     * 
+     * @throws InvalidValueObjectException se o nome ou o RA forem inválidos
+     */
+    public static Aluno validar(NovoAluno novo) {
+        return Aluno.criar(NomeAluno.criar(novo.nome()), RegistroAcademico.criar(novo.ra()));
+    }
+    
+    /**
+     * Grava alunos já validados, rejeitando RAs já cadastrados ou repetidos na lista
+     * 
+     * @return Um resultado por aluno, com indice igual à posição na lista recebida
+     */
+    @Transactional
+    public List<ResultadoCriacaoAluno> gravar(List<Aluno> alunos) {
+        if (alunos.isEmpty()) {
+            return List.of();
+        }
+        
+        Set<String> existentes = alunoRepository.buscarRAsExistentes(alunos.stream()
+                .map(aluno -> aluno.getRegistroAcademico().getValor())
+                .collect(Collectors.toSet()));
+        
+        ResultadoCriacaoAluno[] resultados = new ResultadoCriacaoAluno[alunos.size()];
+        List<Integer> indicesNovos = new ArrayList<>();
+        List<Aluno> novos = new ArrayList<>();
+        Set<String> rasDoLote = new HashSet<>();
+        
+        for (int i = 0; i < alunos.size(); i++) {
+            String ra = alunos.get(i).getRegistroAcademico().getValor();
+            if (existentes.contains(ra)) {
+                resultados[i] = ResultadoCriacaoAluno.rejeitado(i, ra, "Já existe um aluno cadastrado com o RA: " + ra);
+            } else if (!rasDoLote.add(ra)) {
+                resultados[i] = ResultadoCriacaoAluno.rejeitado(i, ra, "RA repetido no lote: " + ra);
+            } else {
+                indicesNovos.add(i);
+                novos.add(alunos.get(i));
+            }
+        }
+        
+        List<Aluno> salvos = novos.isEmpty() ? List.of() : alunoRepository.salvarTodos(novos);
+        for (int i = 0; i < salvos.size(); i++) {
+            int indice = indicesNovos.get(i);
+            resultados[indice] = ResultadoCriacaoAluno.criado(indice, salvos.get(i));
+        }
+        return List.of(resultados);
+    }
+}
@@ -0,0 +1,34 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+/**
+ * Use Case: Exportar todos os alunos
+ * 
+ * Entrega os alunos um a um, na ordem do ID, a partir de um cursor do banco;
+ * a memória usada não depende da quantidade de alunos
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportarAlunosUseCase {
+    
+    private final AlunoRepository alunoRepository;
+    
+    public ExportarAlunosUseCase(AlunoRepository alunoRepository) {
+        this.alunoRepository = alunoRepository;
+    }
+    
+    /**
+     * Executa a exportação
+     * 
+     * @param consumidor Recebe cada aluno; o aluno não deve ser retido após a chamada
+     */
+    public void executar(Consumer<Aluno> consumidor) {
+        alunoRepository.paraCadaAluno(consumidor);
+    }
+}
@@ -0,0 +1,74 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.importacao.ImportacaoAlunos;
+import com.devops.projeto_ac2.application.importacao.ImportadorAlunos;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.exceptions.ImportacaoNaoEncontradaException;
+import com.devops.projeto_ac2.domain.readmodels.ProgressoImportacao;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Use Case: Importar alunos a partir de um CSV (colunas nome e ra)
+ * 
+ * A importação roda em segundo plano, gravando lotes em transações próprias;
+ * o andamento, o relatório de rejeições e a retomada após falha são
+ * consultados pelo ID devolvido ao iniciar.
+ */
+@Service
+public class ImportarAlunosUseCase {
+    
+    private final ImportadorAlunos importadorAlunos;
+    
+    public ImportarAlunosUseCase(ImportadorAlunos importadorAlunos) {
+        this.importadorAlunos = importadorAlunos;
+    }
+    
+    /**
+     * Recebe o CSV e agenda a importação
+     */
+    public ProgressoImportacao iniciar(InputStream csv) {
+        try {
+            return importadorAlunos.iniciar(csv).progresso();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível receber o arquivo de importação", e);
+        }
+    }
+    
+    /**
+     * @throws ImportacaoNaoEncontradaException se a importação não existir
+     */
+    public ProgressoImportacao consultar(String id) {
+        return buscar(id).progresso();
+    }
+    
+    /**
+     * Retoma uma importação com falha a partir do último lote gravado
+     * 
+     * @throws ImportacaoNaoEncontradaException se a importação não existir
+     * @throws DomainException se a importação não estiver com falha
+     */
+    public ProgressoImportacao retomar(String id) {
+        ImportacaoAlunos importacao = buscar(id);
+        importadorAlunos.retomar(importacao);
+        return importacao.progresso();
+    }
+    
+    /**
+     * Arquivo CSV com as linhas rejeitadas até o momento (linha, nome, ra, erro)
+     * 
+     * @throws ImportacaoNaoEncontradaException se a importação não existir
+     */
+    public Path relatorioErros(String id) {
+        return buscar(id).getRelatorioErros();
+    }
+    
+    private ImportacaoAlunos buscar(String id) {
+        return importadorAlunos.buscar(id)
+                .orElseThrow(() -> new ImportacaoNaoEncontradaException(id));
+    }
+}
@@ -1,19 +1,32 @@
 package com.devops.projeto_ac2.application.usecases;
 
-import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.readmodels.AlunoParcial;
+import com.devops.projeto_ac2.domain.readmodels.AlunoResumo;
+import com.devops.projeto_ac2.domain.readmodels.CampoAluno;
+import com.devops.projeto_ac2.domain.readmodels.PaginaAlunos;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.OrdenacaoAlunos;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
- * Use Case: Listar todos os alunos
+ * Use Case: Listar alunos
+ * 
+ * A listagem é sempre paginada por keyset (after = ID do último aluno entregue),
+ * com tamanho de página limitado pelo servidor, e lida por projeção (AlunoResumo),
+ * sem custo de contexto de persistência
  */
 @Service
 @Transactional(readOnly = true)
 public class ListarAlunosUseCase {
     
+    public static final int TAMANHO_PADRAO_PAGINA = 100;
+    public static final int TAMANHO_MAXIMO_PAGINA = 500;
+    
     private final AlunoRepository alunoRepository;
     
     public ListarAlunosUseCase(AlunoRepository alunoRepository) {
@@ -21,23 +34,50 @@ public class ListarAlunosUseCase {
     }
     
     /**
-     * Executa a listagem de todos os alunos
+     * Executa a listagem de uma página de alunos
+     * 
+     * @param concluido Filtro de conclusão: true, false ou null (todos)
+     * @param aposId ID do último aluno da página anterior (null para a primeira)
+     * @param tamanho Quantidade de alunos (limitada a TAMANHO_MAXIMO_PAGINA)
+     * @param ordenacao "id", "nome" ou "mediaFinal", com "-" para decrescente (null para ID)
      */
-    public List<Aluno> executar() {
-        return alunoRepository.buscarTodos();
+    public PaginaAlunos<AlunoResumo> executar(Boolean concluido, Long aposId, int tamanho, String ordenacao) {
+        int limite = limite(tamanho);
+        OrdenacaoAlunos ordem = OrdenacaoAlunos.criar(ordenacao);
+        
+        // Busca uma linha extra apenas para saber se existe próxima página
+        return paginar(alunoRepository.buscarPagina(concluido, aposId, limite + 1, ordem), limite, AlunoResumo::id);
     }
     
     /**
-     * Lista apenas alunos que concluíram
+     * Mesma listagem de executar, lendo do banco apenas os campos selecionados
+     * 
+     * @param campos Lista separada por vírgulas (ex.: "id,nome,mediaFinal")
+     * @throws com.devops.projeto_ac2.domain.exceptions.CampoInvalidoException se algum campo não existir
      */
-    public List<Aluno> executarConcluidos() {
-        return alunoRepository.buscarConcluidos();
+    public PaginaAlunos<AlunoParcial> executarParcial(
+            String campos, Boolean concluido, Long aposId, int tamanho, String ordenacao) {
+        Set<CampoAluno> selecionados = CampoAluno.interpretar(campos);
+        int limite = limite(tamanho);
+        OrdenacaoAlunos ordem = OrdenacaoAlunos.criar(ordenacao);
+        
+        return paginar(alunoRepository.buscarPaginaParcial(selecionados, concluido, aposId, limite + 1, ordem),
+                limite, AlunoParcial::id);
     }
     
-    /**
-     * Lista apenas alunos que não concluíram
-     */
-    public List<Aluno> executarNaoConcluidos() {
-        return alunoRepository.buscarNaoConcluidos();
+    private int limite(int tamanho) {
+        if (tamanho <= 0) {
+            throw new IllegalArgumentException("Tamanho da página deve ser maior que zero");
+        }
+        return Math.min(tamanho, TAMANHO_MAXIMO_PAGINA);
+    }
+    
+    private <T> PaginaAlunos<T> paginar(List<T> alunos, int limite, Function<T, Long> id) {
+        if (alunos.size() <= limite) {
+            return new PaginaAlunos<>(alunos, null);
+        }
+        
+        List<T> itens = List.copyOf(alunos.subList(0, limite));
+        return new PaginaAlunos<>(itens, id.apply(itens.get(itens.size() - 1)));
     }
 }
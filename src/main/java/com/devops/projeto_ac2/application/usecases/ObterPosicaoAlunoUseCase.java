@@ -0,0 +1,32 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.ranking.HistogramaNotas;
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.readmodels.PosicaoAluno;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use Case: Obter posição e percentil de um aluno no ranking
+ * Respondido pelo HistogramaNotas, sem ordenar nem consultar o banco
+ */
+@Service
+public class ObterPosicaoAlunoUseCase {
+    
+    private final HistogramaNotas histogramaNotas;
+    
+    public ObterPosicaoAlunoUseCase(HistogramaNotas histogramaNotas) {
+        this.histogramaNotas = histogramaNotas;
+    }
+    
+    /**
+     * Executa a consulta de posição do aluno
+     * 
+     * @param alunoId ID do aluno
+     * @return Posição, total de alunos e percentil
+     * @throws AlunoNotFoundException se o aluno não existir
+     */
+    public PosicaoAluno executar(Long alunoId) {
+        return histogramaNotas.posicaoDe(alunoId)
+                .orElseThrow(() -> new AlunoNotFoundException(alunoId));
+    }
+}
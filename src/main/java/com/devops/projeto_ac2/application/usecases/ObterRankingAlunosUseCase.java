@@ -1,25 +1,36 @@
 package com.devops.projeto_ac2.application.usecases;
 
-import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.application.ranking.IndiceRanking;
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.readmodels.PaginaRanking;
+import com.devops.projeto_ac2.domain.readmodels.PosicaoRanking;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.CursorRanking;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Use Case: Obter ranking dos alunos
  * Ordena por média final (decrescente) e depois por cursos adicionais
+ * 
+ * As consultas completas são atendidas pelo IndiceRanking em memória,
+ * sem varrer nem ordenar a tabela de alunos; a consulta paginada é
+ * calculada pelo banco (RANK() com keyset)
+ * 
+ * Alunos empatados em média e cursos adicionais dividem a mesma posição
  */
 @Service
-@Transactional(readOnly = true)
 public class ObterRankingAlunosUseCase {
     
+    public static final int TAMANHO_MAXIMO_PAGINA = 500;
+    
+    private final IndiceRanking indiceRanking;
     private final AlunoRepository alunoRepository;
     
-    public ObterRankingAlunosUseCase(AlunoRepository alunoRepository) {
+    public ObterRankingAlunosUseCase(IndiceRanking indiceRanking, AlunoRepository alunoRepository) {
+        this.indiceRanking = indiceRanking;
         this.alunoRepository = alunoRepository;
     }
     
@@ -27,16 +38,12 @@ public class ObterRankingAlunosUseCase {
      * Executa a busca do ranking completo
      * Ordenação: 1º por média final (maior primeiro), 2º por cursos adicionais
      * 
-     * @return Lista ordenada de alunos
+     * @return Lista ordenada de alunos com suas posições
      */
-    public List<Aluno> executar() {
-        return alunoRepository.buscarTodos().stream()
-                .sorted(
-                        Comparator.comparingDouble(Aluno::getMediaFinal).reversed()
-                        .thenComparing(Comparator.comparingInt(Aluno::getCursosAdicionais).reversed()))
-                        .collect(Collectors.toList());
+    public List<PosicaoRanking> executar() {
+        return indiceRanking.ranking();
     }
-
+    
     
     /**
      * Retorna apenas o top N alunos
@@ -44,26 +51,73 @@ public class ObterRankingAlunosUseCase {
      * @param limite Quantidade de alunos no topo do ranking
      * @return Lista com os N melhores alunos
      */
-    public List<Aluno> executarTop(int limite) {
+    public List<PosicaoRanking> executarTop(int limite) {
         if (limite <= 0) {
             throw new IllegalArgumentException("Limite deve ser maior que zero");
         }
-
-        return alunoRepository.buscarTodos().stream()
-                .sorted(Comparator.comparingDouble(Aluno::getMediaFinal).reversed()
-                        .thenComparing(Comparator.comparingInt(Aluno::getCursosAdicionais).reversed()))
-                .limit(limite)
-                .collect(Collectors.toList());
+        
+        return indiceRanking.top(limite);
+    }
+    
+    /**
+     * Retorna uma página do ranking a partir de um cursor opaco
+     * 
+     * @param cursor Cursor devolvido pela página anterior (null para a primeira)
+     * @param tamanho Quantidade de alunos na página (limitada a TAMANHO_MAXIMO_PAGINA)
+     * @param apenasAprovados Ranking apenas dos aprovados (deve ser o mesmo filtro do cursor)
+     * @return A página e o cursor da próxima, se houver
+     */
+    @Transactional(readOnly = true)
+    public PaginaRanking executarPagina(String cursor, int tamanho, boolean apenasAprovados) {
+        if (tamanho <= 0) {
+            throw new IllegalArgumentException("Tamanho da página deve ser maior que zero");
+        }
+        
+        int limite = Math.min(tamanho, TAMANHO_MAXIMO_PAGINA);
+        CursorRanking apos = cursor != null ? CursorRanking.decodificar(cursor) : null;
+        if (apos != null) {
+            apos.exigirFiltro(apenasAprovados);
+        }
+        
+        // Busca uma linha extra apenas para saber se existe próxima página
+        List<PosicaoRanking> linhas = alunoRepository.buscarPaginaRanking(apos, limite + 1, apenasAprovados);
+        if (linhas.size() <= limite) {
+            return new PaginaRanking(linhas, null, null);
+        }
+        
+        List<PosicaoRanking> itens = List.copyOf(linhas.subList(0, limite));
+        PosicaoRanking ultima = itens.get(itens.size() - 1);
+        long entregues = (apos != null ? apos.getLinhasEntregues() : 0) + itens.size();
+        CursorRanking proximo = CursorRanking.criar(
+                ultima.entrada().mediaFinal(),
+                ultima.entrada().cursosAdicionais(),
+                ultima.entrada().id(),
+                ultima.posicao(),
+                entregues,
+                apenasAprovados);
+        return new PaginaRanking(itens, proximo, null);
     }
     
     /**
      * Retorna ranking apenas dos alunos aprovados
      */
-    public List<Aluno> executarAprovados() {
-        return alunoRepository.buscarConcluidos().stream()
-                .filter(Aluno::aprovado)
-                .sorted(Comparator.comparingDouble(Aluno::getMediaFinal).reversed()
-                        .thenComparing(Comparator.comparingInt(Aluno::getCursosAdicionais).reversed()))
-                .collect(Collectors.toList());
+    public List<PosicaoRanking> executarAprovados() {
+        return indiceRanking.aprovados();
+    }
+    
+    /**
+     * Retorna os alunos posicionados ao redor de um aluno no ranking
+     * 
+     * @param alunoId ID do aluno de referência
+     * @param raio Quantidade de posições acima e abaixo do aluno
+     * @throws AlunoNotFoundException se o aluno não estiver no ranking
+     */
+    public List<PosicaoRanking> executarAoRedor(Long alunoId, int raio) {
+        if (raio < 0) {
+            throw new IllegalArgumentException("Raio não pode ser negativo");
+        }
+        
+        return indiceRanking.aoRedor(alunoId, raio)
+                .orElseThrow(() -> new AlunoNotFoundException(alunoId));
     }
 }
@@ -0,0 +1,51 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.ranking.CalculadoraRankingCoortes;
+import com.devops.projeto_ac2.application.ranking.IndiceRanking;
+import com.devops.projeto_ac2.domain.readmodels.RankingCoorte;
+import com.devops.projeto_ac2.domain.readmodels.RankingCoortes;
+import com.devops.projeto_ac2.domain.valueobjects.Coorte;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use Case: Obter rankings por coorte de ingresso
+ * A coorte é derivada da data de criação do aluno (por semestre ou por mês)
+ * 
+ * Os dados vêm do IndiceRanking em memória; o cálculo por coorte é
+ * paralelizado pela CalculadoraRankingCoortes
+ */
+@Service
+public class ObterRankingCoortesUseCase {
+    
+    private final IndiceRanking indiceRanking;
+    private final CalculadoraRankingCoortes calculadora;
+    
+    public ObterRankingCoortesUseCase(IndiceRanking indiceRanking, CalculadoraRankingCoortes calculadora) {
+        this.indiceRanking = indiceRanking;
+        this.calculadora = calculadora;
+    }
+    
+    /**
+     * Ranking de uma coorte
+     * 
+     * @param coorte "AAAA-S" (semestre) ou "AAAA-MM" (mês)
+     * @param top Limitar aos N primeiros (null ou não positivo para o ranking completo)
+     */
+    public RankingCoorte executar(String coorte, Integer top) {
+        return calculadora.calcular(indiceRanking.entradas(), Coorte.criar(coorte), limite(top));
+    }
+    
+    /**
+     * Rankings de todas as coortes e ranking geral
+     * 
+     * @param periodicidade SEMESTRAL ou MENSAL
+     * @param top Limitar aos N primeiros de cada ranking (null ou não positivo para completos)
+     */
+    public RankingCoortes executarTodas(String periodicidade, Integer top) {
+        return calculadora.calcular(indiceRanking.entradas(), Coorte.Periodicidade.de(periodicidade), limite(top));
+    }
+    
+    private int limite(Integer top) {
+        return top != null && top > 0 ? top : Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,69 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.ranking.MaterializadorRanking;
+import com.devops.projeto_ac2.application.ranking.SnapshotRanking;
+import com.devops.projeto_ac2.domain.readmodels.PaginaRanking;
+import com.devops.projeto_ac2.domain.valueobjects.CursorRanking;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Use Case: Obter ranking a partir do snapshot materializado
+ * 
+ * Todas as respostas informam a versão do snapshot utilizado; repassando essa
+ * versão nas próximas requisições o cliente lê todas as páginas do mesmo snapshot.
+ * Se a versão não estiver mais retida, a leitura continua no snapshot mais recente
+ * (a versão devolvida muda, sinalizando a troca).
+ * 
+ * Retorna vazio quando o ranking materializado está desabilitado ou ainda não foi gerado
+ */
+@Service
+public class ObterRankingMaterializadoUseCase {
+    
+    private final MaterializadorRanking materializadorRanking;
+    
+    public ObterRankingMaterializadoUseCase(MaterializadorRanking materializadorRanking) {
+        this.materializadorRanking = materializadorRanking;
+    }
+    
+    /**
+     * Ranking completo ou top N
+     * 
+     * @param versao Versão do snapshot (null para a mais recente)
+     * @param top Limitar aos N primeiros (null para o ranking completo)
+     */
+    public Optional<PaginaRanking> executar(Long versao, boolean apenasAprovados, Integer top) {
+        int limite = top != null && top > 0 ? top : Integer.MAX_VALUE;
+        return materializadorRanking.snapshot(versao)
+                .map(snapshot -> snapshot.pagina(apenasAprovados, null, limite));
+    }
+    
+    /**
+     * Página do ranking a partir de um cursor opaco
+     * 
+     * @param versao Versão do snapshot (null para a mais recente)
+     * @param cursor Cursor devolvido pela página anterior (null para a primeira)
+     * @param tamanho Quantidade de alunos na página (limitada a TAMANHO_MAXIMO_PAGINA)
+     */
+    public Optional<PaginaRanking> executarPagina(Long versao, boolean apenasAprovados, String cursor, int tamanho) {
+        if (tamanho <= 0) {
+            throw new IllegalArgumentException("Tamanho da página deve ser maior que zero");
+        }
+        
+        int limite = Math.min(tamanho, ObterRankingAlunosUseCase.TAMANHO_MAXIMO_PAGINA);
+        CursorRanking apos = cursor != null ? CursorRanking.decodificar(cursor) : null;
+        if (apos != null) {
+            apos.exigirFiltro(apenasAprovados);
+        }
+        return materializadorRanking.snapshot(versao)
+                .map(snapshot -> snapshot.pagina(apenasAprovados, apos, limite));
+    }
+    
+    /**
+     * Versão do snapshot mais recente (vazio se o ranking materializado está desabilitado)
+     */
+    public Optional<Long> versaoAtual() {
+        return materializadorRanking.snapshot(null).map(SnapshotRanking::getVersao);
+    }
+}
@@ -1,23 +1,46 @@
 package com.devops.projeto_ac2.application.usecases;
 
+import com.devops.projeto_ac2.application.concorrencia.ExecutorEscritaOtimista;
+import com.devops.projeto_ac2.application.concorrencia.GravacaoAgrupadaTentativas;
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
 import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Use Case: Registrar tentativa de avaliação do aluno
  * Implementa regra de limite de 3 tentativas
+ * 
+ * Caminho rápido: um único UPDATE condicional, sem ler o aluno antes e sem perder
+ * atualizações concorrentes. Só quando nenhuma linha é alterada o aluno é carregado
+ * e a entidade decide o motivo da recusa; essa gravação pela entidade é protegida
+ * pela versão otimista e repetida em caso de conflito.
+ * 
+ * Com tentativas.agrupamento.habilitado, as tentativas são gravadas em lotes pela
+ * GravacaoAgrupadaTentativas (group commit) e a requisição aguarda o commit do seu lote.
  */
 @Service
 public class RegistrarTentativaUseCase {
     
     private final AlunoRepository alunoRepository;
+    private final ExecutorEscritaOtimista executorEscrita;
+    private final Optional<GravacaoAgrupadaTentativas> gravacaoAgrupada;
     
-    public RegistrarTentativaUseCase(AlunoRepository alunoRepository) {
+    public RegistrarTentativaUseCase(
+            AlunoRepository alunoRepository,
+            ExecutorEscritaOtimista executorEscrita,
+            Optional<GravacaoAgrupadaTentativas> gravacaoAgrupada) {
         this.alunoRepository = alunoRepository;
+        this.executorEscrita = executorEscrita;
+        this.gravacaoAgrupada = gravacaoAgrupada;
     }
     
     /**
@@ -27,20 +50,47 @@ public class RegistrarTentativaUseCase {
      * @param nota Nota obtida na tentativa
      * @return O aluno atualizado
      * @throws AlunoNotFoundException se o aluno não existir
+     * @throws DomainException se o aluno já concluiu ou esgotou as tentativas
+     * @throws ConflitoConcorrenciaException se o aluno seguir em conflito após todas as tentativas
      */
-    @Transactional
     public Aluno executar(Long alunoId, double nota) {
-        // Buscar aluno
-        Aluno aluno = alunoRepository.buscarPorId(alunoId)
-                .orElseThrow(() -> new AlunoNotFoundException(alunoId));
-        
         // Criar Value Object da média
         MediaFinal media = MediaFinal.criar(nota);
         
-        // Registrar tentativa (validações são feitas na entidade)
-        aluno.registrarTentativa(media);
+        // Group commit: o lote é gravado em outra thread, então não serve a quem já tem transação aberta
+        if (gravacaoAgrupada.isPresent() && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return aguardar(gravacaoAgrupada.get().registrar(alunoId, media));
+        }
         
-        // Persistir mudanças
+        // Caminho rápido: o banco aplica as condições e incrementa atomicamente
+        return executorEscrita.executar("registrar-tentativa", alunoId, () ->
+                alunoRepository.registrarTentativaSeDisponivel(alunoId, media.getValor())
+                        .orElseGet(() -> registrarPelaEntidade(alunoId, media)));
+    }
+    
+    /**
+     * Espera o commit do lote e relança a recusa com o tipo original
+     */
+    private static Aluno aguardar(CompletableFuture<Aluno> resultado) {
+        try {
+            return resultado.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Caminho lento: as regras de Aluno.registrarTentativa explicam a recusa
+     */
+    private Aluno registrarPelaEntidade(Long alunoId, MediaFinal media) {
+        Aluno aluno = alunoRepository.buscarPorId(alunoId)
+                .orElseThrow(() -> new AlunoNotFoundException(alunoId));
+        
+        // Lança a exceção com o motivo; se a entidade aceitar, grava por ela
+        aluno.registrarTentativa(media);
         return alunoRepository.salvar(aluno);
     }
 }
@@ -0,0 +1,186 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.concorrencia.ExecutorEscritaOtimista;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+import com.devops.projeto_ac2.domain.readmodels.ResultadoTentativaAluno;
+import com.devops.projeto_ac2.domain.readmodels.ResultadoTentativaAluno.Situacao;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: Registrar tentativas de avaliação de vários alunos, identificados pelo RA
+ * 
+ * Mesmas regras de RegistrarTentativaUseCase (aplicadas por Aluno.registrarTentativa),
+ * mas os alunos do lote inteiro são carregados com uma consulta por conjunto de RAs
+ * e as alterações são gravadas com UPDATEs em lote. Um item recusado não impede
+ * o registro dos demais: cada item recebe o seu resultado.
+ * 
+ * Se o flush do lote falhar por conflito de versão (outra requisição alterou um dos
+ * alunos), o lote é desfeito e cada tentativa aceita é gravada sozinha, com as
+ * retentativas do ExecutorEscritaOtimista, como em GravacaoAgrupadaTentativas: um
+ * conflito afeta apenas o seu item, não o lote inteiro.
+ */
+@Service
+public class RegistrarTentativasEmLoteUseCase {
+    
+    public static final int TAMANHO_MAXIMO_LOTE = 10_000;
+    
+    private final AlunoRepository alunoRepository;
+    private final ExecutorEscritaOtimista executorEscrita;
+    private final TransactionTemplate transactionTemplate;
+    
+    public RegistrarTentativasEmLoteUseCase(
+            AlunoRepository alunoRepository,
+            ExecutorEscritaOtimista executorEscrita,
+            PlatformTransactionManager transactionManager) {
+        this.alunoRepository = alunoRepository;
+        this.executorEscrita = executorEscrita;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * Nota obtida pelo aluno do RA informado
+     */
+    public record NovaTentativa(String ra, Double nota) {
+    }
+    
+    /**
+     * Executa o registro das tentativas em lote
+     * 
+     * @param tentativas Tentativas a registrar (máximo TAMANHO_MAXIMO_LOTE)
+     * @return Um resultado por item, na ordem recebida
+     * @throws DomainException se o lote estiver vazio ou exceder o tamanho máximo
+     */
+    public List<ResultadoTentativaAluno> executar(List<NovaTentativa> tentativas) {
+        if (tentativas == null || tentativas.isEmpty()) {
+            throw new DomainException("Informe ao menos uma tentativa no lote");
+        }
+        if (tentativas.size() > TAMANHO_MAXIMO_LOTE) {
+            throw new DomainException("O lote deve ter no máximo " + TAMANHO_MAXIMO_LOTE + " tentativas");
+        }
+        
+        ResultadoTentativaAluno[] resultados = new ResultadoTentativaAluno[tentativas.size()];
+        Map<Integer, MediaFinal> validas = new LinkedHashMap<>();
+        Set<String> rasDoLote = new HashSet<>();
+        
+        for (int i = 0; i < tentativas.size(); i++) {
+            NovaTentativa tentativa = tentativas.get(i);
+            String ra = tentativa.ra();
+            if (ra == null || ra.isBlank()) {
+                resultados[i] = ResultadoTentativaAluno.rejeitada(i, ra, Situacao.REJEITADA, "RA é obrigatório");
+            } else if (tentativa.nota() == null) {
+                resultados[i] = ResultadoTentativaAluno.rejeitada(i, ra, Situacao.REJEITADA, "Nota é obrigatória");
+            } else if (!rasDoLote.add(ra)) {
+                resultados[i] = ResultadoTentativaAluno.rejeitada(i, ra, Situacao.REJEITADA, "RA repetido no lote: " + ra);
+            } else {
+                try {
+                    validas.put(i, MediaFinal.criar(tentativa.nota()));
+                } catch (InvalidValueObjectException e) {
+                    resultados[i] = ResultadoTentativaAluno.rejeitada(i, ra, Situacao.REJEITADA, e.getMessage());
+                }
+            }
+        }
+        
+        if (validas.isEmpty()) {
+            return List.of(resultados);
+        }
+        
+        Map<Integer, Long> aceitas = new LinkedHashMap<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> registrarLote(tentativas, validas, resultados, aceitas));
+        } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+            aceitas.forEach((indice, alunoId) -> resultados[indice] =
+                    registrarSozinha(indice, tentativas.get(indice).ra(), alunoId, validas.get(indice)));
+        }
+        return List.of(resultados);
+    }
+    
+    /**
+     * Uma consulta pelos RAs, as regras da entidade em cada item e um único flush com os UPDATEs
+     * aceitas recebe o ID do aluno de cada tentativa aceita, para a gravação item a item após um conflito
+     */
+    private void registrarLote(List<NovaTentativa> tentativas, Map<Integer, MediaFinal> validas,
+                               ResultadoTentativaAluno[] resultados, Map<Integer, Long> aceitas) {
+        Map<String, Aluno> alunosPorRA = alunoRepository
+                .buscarPorRAs(validas.keySet().stream().map(i -> tentativas.get(i).ra()).toList())
+                .stream()
+                .collect(Collectors.toMap(aluno -> aluno.getRegistroAcademico().getValor(), Function.identity()));
+        
+        List<Aluno> alterados = new ArrayList<>();
+        for (Map.Entry<Integer, MediaFinal> valida : validas.entrySet()) {
+            int indice = valida.getKey();
+            String ra = tentativas.get(indice).ra();
+            Aluno aluno = alunosPorRA.get(ra);
+            if (aluno == null) {
+                resultados[indice] = ResultadoTentativaAluno.rejeitada(
+                        indice, ra, Situacao.NAO_ENCONTRADO, "Aluno não encontrado com RA: " + ra);
+                continue;
+            }
+            try {
+                aluno.registrarTentativa(valida.getValue());
+                alterados.add(aluno);
+                aceitas.put(indice, aluno.getId());
+                resultados[indice] = ResultadoTentativaAluno.registrada(indice, aluno);
+            } catch (DomainException e) {
+                resultados[indice] = ResultadoTentativaAluno.rejeitada(indice, ra, situacaoDaRecusa(aluno), e.getMessage());
+            }
+        }
+        
+        if (!alterados.isEmpty()) {
+            alunoRepository.atualizarTodos(alterados);
+        }
+    }
+    
+    /**
+     * Relê o aluno e reaplica a regra em transação própria, repetindo a cada conflito de versão
+     * As recusas da leitura do lote continuam válidas: conclusão e tentativas usadas só aumentam
+     */
+    private ResultadoTentativaAluno registrarSozinha(int indice, String ra, Long alunoId, MediaFinal media) {
+        Aluno[] lido = new Aluno[1];
+        try {
+            Aluno aluno = executorEscrita.executar("registrar-tentativa", alunoId, () -> {
+                lido[0] = alunoRepository.buscarPorId(alunoId).orElseThrow(() -> new AlunoNotFoundException(alunoId));
+                lido[0].registrarTentativa(media);
+                return alunoRepository.salvar(lido[0]);
+            });
+            return ResultadoTentativaAluno.registrada(indice, aluno);
+        } catch (AlunoNotFoundException e) {
+            return ResultadoTentativaAluno.rejeitada(indice, ra, Situacao.NAO_ENCONTRADO, "Aluno não encontrado com RA: " + ra);
+        } catch (ConflitoConcorrenciaException e) {
+            return ResultadoTentativaAluno.rejeitada(indice, ra, Situacao.CONFLITO, e.getMessage());
+        } catch (DomainException e) {
+            return ResultadoTentativaAluno.rejeitada(indice, ra, situacaoDaRecusa(lido[0]), e.getMessage());
+        }
+    }
+    
+    /**
+     * Motivo da recusa de Aluno.registrarTentativa, na mesma ordem de verificação da entidade
+     */
+    private static Situacao situacaoDaRecusa(Aluno aluno) {
+        if (aluno.isConcluiu()) {
+            return Situacao.CURSO_CONCLUIDO;
+        }
+        if (!aluno.temTentativasDisponiveis()) {
+            return Situacao.TENTATIVAS_ESGOTADAS;
+        }
+        return Situacao.REJEITADA;
+    }
+}
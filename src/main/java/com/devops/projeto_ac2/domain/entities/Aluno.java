@@ -6,6 +6,8 @@ import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
 import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -18,17 +20,33 @@ import java.time.LocalDateTime;
  * - @ToString: Gera método toString() para debug e logs
  * - @EqualsAndHashCode(onlyExplicitlyIncluded = true): Gera equals/hashCode baseado no ID
  * - @NoArgsConstructor: Construtor vazio para JPA/Hibernate
+ * 
+ * Guardada no cache de segundo nível do Hibernate (READ_WRITE: uma escrita em andamento
+ * bloqueia a entrada até o commit, então nenhuma leitura vê dados não confirmados).
+ * O UPDATE em massa do registro de tentativa descarta a região inteira a cada tentativa
  */
 @Entity
 @Table(name = "tb_alunos")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @ToString(of = {"id", "nome", "registroAcademico", "mediaFinal", "concluiu"})
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // Para JPA
 public class Aluno {
     
+    /**
+     * Limite de tentativas de avaliação por aluno
+     */
+    public static final int MAXIMO_TENTATIVAS = 3;
+    
+    /**
+     * IDs reservados em blocos de 50 na sequência (otimizador pooled), sem ida ao banco
+     * a cada aluno: com IDENTITY o Hibernate não consegue agrupar os INSERTs em lote
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "aluno_seq")
+    @SequenceGenerator(name = "aluno_seq", sequenceName = "tb_alunos_seq", allocationSize = 50)
     @EqualsAndHashCode.Include // Incluir ID no equals/hashCode
     private Long id;
     
@@ -55,6 +73,14 @@ public class Aluno {
     @Column(nullable = false, updatable = false)
     private LocalDateTime dataCriacao;
     
+    /**
+     * Versão otimista: uma gravação baseada em uma leitura desatualizada falha em vez
+     * de sobrescrever a alteração concorrente
+     */
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+    
     @Column
     private LocalDateTime dataAtualizacao;
     
@@ -100,8 +126,8 @@ public class Aluno {
             throw new DomainException("Aluno já concluiu o curso");
         }
         
-        if (this.tentativasAvaliacao >= 3) {
-            throw new DomainException("Aluno já utilizou todas as 3 tentativas disponíveis");
+        if (this.tentativasAvaliacao >= MAXIMO_TENTATIVAS) {
+            throw new DomainException("Aluno já utilizou todas as " + MAXIMO_TENTATIVAS + " tentativas disponíveis");
         }
         
         this.tentativasAvaliacao++;
@@ -219,13 +245,13 @@ public class Aluno {
      * Verifica se aluno tem tentativas disponíveis
      */
     public boolean temTentativasDisponiveis() {
-        return this.tentativasAvaliacao < 3;
+        return this.tentativasAvaliacao < MAXIMO_TENTATIVAS;
     }
     
     /**
      * Retorna número de tentativas restantes
      */
     public int tentativasRestantes() {
-        return 3 - this.tentativasAvaliacao;
+        return MAXIMO_TENTATIVAS - this.tentativasAvaliacao;
     }
 }
@@ -0,0 +1,21 @@
+package com.devops.projeto_ac2.domain.events;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Evento de domínio publicado quando um aluno é removido
+ * Carrega apenas as chaves, pois a entidade já não existe após o commit
+ */
+@Getter
+@ToString
+public class AlunoRemovidoEvent {
+    
+    private final Long alunoId;
+    private final String ra;
+    
+    public AlunoRemovidoEvent(Long alunoId, String ra) {
+        this.alunoId = alunoId;
+        this.ra = ra;
+    }
+}
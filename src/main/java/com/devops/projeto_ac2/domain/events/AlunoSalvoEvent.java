@@ -0,0 +1,20 @@
+package com.devops.projeto_ac2.domain.events;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Evento de domínio publicado sempre que um aluno é criado ou alterado
+ * Os ouvintes o recebem após o commit da transação que gravou o aluno
+ */
+@Getter
+@ToString
+public class AlunoSalvoEvent {
+    
+    private final Aluno aluno;
+    
+    public AlunoSalvoEvent(Aluno aluno) {
+        this.aluno = aluno;
+    }
+}
@@ -0,0 +1,25 @@
+package com.devops.projeto_ac2.domain.events;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Evento de domínio publicado quando um lote de alunos concluídos é movido para o arquivo
+ * Os dados dos alunos não mudam; eles apenas saem das consultas da tabela ativa
+ * 
+ * saemDoRanking: true quando o ranking considera apenas a tabela ativa
+ */
+@Getter
+@ToString
+public class AlunosArquivadosEvent {
+    
+    private final List<Long> alunoIds;
+    private final boolean saemDoRanking;
+    
+    public AlunosArquivadosEvent(List<Long> alunoIds, boolean saemDoRanking) {
+        this.alunoIds = List.copyOf(alunoIds);
+        this.saemDoRanking = saemDoRanking;
+    }
+}
@@ -0,0 +1,11 @@
+package com.devops.projeto_ac2.domain.exceptions;
+
+/**
+ * Exceção lançada quando a seleção de campos (fields) contém um campo desconhecido
+ */
+public class CampoInvalidoException extends DomainException {
+    
+    public CampoInvalidoException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.devops.projeto_ac2.domain.exceptions;
+
+/**
+ * Exceção lançada quando a escrita de um aluno continua em conflito com escritas
+ * concorrentes depois de todas as tentativas
+ */
+public class ConflitoConcorrenciaException extends DomainException {
+    
+    public ConflitoConcorrenciaException(Long alunoId, int tentativas) {
+        super("Aluno com ID " + alunoId + " foi alterado por outra requisição em todas as "
+                + tentativas + " tentativas; tente novamente");
+    }
+}
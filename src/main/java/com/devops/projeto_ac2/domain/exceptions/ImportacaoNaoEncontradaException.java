@@ -0,0 +1,11 @@
+package com.devops.projeto_ac2.domain.exceptions;
+
+/**
+ * Exceção lançada quando uma importação de alunos não é encontrada
+ */
+public class ImportacaoNaoEncontradaException extends DomainException {
+    
+    public ImportacaoNaoEncontradaException(String id) {
+        super("Importação não encontrada com ID: " + id);
+    }
+}
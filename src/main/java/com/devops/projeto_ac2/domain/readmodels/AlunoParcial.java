@@ -0,0 +1,18 @@
+package com.devops.projeto_ac2.domain.readmodels;
+
+import java.util.Map;
+
+/**
+ * Read model com apenas os campos selecionados de um aluno (?fields=)
+ * O ID é sempre lido, pois é o cursor da paginação
+ */
+public record AlunoParcial(Map<CampoAluno, Object> valores) {
+    
+    public Long id() {
+        return (Long) valores.get(CampoAluno.ID);
+    }
+    
+    public Object valor(CampoAluno campo) {
+        return valores.get(campo);
+    }
+}
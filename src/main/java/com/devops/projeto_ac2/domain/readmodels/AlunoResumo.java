@@ -0,0 +1,23 @@
+package com.devops.projeto_ac2.domain.readmodels;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model imutável de um aluno para consultas de leitura
+ * Preenchido direto pela consulta (constructor expression), sem criar entidades gerenciadas;
+ * situacao e tentativasRestantes já vêm calculados pelo banco
+ */
+public record AlunoResumo(
+        Long id,
+        String nome,
+        String ra,
+        double mediaFinal,
+        boolean concluiu,
+        int cursosAdicionais,
+        int tentativasAvaliacao,
+        int tentativasRestantes,
+        String situacao,
+        LocalDateTime dataCriacao,
+        LocalDateTime dataAtualizacao,
+        LocalDateTime dataConclusao) {
+}
@@ -0,0 +1,37 @@
+package com.devops.projeto_ac2.domain.readmodels;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * Campos de AlunoResponseDTO que podem ser selecionados em ?fields=
+ */
+@Getter
+public enum CampoAluno implements CampoResposta {
+    ID("id"),
+    NOME("nome"),
+    RA("ra"),
+    MEDIA_FINAL("mediaFinal"),
+    CONCLUIU("concluiu"),
+    CURSOS_ADICIONAIS("cursosAdicionais"),
+    TENTATIVAS_AVALIACAO("tentativasAvaliacao"),
+    TENTATIVAS_RESTANTES("tentativasRestantes"),
+    SITUACAO("situacao"),
+    DATA_CRIACAO("dataCriacao"),
+    DATA_ATUALIZACAO("dataAtualizacao"),
+    DATA_CONCLUSAO("dataConclusao");
+    
+    private final String nome;
+    
+    CampoAluno(String nome) {
+        this.nome = nome;
+    }
+    
+    /**
+     * @throws com.devops.projeto_ac2.domain.exceptions.CampoInvalidoException se algum campo não existir
+     */
+    public static Set<CampoAluno> interpretar(String campos) {
+        return CampoResposta.interpretar(campos, CampoAluno.class);
+    }
+}
@@ -0,0 +1,33 @@
+package com.devops.projeto_ac2.domain.readmodels;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * Campos de RankingResponseDTO que podem ser selecionados em ?fields=
+ */
+@Getter
+public enum CampoRanking implements CampoResposta {
+    POSICAO("posicao"),
+    ALUNO_ID("alunoId"),
+    NOME("nome"),
+    RA("ra"),
+    MEDIA_FINAL("mediaFinal"),
+    CURSOS_ADICIONAIS("cursosAdicionais"),
+    CONCLUIU("concluiu"),
+    SITUACAO("situacao");
+    
+    private final String nome;
+    
+    CampoRanking(String nome) {
+        this.nome = nome;
+    }
+    
+    /**
+     * @throws com.devops.projeto_ac2.domain.exceptions.CampoInvalidoException se algum campo não existir
+     */
+    public static Set<CampoRanking> interpretar(String campos) {
+        return CampoResposta.interpretar(campos, CampoRanking.class);
+    }
+}
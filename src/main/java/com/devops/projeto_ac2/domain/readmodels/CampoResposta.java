@@ -0,0 +1,52 @@
+package com.devops.projeto_ac2.domain.readmodels;
+
+import com.devops.projeto_ac2.domain.exceptions.CampoInvalidoException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Campo de uma resposta que pode ser selecionado pelo cliente (?fields=...)
+ * Implementado por enums com os campos disponíveis de cada recurso
+ */
+public interface CampoResposta {
+    
+    /**
+     * Nome do campo no JSON
+     */
+    String getNome();
+    
+    /**
+     * Interpreta a lista separada por vírgulas enviada pelo cliente
+     * 
+     * @return os campos selecionados, na ordem de declaração do enum
+     * @throws CampoInvalidoException se algum campo não existir ou a lista estiver vazia
+     */
+    static <E extends Enum<E> & CampoResposta> Set<E> interpretar(String campos, Class<E> tipo) {
+        List<E> disponiveis = Arrays.asList(tipo.getEnumConstants());
+        Set<E> selecionados = EnumSet.noneOf(tipo);
+        
+        for (String nome : campos.split(",")) {
+            String texto = nome.trim();
+            if (texto.isEmpty()) {
+                continue;
+            }
+            E campo = disponiveis.stream()
+                    .filter(c -> c.getNome().equals(texto))
+                    .findFirst()
+                    .orElseThrow(() -> new CampoInvalidoException("Campo desconhecido: " + texto
+                            + ". Campos disponíveis: " + disponiveis.stream()
+                                    .map(CampoResposta::getNome)
+                                    .collect(Collectors.joining(", "))));
+            selecionados.add(campo);
+        }
+        
+        if (selecionados.isEmpty()) {
+            throw new CampoInvalidoException("Informe ao menos um campo em fields");
+        }
+        return selecionados;
+    }
+}
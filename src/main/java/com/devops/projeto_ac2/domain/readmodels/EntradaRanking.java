@@ -0,0 +1,94 @@
+package com.devops.projeto_ac2.domain.readmodels;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Read model imutável com apenas os dados necessários para o ranking
+ * Evita manter entidades gerenciadas em memória para consultas de leitura
+ * 
+ * versao é a versão otimista (@Version) da linha lida: os índices em memória a usam
+ * para ignorar um evento que chega depois de outro mais novo do mesmo aluno
+ */
+public record EntradaRanking(
+        Long id,
+        String nome,
+        String ra,
+        double mediaFinal,
+        int cursosAdicionais,
+        boolean concluiu,
+        LocalDateTime dataCriacao,
+        Long versao) {
+    
+    /**
+     * Ordem do ranking: 1º média final (maior primeiro), 2º cursos adicionais
+     * (maior primeiro) e, por fim, ID para garantir uma ordem total e estável
+     */
+    public static final Comparator<EntradaRanking> ORDEM =
+            Comparator.comparingDouble(EntradaRanking::mediaFinal).reversed()
+                    .thenComparing(Comparator.comparingInt(EntradaRanking::cursosAdicionais).reversed())
+                    .thenComparing(EntradaRanking::id);
+    
+    /**
+     * Entrada sem versão conhecida: sempre aplicada pelos índices
+     */
+    public EntradaRanking(Long id, String nome, String ra, double mediaFinal, int cursosAdicionais, boolean concluiu,
+                          LocalDateTime dataCriacao) {
+        this(id, nome, ra, mediaFinal, cursosAdicionais, concluiu, dataCriacao, null);
+    }
+    
+    /**
+     * Entrada sem data de criação, para rankings que não dependem da coorte
+     */
+    public EntradaRanking(Long id, String nome, String ra, double mediaFinal, int cursosAdicionais, boolean concluiu) {
+        this(id, nome, ra, mediaFinal, cursosAdicionais, concluiu, null, null);
+    }
+    
+    /**
+     * Cria a entrada a partir do estado atual da entidade
+     */
+    public static EntradaRanking de(Aluno aluno) {
+        return new EntradaRanking(
+                aluno.getId(),
+                aluno.getNome(),
+                aluno.getRegistroAcademico().getValor(),
+                aluno.getMediaFinal(),
+                aluno.getCursosAdicionais(),
+                aluno.isConcluiu(),
+                aluno.getDataCriacao(),
+                aluno.getVersao());
+    }
+    
+    /**
+     * Chave que antecede todas as entradas empatadas com esta
+     * (mesma média e mesmos cursos adicionais), usada para calcular posições com empate
+     */
+    public EntradaRanking inicioDoEmpate() {
+        return new EntradaRanking(Long.MIN_VALUE, nome, ra, mediaFinal, cursosAdicionais, concluiu, dataCriacao, null);
+    }
+    
+    /**
+     * Se esta entrada vem de uma versão do aluno anterior à da outra
+     * Sem versão em qualquer uma das duas, nunca é considerada anterior
+     */
+    public boolean anteriorA(EntradaRanking outra) {
+        return versao != null && outra.versao != null && versao < outra.versao;
+    }
+    
+    /**
+     * Empatadas no ranking: mesma média final e mesmos cursos adicionais
+     */
+    public boolean empatadaCom(EntradaRanking outra) {
+        return Double.compare(mediaFinal, outra.mediaFinal) == 0
+                && cursosAdicionais == outra.cursosAdicionais;
+    }
+    
+    /**
+     * Mesma regra de Aluno.aprovado()
+     */
+    public boolean aprovado() {
+        return concluiu && mediaFinal >= 7.0;
+    }
+}
@@ -0,0 +1,16 @@
+package com.devops.projeto_ac2.domain.readmodels;
+
+import java.util.List;
+
+/**
+ * Página da listagem de alunos obtida por keyset
+ * proximoApos é o ID a ser enviado em after para a próxima página (nulo quando não há mais páginas)
+ * 
+ * @param <T> AlunoResumo (todos os campos) ou AlunoParcial (campos selecionados)
+ */
+public record PaginaAlunos<T>(List<T> itens, Long proximoApos) {
+    
+    public boolean temProximaPagina() {
+        return proximoApos != null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.devops.projeto_ac2.domain.readmodels;
+
+import com.devops.projeto_ac2.domain.valueobjects.CursorRanking;
+
+import java.util.List;
+
+/**
+ * Página do ranking obtida por keyset
+ * proximoCursor é nulo quando não há mais páginas;
+ * versao identifica o snapshot materializado de origem (nula quando lida do banco)
+ */
+public record PaginaRanking(List<PosicaoRanking> itens, CursorRanking proximoCursor, Long versao) {
+    
+    public boolean temProximaPagina() {
+        return proximoCursor != null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.devops.projeto_ac2.domain.readmodels;
+
+/**
+ * Posição de um aluno no ranking geral
+ * 
+ * percentil: porcentagem de alunos com posição igual ou pior que a do aluno
+ */
+public record PosicaoAluno(Long alunoId, long posicao, long totalAlunos, double percentil) {
+}
@@ -0,0 +1,7 @@
+package com.devops.projeto_ac2.domain.readmodels;
+
+/**
+ * Entrada do ranking acompanhada da sua posição
+ */
+public record PosicaoRanking(int posicao, EntradaRanking entrada) {
+}
@@ -0,0 +1,22 @@
+package com.devops.projeto_ac2.domain.readmodels;
+
+import java.time.LocalDateTime;
+
+/**
+ * Retrato do andamento de uma importação de alunos
+ * 
+ * linhaConfirmada: última linha do arquivo cujo lote já foi gravado (a importação retoma a partir dela)
+ * linhasPorSegundo: vazão da execução atual (ou da última, se encerrada)
+ */
+public record ProgressoImportacao(
+        String id,
+        String status,
+        long importadas,
+        long rejeitadas,
+        long lotesConfirmados,
+        long linhaConfirmada,
+        double linhasPorSegundo,
+        LocalDateTime inicio,
+        LocalDateTime fim,
+        String erro) {
+}
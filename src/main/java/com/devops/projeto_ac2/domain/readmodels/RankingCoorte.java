@@ -0,0 +1,12 @@
+package com.devops.projeto_ac2.domain.readmodels;
+
+import com.devops.projeto_ac2.domain.valueobjects.Coorte;
+
+import java.util.List;
+
+/**
+ * Ranking de uma coorte de ingresso
+ * posicoes pode estar limitado ao top N; totalAlunos é o tamanho da coorte
+ */
+public record RankingCoorte(Coorte coorte, int totalAlunos, List<PosicaoRanking> posicoes) {
+}
@@ -0,0 +1,12 @@
+package com.devops.projeto_ac2.domain.readmodels;
+
+import com.devops.projeto_ac2.domain.valueobjects.Coorte;
+
+import java.util.List;
+
+/**
+ * Rankings de todas as coortes de uma periodicidade, ordenados pela coorte,
+ * acompanhados do ranking geral obtido pela intercalação dos rankings das coortes
+ */
+public record RankingCoortes(Coorte.Periodicidade periodicidade, List<PosicaoRanking> geral, List<RankingCoorte> coortes) {
+}
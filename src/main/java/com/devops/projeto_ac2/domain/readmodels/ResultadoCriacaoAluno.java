@@ -0,0 +1,27 @@
+package com.devops.projeto_ac2.domain.readmodels;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+
+/**
+ * Resultado de um item da criação de alunos em lote
+ * 
+ * indice: posição do item no lote enviado; aluno é nulo quando o item foi rejeitado (erro preenchido)
+ */
+public record ResultadoCriacaoAluno(int indice, String ra, Aluno aluno, String erro) {
+    
+    public static ResultadoCriacaoAluno criado(int indice, Aluno aluno) {
+        return new ResultadoCriacaoAluno(indice, aluno.getRegistroAcademico().getValor(), aluno, null);
+    }
+    
+    public static ResultadoCriacaoAluno rejeitado(int indice, String ra, String erro) {
+        return new ResultadoCriacaoAluno(indice, ra, null, erro);
+    }
+    
+    public ResultadoCriacaoAluno comIndice(int novoIndice) {
+        return new ResultadoCriacaoAluno(novoIndice, ra, aluno, erro);
+    }
+    
+    public boolean criado() {
+        return aluno != null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.devops.projeto_ac2.domain.readmodels;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+
+/**
+ * Resultado de um item do registro de tentativas em lote
+ * 
+ * indice: posição do item no lote enviado; aluno preenchido apenas quando a tentativa foi registrada
+ */
+public record ResultadoTentativaAluno(int indice, String ra, Situacao situacao, Aluno aluno, String erro) {
+    
+    public enum Situacao {
+        REGISTRADA,
+        NAO_ENCONTRADO,
+        CURSO_CONCLUIDO,
+        TENTATIVAS_ESGOTADAS,
+        CONFLITO,
+        REJEITADA
+    }
+    
+    public static ResultadoTentativaAluno registrada(int indice, Aluno aluno) {
+        return new ResultadoTentativaAluno(indice, aluno.getRegistroAcademico().getValor(), Situacao.REGISTRADA, aluno, null);
+    }
+    
+    public static ResultadoTentativaAluno rejeitada(int indice, String ra, Situacao situacao, String erro) {
+        return new ResultadoTentativaAluno(indice, ra, situacao, null, erro);
+    }
+    
+    public boolean registrada() {
+        return situacao == Situacao.REGISTRADA;
+    }
+}
@@ -1,14 +1,31 @@
 package com.devops.projeto_ac2.domain.repositories;
 
 import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.readmodels.AlunoParcial;
+import com.devops.projeto_ac2.domain.readmodels.AlunoResumo;
+import com.devops.projeto_ac2.domain.readmodels.CampoAluno;
+import com.devops.projeto_ac2.domain.readmodels.EntradaRanking;
+import com.devops.projeto_ac2.domain.readmodels.PosicaoRanking;
+import com.devops.projeto_ac2.domain.valueobjects.CursorRanking;
+import com.devops.projeto_ac2.domain.valueobjects.OrdenacaoAlunos;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * Interface do repositório de Aluno (Port)
  * Seguindo Clean Architecture, a interface fica no domínio
  * e a implementação na camada de infraestrutura
+ * 
+ * Alunos concluídos há muito tempo ficam no arquivo, fora da tabela ativa. As buscas
+ * por ID e por RA (e as verificações de RA existente) consideram as duas tabelas;
+ * listagens, filtros e atualizações consideram apenas a tabela ativa. Um aluno vindo
+ * do arquivo é entregue desanexado e, por estar concluído, não aceita alterações.
  */
 public interface AlunoRepository {
     
@@ -18,22 +35,98 @@ public interface AlunoRepository {
     Aluno salvar(Aluno aluno);
     
     /**
-     * Busca um aluno por ID
+     * Insere um aluno novo com um único INSERT, sem consultar o RA antes
+     * Se a unique constraint de RA for violada, o INSERT é desfeito até um savepoint
+     * e a transação corrente continua utilizável; deve ser chamado dentro de uma transação
+     * 
+     * @return O aluno inserido, ou vazio se o RA já estiver cadastrado
+     */
+    Optional<Aluno> inserirSeRALivre(Aluno aluno);
+    
+    /**
+     * Salva vários alunos novos com INSERTs em lote
+     * Os alunos retornados ficam desanexados da sessão (a sessão é limpa a cada lote)
+     */
+    List<Aluno> salvarTodos(List<Aluno> alunos);
+    
+    /**
+     * Grava as alterações de alunos já existentes com UPDATEs em lote
+     * Os alunos retornados ficam desanexados da sessão
+     */
+    List<Aluno> atualizarTodos(List<Aluno> alunos);
+    
+    /**
+     * Registra uma tentativa de avaliação com um UPDATE condicional atômico
+     * (não concluiu e ainda tem tentativas), sem carregar o aluno antes
+     * 
+     * @return O aluno atualizado, ou vazio se nenhuma linha atendeu às condições
+     */
+    Optional<Aluno> registrarTentativaSeDisponivel(Long id, double nota);
+    
+    /**
+     * Busca um aluno por ID (tabela ativa e arquivo)
      */
     Optional<Aluno> buscarPorId(Long id);
     
     /**
-     * Busca um aluno por RA
+     * Busca o read model de um aluno por ID, projetado direto da consulta (tabela ativa e arquivo)
+     */
+    Optional<AlunoResumo> buscarResumoPorId(Long id);
+    
+    /**
+     * Busca os alunos dos IDs informados (tabela ativa e arquivo); IDs inexistentes são ignorados
+     */
+    List<Aluno> buscarPorIds(Collection<Long> ids);
+    
+    /**
+     * Busca apenas os campos informados de um aluno (o ID é sempre incluído; tabela ativa e arquivo)
+     */
+    Optional<AlunoParcial> buscarParcialPorId(Long id, Set<CampoAluno> campos);
+    
+    /**
+     * Busca um aluno por RA (tabela ativa e arquivo)
      */
     Optional<Aluno> buscarPorRA(String ra);
     
     /**
-     * Busca todos os alunos
+     * Busca o read model de um aluno por RA, projetado direto da consulta (tabela ativa e arquivo)
+     */
+    Optional<AlunoResumo> buscarResumoPorRA(String ra);
+    
+    /**
+     * Busca os alunos dos RAs informados (uma consulta por bloco de RAs, na tabela ativa e no arquivo)
+     * RAs sem aluno cadastrado são ignorados
+     */
+    List<Aluno> buscarPorRAs(Collection<String> ras);
+    
+    /**
+     * Busca todos os alunos da tabela ativa
      */
     List<Aluno> buscarTodos();
     
     /**
-     * Busca alunos que concluíram o curso
+     * Percorre todos os alunos, inclusive arquivados (ordem por ID), sem materializar a lista em memória
+     * Cada aluno é desanexado após ser consumido; deve ser chamado dentro de uma transação
+     */
+    void paraCadaAluno(Consumer<Aluno> consumidor);
+    
+    /**
+     * Percorre os RAs de todos os alunos (inclusive arquivados) linha a linha, sem carregar entidades nem montar uma lista
+     */
+    void paraCadaRA(Consumer<String> consumidor);
+    
+    /**
+     * Percorre o RA e o ID de todos os alunos (inclusive arquivados) linha a linha, sem carregar entidades nem montar uma lista
+     */
+    void paraCadaRAComId(BiConsumer<String, Long> consumidor);
+    
+    /**
+     * Quantidade de alunos cadastrados, inclusive arquivados
+     */
+    long contar();
+    
+    /**
+     * Busca alunos que concluíram o curso, inclusive arquivados
      */
     List<Aluno> buscarConcluidos();
     
@@ -43,12 +136,57 @@ public interface AlunoRepository {
     List<Aluno> buscarNaoConcluidos();
     
     /**
-     * Verifica se existe um aluno com o RA informado
+     * Busca uma página de alunos por keyset (sem OFFSET), já projetada em AlunoResumo
+     * 
+     * @param concluido Filtro de conclusão (null para todos); true e null incluem os arquivados
+     * @param aposId ID do último aluno já entregue (null para a primeira página)
+     * @param limite Quantidade máxima de linhas
+     * @param ordenacao Campo e direção da ordenação (desempate sempre por ID)
+     */
+    List<AlunoResumo> buscarPagina(Boolean concluido, Long aposId, int limite, OrdenacaoAlunos ordenacao);
+    
+    /**
+     * Mesma paginação de buscarPagina, lendo do banco apenas os campos informados (o ID é sempre incluído)
+     */
+    List<AlunoParcial> buscarPaginaParcial(
+            Set<CampoAluno> campos, Boolean concluido, Long aposId, int limite, OrdenacaoAlunos ordenacao);
+    
+    /**
+     * Busca uma página do ranking com posições calculadas pelo banco (RANK())
+     * 
+     * @param apos Cursor da última linha já entregue (null para a primeira página)
+     * @param limite Quantidade máxima de linhas
+     * @param apenasAprovados Ranking apenas dos aprovados, com posições calculadas entre eles
+     */
+    List<PosicaoRanking> buscarPaginaRanking(CursorRanking apos, int limite, boolean apenasAprovados);
+    
+    /**
+     * Projeção de todos os alunos com apenas os dados do ranking,
+     * já na ordem do ranking (sem carregar entidades)
+     * Os arquivados entram apenas com alunos.arquivo.ranking-inclui-arquivados, assim como em buscarPaginaRanking
+     */
+    List<EntradaRanking> buscarEntradasRanking();
+    
+    /**
+     * Verifica se existe um aluno com o RA informado (tabela ativa e arquivo)
      */
     boolean existePorRA(String ra);
     
     /**
-     * Deleta um aluno por ID
+     * Dentre os RAs informados, retorna os que já estão cadastrados, inclusive arquivados (uma consulta por bloco de RAs)
+     */
+    Set<String> buscarRAsExistentes(Collection<String> ras);
+    
+    /**
+     * Deleta um aluno por ID (da tabela ativa ou do arquivo)
      */
     void deletar(Long id);
+    
+    /**
+     * Move para o arquivo um lote de até tamanhoLote alunos concluídos antes de limite
+     * Deve ser chamado dentro de uma transação; cada chamada move um lote
+     * 
+     * @return IDs dos alunos arquivados (menos que tamanhoLote quando não há mais o que arquivar)
+     */
+    List<Long> arquivarConcluidosAte(LocalDateTime limite, int tamanhoLote);
 }
@@ -0,0 +1,117 @@
+package com.devops.projeto_ac2.domain.valueobjects;
+
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Value Object representando a coorte de ingresso do aluno
+ * Derivada da data de criação do aluno, por semestre ("2026-1") ou por mês ("2026-03")
+ * 
+ * Lombok Annotations:
+ * - @Getter: Acesso aos valores
+ * - @EqualsAndHashCode: Comparação por valor
+ */
+@Getter
+@EqualsAndHashCode
+public class Coorte implements Comparable<Coorte> {
+    
+    private static final Pattern FORMATO = Pattern.compile("^(\\d{4})-(\\d{1,2})$");
+    
+    private static final Comparator<Coorte> ORDEM = Comparator
+            .comparing(Coorte::getPeriodicidade)
+            .thenComparingInt(Coorte::getAno)
+            .thenComparingInt(Coorte::getPeriodo);
+    
+    public enum Periodicidade {
+        SEMESTRAL,
+        MENSAL;
+        
+        /**
+         * Converte o texto recebido na API (sem diferenciar maiúsculas)
+         * @throws InvalidValueObjectException se a periodicidade não existir
+         */
+        public static Periodicidade de(String valor) {
+            try {
+                return valueOf(valor.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new InvalidValueObjectException("Periodicidade inválida: use SEMESTRAL ou MENSAL");
+            }
+        }
+    }
+    
+    private final int ano;
+    private final int periodo;
+    private final Periodicidade periodicidade;
+    
+    private Coorte(int ano, int periodo, Periodicidade periodicidade) {
+        this.ano = ano;
+        this.periodo = periodo;
+        this.periodicidade = periodicidade;
+    }
+    
+    /**
+     * Factory method a partir do texto da API
+     * "AAAA-S" é um semestre (1 ou 2) e "AAAA-MM" é um mês (01 a 12)
+     * @throws InvalidValueObjectException se o valor for inválido
+     */
+    public static Coorte criar(String valor) {
+        Matcher matcher = valor != null ? FORMATO.matcher(valor.trim()) : null;
+        if (matcher == null || !matcher.matches()) {
+            throw new InvalidValueObjectException("Coorte inválida: use AAAA-S (semestre) ou AAAA-MM (mês)");
+        }
+        
+        int ano = Integer.parseInt(matcher.group(1));
+        int periodo = Integer.parseInt(matcher.group(2));
+        
+        if (matcher.group(2).length() == 1) {
+            if (periodo < 1 || periodo > 2) {
+                throw new InvalidValueObjectException("Semestre da coorte deve ser 1 ou 2");
+            }
+            return new Coorte(ano, periodo, Periodicidade.SEMESTRAL);
+        }
+        
+        if (periodo < 1 || periodo > 12) {
+            throw new InvalidValueObjectException("Mês da coorte deve estar entre 01 e 12");
+        }
+        return new Coorte(ano, periodo, Periodicidade.MENSAL);
+    }
+    
+    /**
+     * Coorte à qual pertence um aluno criado na data informada
+     */
+    public static Coorte de(LocalDateTime dataCriacao, Periodicidade periodicidade) {
+        if (dataCriacao == null) {
+            throw new InvalidValueObjectException("Data de criação não pode ser nula");
+        }
+        
+        int mes = dataCriacao.getMonthValue();
+        int periodo = periodicidade == Periodicidade.MENSAL ? mes : (mes <= 6 ? 1 : 2);
+        return new Coorte(dataCriacao.getYear(), periodo, periodicidade);
+    }
+    
+    /**
+     * Verifica se um aluno criado na data informada pertence a esta coorte
+     */
+    public boolean contem(LocalDateTime dataCriacao) {
+        return dataCriacao != null && equals(de(dataCriacao, periodicidade));
+    }
+    
+    @Override
+    public int compareTo(Coorte outra) {
+        return ORDEM.compare(this, outra);
+    }
+    
+    @Override
+    public String toString() {
+        return periodicidade == Periodicidade.MENSAL
+                ? String.format("%04d-%02d", ano, periodo)
+                : String.format("%04d-%d", ano, periodo);
+    }
+}
@@ -0,0 +1,126 @@
+package com.devops.projeto_ac2.domain.valueobjects;
+
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Value Object representando o cursor (keyset) de paginação do ranking
+ * 
+ * Guarda a chave da última linha entregue (mediaFinal, cursosAdicionais, id),
+ * a posição dessa linha e quantas linhas já foram entregues, permitindo
+ * continuar o ranking sem OFFSET e sem recalcular as páginas anteriores.
+ * Também guarda se a página era apenas de aprovados: posição e linhas
+ * entregues só valem na mesma lista em que o cursor foi gerado.
+ * Para o cliente é um texto opaco (Base64 URL-safe).
+ * 
+ * Lombok Annotations:
+ * - @Getter: Acesso aos valores
+ * - @EqualsAndHashCode: Comparação por valor
+ */
+@Getter
+@EqualsAndHashCode
+public class CursorRanking {
+    
+    private static final String VERSAO = "r2";
+    
+    private final double mediaFinal;
+    private final int cursosAdicionais;
+    private final long alunoId;
+    private final long posicao;
+    private final long linhasEntregues;
+    private final boolean apenasAprovados;
+    
+    private CursorRanking(
+            double mediaFinal, int cursosAdicionais, long alunoId, long posicao, long linhasEntregues, boolean apenasAprovados) {
+        this.mediaFinal = mediaFinal;
+        this.cursosAdicionais = cursosAdicionais;
+        this.alunoId = alunoId;
+        this.posicao = posicao;
+        this.linhasEntregues = linhasEntregues;
+        this.apenasAprovados = apenasAprovados;
+    }
+    
+    /**
+     * Cria o cursor que aponta para depois da linha informada, no ranking geral
+     */
+    public static CursorRanking criar(double mediaFinal, int cursosAdicionais, long alunoId, long posicao, long linhasEntregues) {
+        return criar(mediaFinal, cursosAdicionais, alunoId, posicao, linhasEntregues, false);
+    }
+    
+    /**
+     * Cria o cursor que aponta para depois da linha informada
+     */
+    public static CursorRanking criar(
+            double mediaFinal, int cursosAdicionais, long alunoId, long posicao, long linhasEntregues, boolean apenasAprovados) {
+        if (posicao < 1 || linhasEntregues < posicao) {
+            throw new InvalidValueObjectException("Cursor de paginação inválido");
+        }
+        return new CursorRanking(mediaFinal, cursosAdicionais, alunoId, posicao, linhasEntregues, apenasAprovados);
+    }
+    
+    /**
+     * Reconstrói o cursor a partir do texto opaco enviado pelo cliente
+     * @throws InvalidValueObjectException se o texto não for um cursor válido
+     */
+    public static CursorRanking decodificar(String valor) {
+        if (valor == null || valor.isBlank()) {
+            throw new InvalidValueObjectException("Cursor de paginação inválido");
+        }
+        
+        String[] partes;
+        try {
+            partes = new String(Base64.getUrlDecoder().decode(valor), StandardCharsets.UTF_8).split(":");
+        } catch (IllegalArgumentException e) {
+            throw new InvalidValueObjectException("Cursor de paginação inválido");
+        }
+        
+        if (partes.length != 7 || !VERSAO.equals(partes[0])) {
+            throw new InvalidValueObjectException("Cursor de paginação inválido");
+        }
+        
+        try {
+            return criar(
+                    Double.parseDouble(partes[1]),
+                    Integer.parseInt(partes[2]),
+                    Long.parseLong(partes[3]),
+                    Long.parseLong(partes[4]),
+                    Long.parseLong(partes[5]),
+                    "1".equals(partes[6]));
+        } catch (NumberFormatException e) {
+            throw new InvalidValueObjectException("Cursor de paginação inválido");
+        }
+    }
+    
+    /**
+     * Gera o texto opaco a ser devolvido ao cliente
+     */
+    public String codificar() {
+        String valor = String.join(":",
+                VERSAO,
+                Double.toString(mediaFinal),
+                Integer.toString(cursosAdicionais),
+                Long.toString(alunoId),
+                Long.toString(posicao),
+                Long.toString(linhasEntregues),
+                apenasAprovados ? "1" : "0");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * @throws InvalidValueObjectException se o cursor foi gerado com outro filtro de aprovados
+     */
+    public void exigirFiltro(boolean apenasAprovados) {
+        if (this.apenasAprovados != apenasAprovados) {
+            throw new InvalidValueObjectException("Cursor de paginação não corresponde ao filtro apenasAprovados");
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return codificar();
+    }
+}
@@ -0,0 +1,75 @@
+package com.devops.projeto_ac2.domain.valueobjects;
+
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Value Object representando a ordenação da listagem paginada de alunos
+ * Formato da API: nome do campo, com "-" na frente para ordem decrescente (ex.: "-mediaFinal").
+ * O ID é sempre o critério de desempate (crescente), garantindo uma ordem total para o keyset.
+ * 
+ * Lombok Annotations:
+ * - @Getter: Acesso aos valores
+ * - @ToString: Representação em string
+ * - @EqualsAndHashCode: Comparação por valor
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class OrdenacaoAlunos {
+    
+    public enum Campo {
+        ID("id"),
+        NOME("nome"),
+        MEDIA_FINAL("mediaFinal");
+        
+        /**
+         * Nome do atributo na entidade (e na API)
+         */
+        @Getter
+        private final String atributo;
+        
+        Campo(String atributo) {
+            this.atributo = atributo;
+        }
+    }
+    
+    private final Campo campo;
+    private final boolean decrescente;
+    
+    private OrdenacaoAlunos(Campo campo, boolean decrescente) {
+        this.campo = campo;
+        this.decrescente = decrescente;
+    }
+    
+    /**
+     * Ordenação padrão: ID crescente
+     */
+    public static OrdenacaoAlunos padrao() {
+        return new OrdenacaoAlunos(Campo.ID, false);
+    }
+    
+    /**
+     * Factory method a partir do texto da API
+     * @param valor "id", "nome" ou "mediaFinal", opcionalmente precedido de "-"
+     * @throws InvalidValueObjectException se o campo não for suportado
+     */
+    public static OrdenacaoAlunos criar(String valor) {
+        if (valor == null || valor.isBlank()) {
+            return padrao();
+        }
+        
+        String texto = valor.trim();
+        boolean decrescente = texto.startsWith("-");
+        String atributo = decrescente ? texto.substring(1) : texto;
+        
+        for (Campo campo : Campo.values()) {
+            if (campo.getAtributo().equals(atributo)) {
+                return new OrdenacaoAlunos(campo, decrescente);
+            }
+        }
+        throw new InvalidValueObjectException("Ordenação inválida: use id, nome ou mediaFinal (prefixo - para decrescente)");
+    }
+}
@@ -0,0 +1,12 @@
+package com.devops.projeto_ac2.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas (@Scheduled), como o refresh do ranking materializado
+ */
+@Configuration
+@EnableScheduling
+public class AgendamentoConfig {
+}
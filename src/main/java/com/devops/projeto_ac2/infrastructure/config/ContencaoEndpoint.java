@@ -0,0 +1,31 @@
+package com.devops.projeto_ac2.infrastructure.config;
+
+import com.devops.projeto_ac2.application.concorrencia.MonitorContencao;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * GET /actuator/contencao - Alunos com mais conflitos de escrita concorrente
+ * Os totais por operação ficam nas métricas alunos.escrita.* (/actuator/metrics)
+ */
+@Component
+@Endpoint(id = "contencao")
+public class ContencaoEndpoint {
+    
+    private static final int LIMITE_PADRAO = 20;
+    
+    private final MonitorContencao monitorContencao;
+    
+    public ContencaoEndpoint(MonitorContencao monitorContencao) {
+        this.monitorContencao = monitorContencao;
+    }
+    
+    @ReadOperation
+    public List<MonitorContencao.AlunoDisputado> maisDisputados(@Nullable Integer limite) {
+        return monitorContencao.maisDisputados(limite != null && limite > 0 ? limite : LIMITE_PADRAO);
+    }
+}
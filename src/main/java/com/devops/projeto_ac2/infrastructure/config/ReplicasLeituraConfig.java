@@ -0,0 +1,85 @@
+package com.devops.projeto_ac2.infrastructure.config;
+
+import com.devops.projeto_ac2.infrastructure.persistence.DataSourceReplicas;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Separação de leitura e escrita: transações somente leitura vão para as réplicas
+ * 
+ * O DataSource da aplicação é um LazyConnectionDataSourceProxy sobre o primário: a
+ * conexão física só é obtida no primeiro comando, quando a transação já marcou a
+ * conexão como somente leitura, e então vem do DataSourceReplicas. Escritas,
+ * migrações e acessos fora de transação usam o primário.
+ * 
+ * Os pools das réplicas usam o driver (e, se não informados, o usuário e a senha)
+ * do spring.datasource.
+ */
+@Configuration
+@ConditionalOnProperty(name = "alunos.replicas.habilitado", havingValue = "true")
+public class ReplicasLeituraConfig {
+    
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimario(DataSourceProperties propriedades) {
+        return propriedades.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+    
+    @Bean
+    public DataSourceReplicas dataSourceReplicas(
+            HikariDataSource dataSourcePrimario,
+            DataSourceProperties propriedades,
+            MeterRegistry meterRegistry,
+            @Value("${alunos.replicas.urls:}") List<String> urls,
+            @Value("${alunos.replicas.usuario:}") String usuario,
+            @Value("${alunos.replicas.senha:}") String senha,
+            @Value("${alunos.replicas.timeout-conexao-ms:1000}") long timeoutConexaoMs,
+            @Value("${alunos.replicas.timeout-validacao-s:2}") int timeoutValidacaoSegundos,
+            @Value("${alunos.replicas.consulta-atraso:}") String consultaAtraso,
+            @Value("${alunos.replicas.atraso-maximo-ms:1000}") long atrasoMaximoMs) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            String nome = "replica-" + (replicas.size() + 1);
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(propriedades.determineDriverClassName())
+                    .url(url.trim())
+                    .username(usuario.isBlank() ? propriedades.determineUsername() : usuario)
+                    .password(usuario.isBlank() ? propriedades.determinePassword() : senha)
+                    .build();
+            replica.setPoolName(nome);
+            // uma réplica fora do ar não pode segurar a requisição antes do desvio para a próxima
+            replica.setConnectionTimeout(Math.max(250, timeoutConexaoMs));
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(nome, replica);
+        }
+        return new DataSourceReplicas(
+                dataSourcePrimario, replicas, timeoutValidacaoSegundos, consultaAtraso, atrasoMaximoMs, meterRegistry);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource dataSourcePrimario, DataSourceReplicas dataSourceReplicas) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(dataSourcePrimario);
+        dataSource.setReadOnlyDataSource(dataSourceReplicas);
+        return dataSource;
+    }
+}
@@ -0,0 +1,191 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.readmodels.AlunoResumo;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Acesso à tabela de arquivo (tb_alunos_arquivo), usado pelo AlunoRepositoryImpl
+ * 
+ * O arquivo não é mapeado como entidade: as linhas são lidas por SQL, como read model,
+ * ou como Aluno por consulta nativa, desanexado e fora do cache de segundo nível
+ * (o ID não está em tb_alunos, então o aluno não pode ser gravado pelo Hibernate).
+ */
+@Repository
+class AlunoArquivoRepository {
+    
+    /**
+     * Colunas comuns a tb_alunos e tb_alunos_arquivo (todas as colunas mapeadas em Aluno)
+     */
+    static final String COLUNAS = """
+            id, nome, ra, media_final, concluiu, cursos_adicionais, tentativas_avaliacao,
+            data_criacao, versao, data_atualizacao, data_conclusao""";
+    
+    private static final String SQL_ALUNOS = "SELECT " + COLUNAS + " FROM tb_alunos_arquivo";
+    
+    /**
+     * Mesmas regras de situação da projeção JPQL (AlunoJpaRepository), sobre as colunas
+     */
+    static final String EXPRESSAO_SITUACAO = AlunoJpaRepository.EXPRESSAO_SITUACAO
+            .replace("a.mediaFinal", "media_final")
+            .replace("a.concluiu", "concluiu");
+    
+    private static final String SQL_RESUMOS = """
+            SELECT id, nome, ra, media_final, concluiu, cursos_adicionais, tentativas_avaliacao,
+                   %d - tentativas_avaliacao AS tentativas_restantes,
+                   %s AS situacao,
+                   data_criacao, data_atualizacao, data_conclusao
+            FROM tb_alunos_arquivo
+            """.formatted(Aluno.MAXIMO_TENTATIVAS, EXPRESSAO_SITUACAO);
+    
+    /**
+     * Bloqueia o lote selecionado: uma remoção concorrente espera o arquivamento terminar
+     */
+    private static final String SQL_SELECIONAR_LOTE = """
+            SELECT id
+            FROM tb_alunos
+            WHERE concluiu = TRUE AND data_conclusao < :limite
+            ORDER BY id
+            LIMIT :lote
+            FOR UPDATE
+            """;
+    
+    private static final String SQL_COPIAR_LOTE = """
+            INSERT INTO tb_alunos_arquivo (%s, data_arquivamento)
+            SELECT %s, :agora
+            FROM tb_alunos
+            WHERE id IN (:ids)
+            """.formatted(COLUNAS, COLUNAS);
+    
+    private static final String SQL_REMOVER_LOTE = "DELETE FROM tb_alunos WHERE id IN (:ids)";
+    
+    /**
+     * AlunoResumo a partir das colunas (tentativas_restantes e situacao já calculadas)
+     */
+    static final RowMapper<AlunoResumo> RESUMO_MAPPER = (rs, rowNum) -> new AlunoResumo(
+            rs.getLong("id"),
+            rs.getString("nome"),
+            rs.getString("ra"),
+            rs.getDouble("media_final"),
+            rs.getBoolean("concluiu"),
+            rs.getInt("cursos_adicionais"),
+            rs.getInt("tentativas_avaliacao"),
+            rs.getInt("tentativas_restantes"),
+            rs.getString("situacao"),
+            rs.getObject("data_criacao", LocalDateTime.class),
+            rs.getObject("data_atualizacao", LocalDateTime.class),
+            rs.getObject("data_conclusao", LocalDateTime.class));
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    
+    AlunoArquivoRepository(NamedParameterJdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+    
+    /**
+     * Todos os arquivados (todos concluídos)
+     */
+    @SuppressWarnings("unchecked")
+    List<Aluno> buscarTodos() {
+        List<Aluno> alunos = entityManager.createNativeQuery(SQL_ALUNOS + " ORDER BY id", Aluno.class)
+                .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+                .getResultList();
+        alunos.forEach(entityManager::detach);
+        return alunos;
+    }
+    
+    Optional<Aluno> buscarPorId(Long id) {
+        return buscar("id = :valores", List.of(id)).stream().findFirst();
+    }
+    
+    List<Aluno> buscarPorIds(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of() : buscar("id IN (:valores)", ids);
+    }
+    
+    Optional<Aluno> buscarPorRA(String ra) {
+        return buscar("ra = :valores", List.of(ra)).stream().findFirst();
+    }
+    
+    List<Aluno> buscarPorRAs(Collection<String> ras) {
+        return ras.isEmpty() ? List.of() : buscar("ra IN (:valores)", ras);
+    }
+    
+    Optional<AlunoResumo> buscarResumoPorId(Long id) {
+        return jdbcTemplate.query(SQL_RESUMOS + " WHERE id = :id", new MapSqlParameterSource("id", id), RESUMO_MAPPER)
+                .stream().findFirst();
+    }
+    
+    Optional<AlunoResumo> buscarResumoPorRA(String ra) {
+        return jdbcTemplate.query(SQL_RESUMOS + " WHERE ra = :ra", new MapSqlParameterSource("ra", ra), RESUMO_MAPPER)
+                .stream().findFirst();
+    }
+    
+    boolean existePorRA(String ra) {
+        return !buscarRAsExistentes(List.of(ra)).isEmpty();
+    }
+    
+    Set<String> buscarRAsExistentes(Collection<String> ras) {
+        if (ras.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT ra FROM tb_alunos_arquivo WHERE ra IN (:ras)", new MapSqlParameterSource("ras", ras), String.class));
+    }
+    
+    long contar() {
+        Long quantidade = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM tb_alunos_arquivo", Long.class);
+        return quantidade != null ? quantidade : 0L;
+    }
+    
+    /**
+     * @return RA do aluno removido, ou vazio se ele não estava no arquivo
+     */
+    Optional<String> deletar(Long id) {
+        MapSqlParameterSource parametros = new MapSqlParameterSource("id", id);
+        Optional<String> ra = jdbcTemplate.queryForList(
+                "SELECT ra FROM tb_alunos_arquivo WHERE id = :id", parametros, String.class).stream().findFirst();
+        ra.ifPresent(valor -> jdbcTemplate.update("DELETE FROM tb_alunos_arquivo WHERE id = :id", parametros));
+        return ra;
+    }
+    
+    /**
+     * Copia o lote para o arquivo e o remove de tb_alunos, na transação corrente
+     */
+    List<Long> arquivarConcluidosAte(LocalDateTime limite, int tamanhoLote) {
+        List<Long> ids = jdbcTemplate.queryForList(SQL_SELECIONAR_LOTE,
+                new MapSqlParameterSource("limite", limite).addValue("lote", tamanhoLote), Long.class);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        
+        MapSqlParameterSource lote = new MapSqlParameterSource("ids", ids).addValue("agora", LocalDateTime.now());
+        jdbcTemplate.update(SQL_COPIAR_LOTE, lote);
+        jdbcTemplate.update(SQL_REMOVER_LOTE, lote);
+        return ids;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<Aluno> buscar(String condicao, Collection<?> valores) {
+        List<Aluno> alunos = entityManager.createNativeQuery(SQL_ALUNOS + " WHERE " + condicao, Aluno.class)
+                .setParameter("valores", valores.size() == 1 ? valores.iterator().next() : valores)
+                .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+                .getResultList();
+        alunos.forEach(entityManager::detach);
+        return alunos;
+    }
+}
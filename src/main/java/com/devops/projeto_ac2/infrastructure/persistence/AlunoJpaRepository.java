@@ -1,11 +1,15 @@
 package com.devops.projeto_ac2.infrastructure.persistence;
 
 import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.readmodels.AlunoResumo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,12 +20,73 @@ import java.util.Optional;
 @Repository
 public interface AlunoJpaRepository extends JpaRepository<Aluno, Long> {
     
+    /**
+     * Situação do aluno calculada pela consulta, com as mesmas regras de
+     * Aluno.aprovado(), reprovado() e emRecuperacao()
+     */
+    String EXPRESSAO_SITUACAO = """
+            CASE
+                WHEN a.concluiu = false AND a.mediaFinal >= 5.0 AND a.mediaFinal < 7.0 THEN 'EM_RECUPERACAO'
+                WHEN a.concluiu = false THEN 'NAO_CONCLUIDO'
+                WHEN a.mediaFinal >= 7.0 THEN 'APROVADO'
+                WHEN a.mediaFinal < 5.0 THEN 'REPROVADO'
+                ELSE 'EM_RECUPERACAO'
+            END""";
+    
+    String EXPRESSAO_TENTATIVAS_RESTANTES = Aluno.MAXIMO_TENTATIVAS + " - a.tentativasAvaliacao";
+    
+    /**
+     * Projeção de leitura direto no record AlunoResumo, sem hidratar entidades
+     */
+    String SELECT_RESUMO = "SELECT new com.devops.projeto_ac2.domain.readmodels.AlunoResumo("
+            + "a.id, a.nome, a.registroAcademico.valor, a.mediaFinal, a.concluiu, "
+            + "a.cursosAdicionais, a.tentativasAvaliacao, " + EXPRESSAO_TENTATIVAS_RESTANTES + ", "
+            + EXPRESSAO_SITUACAO + ", "
+            + "a.dataCriacao, a.dataAtualizacao, a.dataConclusao) FROM Aluno a";
+    
+    @Query(SELECT_RESUMO + " WHERE a.id = :id")
+    Optional<AlunoResumo> findResumoById(@Param("id") Long id);
+    
     @Query("SELECT a FROM Aluno a WHERE a.registroAcademico.valor = :ra")
     Optional<Aluno> findByRA(@Param("ra") String ra);
     
+    @Query(SELECT_RESUMO + " WHERE a.registroAcademico.valor = :ra")
+    Optional<AlunoResumo> findResumoByRA(@Param("ra") String ra);
+    
     @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM Aluno a WHERE a.registroAcademico.valor = :ra")
     boolean existsByRA(@Param("ra") String ra);
     
+    @Query("SELECT a.registroAcademico.valor FROM Aluno a WHERE a.registroAcademico.valor IN :ras")
+    List<String> findRAsExistentes(@Param("ras") Collection<String> ras);
+    
+    @Query("SELECT a FROM Aluno a WHERE a.registroAcademico.valor IN :ras")
+    List<Aluno> findByRAs(@Param("ras") Collection<String> ras);
+    
+    /**
+     * Registra a tentativa em um único UPDATE condicional, com as mesmas condições de
+     * Aluno.registrarTentativa: a linha só é alterada se o aluno não concluiu e ainda
+     * tem tentativas, então requisições concorrentes nunca passam do limite.
+     * A versão é incrementada para que gravações pela entidade baseadas na leitura
+     * anterior falhem
+     * 
+     * Por ser um UPDATE em massa, o Hibernate descarta a região inteira de Aluno no
+     * cache de segundo nível (não só a linha alterada) a cada tentativa registrada.
+     * O cache de alunos por ID (CacheAlunos) não é afetado: ele é invalidado por aluno
+     * 
+     * @param maximoTentativas Sempre Aluno.MAXIMO_TENTATIVAS (recebido como parâmetro
+     *                         para que o limite tenha uma única definição)
+     * @return 1 se a tentativa foi registrada, 0 se o aluno não existe ou não pode registrá-la
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Aluno a SET a.tentativasAvaliacao = a.tentativasAvaliacao + 1, a.mediaFinal = :nota, "
+            + "a.dataAtualizacao = :agora, a.versao = a.versao + 1 "
+            + "WHERE a.id = :id AND a.concluiu = false AND a.tentativasAvaliacao < :maximoTentativas")
+    int registrarTentativaSeDisponivel(
+            @Param("id") Long id,
+            @Param("nota") double nota,
+            @Param("agora") LocalDateTime agora,
+            @Param("maximoTentativas") int maximoTentativas);
+    
     @Query("SELECT a FROM Aluno a WHERE a.concluiu = true")
     List<Aluno> findConcluidos();
     
@@ -1,38 +1,469 @@
 package com.devops.projeto_ac2.infrastructure.persistence;
 
 import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.events.AlunoRemovidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunosArquivadosEvent;
+import com.devops.projeto_ac2.domain.events.AlunoSalvoEvent;
+import com.devops.projeto_ac2.domain.readmodels.AlunoParcial;
+import com.devops.projeto_ac2.domain.readmodels.AlunoResumo;
+import com.devops.projeto_ac2.domain.readmodels.CampoAluno;
+import com.devops.projeto_ac2.domain.readmodels.EntradaRanking;
+import com.devops.projeto_ac2.domain.readmodels.PosicaoRanking;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.CursorRanking;
+import com.devops.projeto_ac2.domain.valueobjects.OrdenacaoAlunos;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Tuple;
+import org.hibernate.Cache;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Savepoint;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adapter do AlunoRepository (interface do domínio) para AlunoJpaRepository (Spring Data JPA)
  * Seguindo Clean Architecture: implementação na infraestrutura, interface no domínio
+ * 
+ * Toda escrita publica um evento de domínio, consumido após o commit
+ * pelas estruturas em memória (ex.: índice de ranking)
+ * 
+ * As buscas por ID e por RA que não encontram o aluno em tb_alunos consultam o
+ * arquivo (AlunoArquivoRepository); como o arquivo só recebe alunos antigos, o
+ * caminho comum continua sendo uma única consulta à tabela ativa. As consultas que
+ * significam "todos" ou "concluídos" (listagem, exportação, buscarConcluidos) leem
+ * as duas tabelas com UNION ALL; só as que pedem alunos não concluídos ficam na ativa.
  */
 @Component
 public class AlunoRepositoryImpl implements AlunoRepository {
     
+    /**
+     * Primeira página do ranking: RANK() calculado apenas sobre as linhas da página,
+     * que já são as primeiras do ranking
+     */
+    private static final String SQL_PRIMEIRA_PAGINA_RANKING = """
+            SELECT id, nome, ra, media_final, cursos_adicionais, concluiu, data_criacao, versao,
+                   RANK() OVER (ORDER BY media_final DESC, cursos_adicionais DESC) AS posicao
+            FROM (
+                SELECT id, nome, ra, media_final, cursos_adicionais, concluiu, data_criacao, versao
+                FROM %s
+                ORDER BY media_final DESC, cursos_adicionais DESC, id
+                LIMIT :limite
+            ) pagina
+            ORDER BY media_final DESC, cursos_adicionais DESC, id
+            """;
+    
+    /**
+     * Páginas seguintes: o keyset (media_final, cursos_adicionais, id) posiciona a
+     * leitura direto após a última linha entregue e o RANK() da página é deslocado
+     * pela quantidade de linhas já entregues. Linhas empatadas com a última linha
+     * da página anterior herdam a posição dela.
+     */
+    private static final String SQL_PROXIMA_PAGINA_RANKING = """
+            SELECT id, nome, ra, media_final, cursos_adicionais, concluiu, data_criacao, versao,
+                   CASE
+                       WHEN media_final = :media AND cursos_adicionais = :cursos THEN CAST(:posicao AS BIGINT)
+                       ELSE CAST(:linhas AS BIGINT) + RANK() OVER (ORDER BY media_final DESC, cursos_adicionais DESC)
+                   END AS posicao
+            FROM (
+                SELECT id, nome, ra, media_final, cursos_adicionais, concluiu, data_criacao, versao
+                FROM %s
+                WHERE media_final < :media
+                   OR (media_final = :media AND cursos_adicionais < :cursos)
+                   OR (media_final = :media AND cursos_adicionais = :cursos AND id > :id)
+                ORDER BY media_final DESC, cursos_adicionais DESC, id
+                LIMIT :limite
+            ) pagina
+            ORDER BY media_final DESC, cursos_adicionais DESC, id
+            """;
+    
+    private static final String SQL_ENTRADAS_RANKING = """
+            SELECT id, nome, ra, media_final, cursos_adicionais, concluiu, data_criacao, versao
+            FROM %s
+            ORDER BY media_final DESC, cursos_adicionais DESC, id
+            """;
+    
+    /**
+     * Origem das consultas de ranking quando os arquivados também são ranqueados
+     */
+    private static final String ORIGEM_RANKING_COM_ARQUIVO = """
+            (
+                    SELECT id, nome, ra, media_final, cursos_adicionais, concluiu, data_criacao, versao FROM tb_alunos
+                    UNION ALL
+                    SELECT id, nome, ra, media_final, cursos_adicionais, concluiu, data_criacao, versao FROM tb_alunos_arquivo
+                ) alunos""";
+    
+    /**
+     * Restringe a origem aos aprovados, com a mesma regra de Aluno.aprovado()
+     */
+    private static final String ORIGEM_APENAS_APROVADOS = """
+            (
+                    SELECT id, nome, ra, media_final, cursos_adicionais, concluiu, data_criacao, versao
+                    FROM %s
+                    WHERE concluiu = TRUE AND media_final >= 7.0
+                ) aprovados""";
+    
+    /**
+     * Todos os alunos, ativos e arquivados, na ordem do ID (exportação)
+     */
+    private static final String SQL_TODOS_ALUNOS = """
+            SELECT %1$s FROM tb_alunos
+            UNION ALL
+            SELECT %1$s FROM tb_alunos_arquivo
+            ORDER BY id
+            """.formatted(AlunoArquivoRepository.COLUNAS);
+    
+    /**
+     * Origem da listagem quando ela inclui concluídos (todos ou apenas concluídos)
+     */
+    private static final String ORIGEM_LISTAGEM_COM_ARQUIVO = """
+            (
+                    SELECT %1$s FROM tb_alunos
+                    UNION ALL
+                    SELECT %1$s FROM tb_alunos_arquivo
+                ) a""".formatted(AlunoArquivoRepository.COLUNAS);
+    
+    /**
+     * Valor do campo de ordenação na linha do cursor, procurada nas duas tabelas:
+     * o aluno pode ter sido arquivado entre duas páginas
+     */
+    private static final String SQL_REFERENCIA_CURSOR = """
+            (SELECT r.%1$s FROM (
+                    SELECT %1$s FROM tb_alunos WHERE id = :aposId
+                    UNION ALL
+                    SELECT %1$s FROM tb_alunos_arquivo WHERE id = :aposId
+                ) r)""";
+    
+    private static final String SQL_TODOS_RAS = "SELECT ra FROM tb_alunos UNION ALL SELECT ra FROM tb_alunos_arquivo";
+    
+    private static final String SQL_TODOS_RAS_COM_ID =
+            "SELECT id, ra FROM tb_alunos UNION ALL SELECT id, ra FROM tb_alunos_arquivo";
+    
+    private static final RowMapper<EntradaRanking> ENTRADA_RANKING_MAPPER = (rs, rowNum) -> new EntradaRanking(
+            rs.getLong("id"),
+            rs.getString("nome"),
+            rs.getString("ra"),
+            rs.getDouble("media_final"),
+            rs.getInt("cursos_adicionais"),
+            rs.getBoolean("concluiu"),
+            rs.getObject("data_criacao", LocalDateTime.class),
+            rs.getLong("versao"));
+    
+    private static final RowMapper<PosicaoRanking> POSICAO_RANKING_MAPPER = (rs, rowNum) -> new PosicaoRanking(
+            (int) rs.getLong("posicao"),
+            ENTRADA_RANKING_MAPPER.mapRow(rs, rowNum));
+    
+    /**
+     * Alunos enviados ao banco por flush na gravação em lote: mesmo valor de
+     * hibernate.jdbc.batch_size e do bloco de IDs da sequência
+     */
+    private static final int TAMANHO_LOTE_INSERCAO = 50;
+    
+    /**
+     * Linhas buscadas por ida ao banco na exportação
+     */
+    private static final int TAMANHO_LOTE_LEITURA = 500;
+    
+    /**
+     * Máximo de RAs por cláusula IN (limite seguro entre os bancos suportados)
+     */
+    private static final int TAMANHO_MAXIMO_IN = 1000;
+    
+    /**
+     * Expressão JPQL de cada campo selecionável, para consultas apenas com os campos pedidos
+     */
+    private static final Map<CampoAluno, String> EXPRESSOES_CAMPOS = new EnumMap<>(Map.ofEntries(
+            Map.entry(CampoAluno.ID, "a.id"),
+            Map.entry(CampoAluno.NOME, "a.nome"),
+            Map.entry(CampoAluno.RA, "a.registroAcademico.valor"),
+            Map.entry(CampoAluno.MEDIA_FINAL, "a.mediaFinal"),
+            Map.entry(CampoAluno.CONCLUIU, "a.concluiu"),
+            Map.entry(CampoAluno.CURSOS_ADICIONAIS, "a.cursosAdicionais"),
+            Map.entry(CampoAluno.TENTATIVAS_AVALIACAO, "a.tentativasAvaliacao"),
+            Map.entry(CampoAluno.TENTATIVAS_RESTANTES, AlunoJpaRepository.EXPRESSAO_TENTATIVAS_RESTANTES),
+            Map.entry(CampoAluno.SITUACAO, AlunoJpaRepository.EXPRESSAO_SITUACAO),
+            Map.entry(CampoAluno.DATA_CRIACAO, "a.dataCriacao"),
+            Map.entry(CampoAluno.DATA_ATUALIZACAO, "a.dataAtualizacao"),
+            Map.entry(CampoAluno.DATA_CONCLUSAO, "a.dataConclusao")));
+    
+    /**
+     * Expressão SQL de cada campo selecionável, sobre as colunas comuns às duas tabelas;
+     * o apelido de cada campo é o seu nome em minúsculas (o mesmo lido por RESUMO_MAPPER)
+     */
+    private static final Map<CampoAluno, String> COLUNAS_CAMPOS = new EnumMap<>(Map.ofEntries(
+            Map.entry(CampoAluno.ID, "id"),
+            Map.entry(CampoAluno.NOME, "nome"),
+            Map.entry(CampoAluno.RA, "ra"),
+            Map.entry(CampoAluno.MEDIA_FINAL, "media_final"),
+            Map.entry(CampoAluno.CONCLUIU, "concluiu"),
+            Map.entry(CampoAluno.CURSOS_ADICIONAIS, "cursos_adicionais"),
+            Map.entry(CampoAluno.TENTATIVAS_AVALIACAO, "tentativas_avaliacao"),
+            Map.entry(CampoAluno.TENTATIVAS_RESTANTES, Aluno.MAXIMO_TENTATIVAS + " - tentativas_avaliacao"),
+            Map.entry(CampoAluno.SITUACAO, AlunoArquivoRepository.EXPRESSAO_SITUACAO),
+            Map.entry(CampoAluno.DATA_CRIACAO, "data_criacao"),
+            Map.entry(CampoAluno.DATA_ATUALIZACAO, "data_atualizacao"),
+            Map.entry(CampoAluno.DATA_CONCLUSAO, "data_conclusao")));
+    
+    /**
+     * Tipo Java de cada campo selecionável, o mesmo da projeção JPQL
+     */
+    private static final Map<CampoAluno, Class<?>> TIPOS_CAMPOS = new EnumMap<>(Map.ofEntries(
+            Map.entry(CampoAluno.ID, Long.class),
+            Map.entry(CampoAluno.NOME, String.class),
+            Map.entry(CampoAluno.RA, String.class),
+            Map.entry(CampoAluno.MEDIA_FINAL, Double.class),
+            Map.entry(CampoAluno.CONCLUIU, Boolean.class),
+            Map.entry(CampoAluno.CURSOS_ADICIONAIS, Integer.class),
+            Map.entry(CampoAluno.TENTATIVAS_AVALIACAO, Integer.class),
+            Map.entry(CampoAluno.TENTATIVAS_RESTANTES, Integer.class),
+            Map.entry(CampoAluno.SITUACAO, String.class),
+            Map.entry(CampoAluno.DATA_CRIACAO, LocalDateTime.class),
+            Map.entry(CampoAluno.DATA_ATUALIZACAO, LocalDateTime.class),
+            Map.entry(CampoAluno.DATA_CONCLUSAO, LocalDateTime.class)));
+    
+    /**
+     * Coluna de cada campo de ordenação da listagem
+     */
+    private static final Map<OrdenacaoAlunos.Campo, String> COLUNAS_ORDENACAO = new EnumMap<>(Map.of(
+            OrdenacaoAlunos.Campo.ID, "id",
+            OrdenacaoAlunos.Campo.NOME, "nome",
+            OrdenacaoAlunos.Campo.MEDIA_FINAL, "media_final"));
+    
+    /**
+     * Valor de cada campo selecionável no read model, para os alunos lidos do arquivo
+     */
+    private static final Map<CampoAluno, Function<AlunoResumo, Object>> VALORES_CAMPOS = new EnumMap<>(Map.ofEntries(
+            Map.entry(CampoAluno.ID, AlunoResumo::id),
+            Map.entry(CampoAluno.NOME, AlunoResumo::nome),
+            Map.entry(CampoAluno.RA, AlunoResumo::ra),
+            Map.entry(CampoAluno.MEDIA_FINAL, AlunoResumo::mediaFinal),
+            Map.entry(CampoAluno.CONCLUIU, AlunoResumo::concluiu),
+            Map.entry(CampoAluno.CURSOS_ADICIONAIS, AlunoResumo::cursosAdicionais),
+            Map.entry(CampoAluno.TENTATIVAS_AVALIACAO, AlunoResumo::tentativasAvaliacao),
+            Map.entry(CampoAluno.TENTATIVAS_RESTANTES, AlunoResumo::tentativasRestantes),
+            Map.entry(CampoAluno.SITUACAO, AlunoResumo::situacao),
+            Map.entry(CampoAluno.DATA_CRIACAO, AlunoResumo::dataCriacao),
+            Map.entry(CampoAluno.DATA_ATUALIZACAO, AlunoResumo::dataAtualizacao),
+            Map.entry(CampoAluno.DATA_CONCLUSAO, AlunoResumo::dataConclusao)));
+    
     private final AlunoJpaRepository jpaRepository;
+    private final AlunoArquivoRepository arquivo;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * Quando false, os alunos arquivados saem do ranking
+     */
+    private final boolean rankingIncluiArquivados;
+    
+    private final String sqlPrimeiraPaginaRanking;
+    private final String sqlProximaPaginaRanking;
+    private final String sqlPrimeiraPaginaAprovados;
+    private final String sqlProximaPaginaAprovados;
+    private final String sqlEntradasRanking;
     
-    public AlunoRepositoryImpl(AlunoJpaRepository jpaRepository) {
+    public AlunoRepositoryImpl(
+            AlunoJpaRepository jpaRepository,
+            AlunoArquivoRepository arquivo,
+            NamedParameterJdbcTemplate jdbcTemplate,
+            EntityManager entityManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${alunos.arquivo.ranking-inclui-arquivados:false}") boolean rankingIncluiArquivados) {
         this.jpaRepository = jpaRepository;
+        this.arquivo = arquivo;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.rankingIncluiArquivados = rankingIncluiArquivados;
+        
+        String origemRanking = rankingIncluiArquivados ? ORIGEM_RANKING_COM_ARQUIVO : "tb_alunos";
+        this.sqlPrimeiraPaginaRanking = SQL_PRIMEIRA_PAGINA_RANKING.formatted(origemRanking);
+        this.sqlProximaPaginaRanking = SQL_PROXIMA_PAGINA_RANKING.formatted(origemRanking);
+        String origemAprovados = ORIGEM_APENAS_APROVADOS.formatted(origemRanking);
+        this.sqlPrimeiraPaginaAprovados = SQL_PRIMEIRA_PAGINA_RANKING.formatted(origemAprovados);
+        this.sqlProximaPaginaAprovados = SQL_PROXIMA_PAGINA_RANKING.formatted(origemAprovados);
+        this.sqlEntradasRanking = SQL_ENTRADAS_RANKING.formatted(origemRanking);
     }
     
     @Override
     public Aluno salvar(Aluno aluno) {
-        return jpaRepository.save(aluno);
+        Aluno salvo = jpaRepository.save(aluno);
+        eventPublisher.publishEvent(new AlunoSalvoEvent(salvo));
+        return salvo;
+    }
+    
+    /**
+     * O INSERT é feito por uma StatelessSession sobre a mesma conexão (e transação)
+     * da sessão atual: a falha fica fora do contexto de persistência, que o Hibernate
+     * marcaria como rollback-only. O savepoint desfaz apenas o INSERT recusado; a
+     * duplicidade é confirmada pelo RA, para não confundir com outras violações.
+     * A unique constraint não alcança o arquivo, então um RA arquivado é verificado antes.
+     */
+    @Override
+    public Optional<Aluno> inserirSeRALivre(Aluno aluno) {
+        if (arquivo.existePorRA(aluno.getRegistroAcademico().getValor())) {
+            return Optional.empty();
+        }
+        Session sessao = entityManager.unwrap(Session.class);
+        boolean inserido = sessao.doReturningWork(conexao -> {
+            Savepoint savepoint = conexao.setSavepoint();
+            try (StatelessSession insercao = sessao.getSessionFactory()
+                    .withStatelessOptions()
+                    .connection(conexao)
+                    .openStatelessSession()) {
+                insercao.insert(aluno);
+            } catch (PersistenceException e) {
+                conexao.rollback(savepoint);
+                if (jpaRepository.existsByRA(aluno.getRegistroAcademico().getValor())) {
+                    return false;
+                }
+                throw e;
+            }
+            conexao.releaseSavepoint(savepoint);
+            return true;
+        });
+        
+        if (!inserido) {
+            return Optional.empty();
+        }
+        eventPublisher.publishEvent(new AlunoSalvoEvent(aluno));
+        return Optional.of(aluno);
+    }
+    
+    /**
+     * Cada flush envia um lote de INSERTs; a sessão é limpa em seguida para que
+     * lotes grandes não acumulem entidades gerenciadas em memória
+     */
+    @Override
+    public List<Aluno> salvarTodos(List<Aluno> alunos) {
+        List<Aluno> salvos = new ArrayList<>(alunos.size());
+        for (Aluno aluno : alunos) {
+            entityManager.persist(aluno);
+            salvos.add(aluno);
+            if (salvos.size() % TAMANHO_LOTE_INSERCAO == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        
+        salvos.forEach(aluno -> eventPublisher.publishEvent(new AlunoSalvoEvent(aluno)));
+        return salvos;
+    }
+    
+    /**
+     * Alunos carregados na mesma transação já estão gerenciados: o flush envia as
+     * alterações detectadas como UPDATEs em lote (hibernate.jdbc.batch_size).
+     * Alunos desanexados são reanexados com merge antes
+     */
+    @Override
+    public List<Aluno> atualizarTodos(List<Aluno> alunos) {
+        List<Aluno> atualizados = new ArrayList<>(alunos.size());
+        for (Aluno aluno : alunos) {
+            atualizados.add(entityManager.contains(aluno) ? aluno : entityManager.merge(aluno));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        
+        atualizados.forEach(aluno -> eventPublisher.publishEvent(new AlunoSalvoEvent(aluno)));
+        return atualizados;
+    }
+    
+    /**
+     * A linha é lida de volta apenas quando o UPDATE a alterou: o aluno atualizado
+     * é a resposta da requisição e o conteúdo do evento
+     */
+    @Override
+    public Optional<Aluno> registrarTentativaSeDisponivel(Long id, double nota) {
+        if (jpaRepository.registrarTentativaSeDisponivel(id, nota, LocalDateTime.now(), Aluno.MAXIMO_TENTATIVAS) == 0) {
+            return Optional.empty();
+        }
+        Optional<Aluno> atualizado = jpaRepository.findById(id);
+        atualizado.ifPresent(aluno -> eventPublisher.publishEvent(new AlunoSalvoEvent(aluno)));
+        return atualizado;
     }
     
     @Override
     public Optional<Aluno> buscarPorId(Long id) {
-        return jpaRepository.findById(id);
+        return jpaRepository.findById(id).or(() -> arquivo.buscarPorId(id));
+    }
+    
+    @Override
+    public Optional<AlunoResumo> buscarResumoPorId(Long id) {
+        return jpaRepository.findResumoById(id).or(() -> arquivo.buscarResumoPorId(id));
+    }
+    
+    /**
+     * Apenas os IDs não encontrados na tabela ativa são procurados no arquivo
+     */
+    @Override
+    public List<Aluno> buscarPorIds(Collection<Long> ids) {
+        List<Aluno> encontrados = new ArrayList<>(jpaRepository.findAllById(ids));
+        if (encontrados.size() < ids.size()) {
+            Set<Long> ativos = encontrados.stream().map(Aluno::getId).collect(Collectors.toSet());
+            List<Long> ausentes = ids.stream().filter(id -> !ativos.contains(id)).distinct().toList();
+            for (int inicio = 0; inicio < ausentes.size(); inicio += TAMANHO_MAXIMO_IN) {
+                encontrados.addAll(arquivo.buscarPorIds(
+                        ausentes.subList(inicio, Math.min(inicio + TAMANHO_MAXIMO_IN, ausentes.size()))));
+            }
+        }
+        return encontrados;
     }
     
     @Override
     public Optional<Aluno> buscarPorRA(String ra) {
-        return jpaRepository.findByRA(ra);
+        return jpaRepository.findByRA(ra).or(() -> arquivo.buscarPorRA(ra));
+    }
+    
+    @Override
+    public Optional<AlunoResumo> buscarResumoPorRA(String ra) {
+        return jpaRepository.findResumoByRA(ra).or(() -> arquivo.buscarResumoPorRA(ra));
+    }
+    
+    @Override
+    public List<Aluno> buscarPorRAs(Collection<String> ras) {
+        List<String> pendentes = List.copyOf(ras);
+        List<Aluno> encontrados = new ArrayList<>(pendentes.size());
+        for (int inicio = 0; inicio < pendentes.size(); inicio += TAMANHO_MAXIMO_IN) {
+            List<String> bloco = pendentes.subList(inicio, Math.min(inicio + TAMANHO_MAXIMO_IN, pendentes.size()));
+            List<Aluno> ativos = jpaRepository.findByRAs(bloco);
+            encontrados.addAll(ativos);
+            if (ativos.size() < bloco.size()) {
+                Set<String> rasAtivos = ativos.stream()
+                        .map(aluno -> aluno.getRegistroAcademico().getValor())
+                        .collect(Collectors.toSet());
+                encontrados.addAll(arquivo.buscarPorRAs(bloco.stream().filter(ra -> !rasAtivos.contains(ra)).toList()));
+            }
+        }
+        return encontrados;
     }
     
     @Override
@@ -40,9 +471,50 @@ public class AlunoRepositoryImpl implements AlunoRepository {
         return jpaRepository.findAll();
     }
     
+    /**
+     * Ativos e arquivados em um único cursor do banco, na ordem do ID: as linhas são
+     * lidas em lotes (fetch size), sem snapshot para dirty checking e sem passar pelo
+     * cache de segundo nível, para uma varredura completa não expulsar os alunos quentes
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void paraCadaAluno(Consumer<Aluno> consumidor) {
+        Stream<Aluno> todos = entityManager.createNativeQuery(SQL_TODOS_ALUNOS, Aluno.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, TAMANHO_LOTE_LEITURA)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+                .getResultStream();
+        try (Stream<Aluno> alunos = todos) {
+            alunos.forEach(aluno -> {
+                consumidor.accept(aluno);
+                // Mantém o contexto de persistência vazio: memória constante para qualquer volume
+                entityManager.detach(aluno);
+            });
+        }
+    }
+    
+    @Override
+    public void paraCadaRA(Consumer<String> consumidor) {
+        RowCallbackHandler porLinha = rs -> consumidor.accept(rs.getString("ra"));
+        jdbcTemplate.query(SQL_TODOS_RAS, porLinha);
+    }
+    
+    @Override
+    public void paraCadaRAComId(BiConsumer<String, Long> consumidor) {
+        RowCallbackHandler porLinha = rs -> consumidor.accept(rs.getString("ra"), rs.getLong("id"));
+        jdbcTemplate.query(SQL_TODOS_RAS_COM_ID, porLinha);
+    }
+    
+    @Override
+    public long contar() {
+        return jpaRepository.count() + arquivo.contar();
+    }
+    
     @Override
     public List<Aluno> buscarConcluidos() {
-        return jpaRepository.findConcluidos();
+        List<Aluno> concluidos = new ArrayList<>(jpaRepository.findConcluidos());
+        concluidos.addAll(arquivo.buscarTodos());
+        return concluidos;
     }
     
     @Override
@@ -50,13 +522,208 @@ public class AlunoRepositoryImpl implements AlunoRepository {
         return jpaRepository.findNaoConcluidos();
     }
     
+    @Override
+    public Optional<AlunoParcial> buscarParcialPorId(Long id, Set<CampoAluno> campos) {
+        List<CampoAluno> selecionados = comId(campos);
+        return entityManager.createQuery(selectParcial(selecionados) + " WHERE a.id = :id", Tuple.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst()
+                .map(tupla -> paraParcial(tupla, selecionados))
+                .or(() -> arquivo.buscarResumoPorId(id).map(resumo -> paraParcial(resumo, selecionados)));
+    }
+    
+    @Override
+    public List<AlunoResumo> buscarPagina(Boolean concluido, Long aposId, int limite, OrdenacaoAlunos ordenacao) {
+        enviarAlteracoesPendentes();
+        String sql = selectColunas(EnumSet.allOf(CampoAluno.class)) + filtroPagina(concluido, aposId, ordenacao);
+        return jdbcTemplate.query(sql, parametrosPagina(concluido, aposId, limite), AlunoArquivoRepository.RESUMO_MAPPER);
+    }
+    
+    @Override
+    public List<AlunoParcial> buscarPaginaParcial(
+            Set<CampoAluno> campos, Boolean concluido, Long aposId, int limite, OrdenacaoAlunos ordenacao) {
+        enviarAlteracoesPendentes();
+        List<CampoAluno> selecionados = comId(campos);
+        String sql = selectColunas(selecionados) + filtroPagina(concluido, aposId, ordenacao);
+        RowMapper<AlunoParcial> porLinha = (rs, rowNum) -> {
+            Map<CampoAluno, Object> valores = new EnumMap<>(CampoAluno.class);
+            for (CampoAluno campo : selecionados) {
+                valores.put(campo, rs.getObject(apelido(campo), TIPOS_CAMPOS.get(campo)));
+            }
+            return new AlunoParcial(valores);
+        };
+        return jdbcTemplate.query(sql, parametrosPagina(concluido, aposId, limite), porLinha);
+    }
+    
+    /**
+     * Origem, filtro e ordenação da paginação por keyset
+     * 
+     * Com concluido=false a leitura fica em tb_alunos (o arquivo só tem concluídos);
+     * nos demais casos inclui o arquivo. O campo de ordenação vem de um enum (nunca
+     * do texto do cliente), então o SQL é montado com segurança. O valor do campo na
+     * linha de referência é lido por subconsulta, permitindo que o cursor seja apenas
+     * o ID do último aluno entregue.
+     */
+    private String filtroPagina(Boolean concluido, Long aposId, OrdenacaoAlunos ordenacao) {
+        String campo = "a." + COLUNAS_ORDENACAO.get(ordenacao.getCampo());
+        String direcao = ordenacao.isDecrescente() ? "DESC" : "ASC";
+        
+        StringBuilder sql = new StringBuilder(" FROM ")
+                .append(Boolean.FALSE.equals(concluido) ? "tb_alunos a" : ORIGEM_LISTAGEM_COM_ARQUIVO)
+                .append(" WHERE 1 = 1");
+        if (concluido != null) {
+            sql.append(" AND a.concluiu = :concluido");
+        }
+        if (aposId != null) {
+            if (ordenacao.getCampo() == OrdenacaoAlunos.Campo.ID) {
+                sql.append(ordenacao.isDecrescente() ? " AND a.id < :aposId" : " AND a.id > :aposId");
+            } else {
+                String referencia = SQL_REFERENCIA_CURSOR.formatted(COLUNAS_ORDENACAO.get(ordenacao.getCampo()));
+                sql.append(" AND (").append(campo).append(ordenacao.isDecrescente() ? " < " : " > ").append(referencia)
+                        .append(" OR (").append(campo).append(" = ").append(referencia).append(" AND a.id > :aposId))");
+            }
+        }
+        sql.append(" ORDER BY ").append(campo).append(' ').append(direcao);
+        if (ordenacao.getCampo() != OrdenacaoAlunos.Campo.ID) {
+            sql.append(", a.id ASC");
+        }
+        return sql.append(" LIMIT :limite").toString();
+    }
+    
+    private static MapSqlParameterSource parametrosPagina(Boolean concluido, Long aposId, int limite) {
+        MapSqlParameterSource parametros = new MapSqlParameterSource("limite", limite);
+        if (concluido != null) {
+            parametros.addValue("concluido", concluido);
+        }
+        if (aposId != null) {
+            parametros.addValue("aposId", aposId);
+        }
+        return parametros;
+    }
+    
+    private static String selectColunas(Collection<CampoAluno> campos) {
+        return campos.stream()
+                .map(campo -> COLUNAS_CAMPOS.get(campo) + " AS " + apelido(campo))
+                .collect(Collectors.joining(", ", "SELECT ", ""));
+    }
+    
+    private static String apelido(CampoAluno campo) {
+        return campo.name().toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Campos pedidos mais o ID (cursor da paginação), na ordem do enum
+     */
+    private static List<CampoAluno> comId(Set<CampoAluno> campos) {
+        EnumSet<CampoAluno> selecionados = EnumSet.of(CampoAluno.ID);
+        selecionados.addAll(campos);
+        return new ArrayList<>(selecionados);
+    }
+    
+    private static String selectParcial(List<CampoAluno> campos) {
+        return campos.stream()
+                .map(EXPRESSOES_CAMPOS::get)
+                .collect(Collectors.joining(", ", "SELECT ", " FROM Aluno a"));
+    }
+    
+    private static AlunoParcial paraParcial(Tuple tupla, List<CampoAluno> campos) {
+        Map<CampoAluno, Object> valores = new EnumMap<>(CampoAluno.class);
+        for (int i = 0; i < campos.size(); i++) {
+            valores.put(campos.get(i), tupla.get(i));
+        }
+        return new AlunoParcial(valores);
+    }
+    
+    private static AlunoParcial paraParcial(AlunoResumo resumo, List<CampoAluno> campos) {
+        Map<CampoAluno, Object> valores = new EnumMap<>(CampoAluno.class);
+        for (CampoAluno campo : campos) {
+            valores.put(campo, VALORES_CAMPOS.get(campo).apply(resumo));
+        }
+        return new AlunoParcial(valores);
+    }
+    
+    @Override
+    public List<PosicaoRanking> buscarPaginaRanking(CursorRanking apos, int limite, boolean apenasAprovados) {
+        enviarAlteracoesPendentes();
+        MapSqlParameterSource parametros = new MapSqlParameterSource("limite", limite);
+        
+        if (apos == null) {
+            return jdbcTemplate.query(
+                    apenasAprovados ? sqlPrimeiraPaginaAprovados : sqlPrimeiraPaginaRanking, parametros, POSICAO_RANKING_MAPPER);
+        }
+        
+        parametros.addValue("media", apos.getMediaFinal())
+                .addValue("cursos", apos.getCursosAdicionais())
+                .addValue("id", apos.getAlunoId())
+                .addValue("posicao", apos.getPosicao())
+                .addValue("linhas", apos.getLinhasEntregues());
+        return jdbcTemplate.query(
+                apenasAprovados ? sqlProximaPaginaAprovados : sqlProximaPaginaRanking, parametros, POSICAO_RANKING_MAPPER);
+    }
+    
+    @Override
+    public List<EntradaRanking> buscarEntradasRanking() {
+        enviarAlteracoesPendentes();
+        return jdbcTemplate.query(sqlEntradasRanking, ENTRADA_RANKING_MAPPER);
+    }
+    
+    /**
+     * As consultas por JDBC não passam pelo contexto de persistência: com o gerador de
+     * sequência o INSERT só sai no flush, então alunos gravados na mesma transação são
+     * enviados antes para que a consulta os enxergue
+     */
+    private void enviarAlteracoesPendentes() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+        }
+    }
+    
     @Override
     public boolean existePorRA(String ra) {
-        return jpaRepository.existsByRA(ra);
+        return jpaRepository.existsByRA(ra) || arquivo.existePorRA(ra);
+    }
+    
+    @Override
+    public Set<String> buscarRAsExistentes(Collection<String> ras) {
+        List<String> pendentes = List.copyOf(ras);
+        Set<String> existentes = new HashSet<>();
+        for (int inicio = 0; inicio < pendentes.size(); inicio += TAMANHO_MAXIMO_IN) {
+            List<String> bloco = pendentes.subList(inicio, Math.min(inicio + TAMANHO_MAXIMO_IN, pendentes.size()));
+            existentes.addAll(jpaRepository.findRAsExistentes(bloco));
+            existentes.addAll(arquivo.buscarRAsExistentes(bloco));
+        }
+        return existentes;
     }
     
     @Override
     public void deletar(Long id) {
-        jpaRepository.deleteById(id);
+        Optional<Aluno> ativo = jpaRepository.findById(id);
+        if (ativo.isPresent()) {
+            Aluno aluno = ativo.get();
+            jpaRepository.delete(aluno);
+            eventPublisher.publishEvent(
+                    new AlunoRemovidoEvent(aluno.getId(), aluno.getRegistroAcademico().getValor()));
+            return;
+        }
+        arquivo.deletar(id).ifPresent(ra -> eventPublisher.publishEvent(new AlunoRemovidoEvent(id, ra)));
+    }
+    
+    /**
+     * As linhas são movidas por SQL, sem passar pelo contexto de persistência: as
+     * entradas desses alunos no cache de segundo nível são descartadas
+     */
+    @Override
+    public List<Long> arquivarConcluidosAte(LocalDateTime limite, int tamanhoLote) {
+        List<Long> arquivados = arquivo.arquivarConcluidosAte(limite, tamanhoLote);
+        if (arquivados.isEmpty()) {
+            return arquivados;
+        }
+        
+        Cache cache = entityManager.unwrap(Session.class).getSessionFactory().getCache();
+        arquivados.forEach(id -> cache.evictEntityData(Aluno.class, id));
+        
+        eventPublisher.publishEvent(new AlunosArquivadosEvent(arquivados, !rankingIncluiArquivados));
+        return arquivados;
     }
 }
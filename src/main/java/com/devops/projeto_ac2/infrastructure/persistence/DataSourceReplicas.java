@@ -0,0 +1,173 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource das transações somente leitura: distribui as conexões entre as réplicas
+ * 
+ * As réplicas são usadas em rodízio, pulando as marcadas como indisponíveis. Uma
+ * réplica sai do rodízio quando não entrega conexão, quando falha na verificação
+ * periódica ou quando o atraso de replicação medido passa do limite; volta na
+ * primeira verificação bem-sucedida. Sem réplica disponível, ou quando a thread
+ * pede o primário (RoteamentoLeitura), a conexão vem do primário.
+ */
+public class DataSourceReplicas extends AbstractDataSource {
+    
+    private final DataSource primario;
+    private final List<Replica> replicas;
+    private final int timeoutValidacaoSegundos;
+    private final String consultaAtraso;
+    private final long atrasoMaximoMs;
+    
+    private final AtomicInteger proxima = new AtomicInteger();
+    
+    private final Counter conexoesReplica;
+    private final Counter conexoesPrimarioAposEscrita;
+    private final Counter conexoesPrimarioSemReplica;
+    
+    /**
+     * Réplica e o resultado da última verificação
+     */
+    private static final class Replica {
+        
+        private final String nome;
+        private final DataSource dataSource;
+        private volatile boolean disponivel = true;
+        private volatile long atrasoMs;
+        
+        private Replica(String nome, DataSource dataSource) {
+            this.nome = nome;
+            this.dataSource = dataSource;
+        }
+    }
+    
+    /**
+     * @param replicas DataSources das réplicas por nome (usado nas métricas)
+     * @param consultaAtraso Consulta que retorna o atraso de replicação em milissegundos; vazia para não medir
+     */
+    public DataSourceReplicas(
+            DataSource primario,
+            Map<String, DataSource> replicas,
+            int timeoutValidacaoSegundos,
+            String consultaAtraso,
+            long atrasoMaximoMs,
+            MeterRegistry meterRegistry) {
+        this.primario = primario;
+        this.replicas = replicas.entrySet().stream()
+                .map(replica -> new Replica(replica.getKey(), replica.getValue()))
+                .toList();
+        this.timeoutValidacaoSegundos = Math.max(1, timeoutValidacaoSegundos);
+        this.consultaAtraso = consultaAtraso == null || consultaAtraso.isBlank() ? null : consultaAtraso;
+        this.atrasoMaximoMs = atrasoMaximoMs;
+        
+        this.conexoesReplica = Counter.builder("alunos.replicas.conexoes")
+                .tag("destino", "replica")
+                .register(meterRegistry);
+        this.conexoesPrimarioAposEscrita = Counter.builder("alunos.replicas.conexoes")
+                .tag("destino", "primario-apos-escrita")
+                .register(meterRegistry);
+        this.conexoesPrimarioSemReplica = Counter.builder("alunos.replicas.conexoes")
+                .tag("destino", "primario-sem-replica")
+                .register(meterRegistry);
+        
+        Gauge.builder("alunos.replicas.disponiveis", this, DataSourceReplicas::replicasDisponiveis)
+                .register(meterRegistry);
+        for (Replica replica : this.replicas) {
+            Gauge.builder("alunos.replicas.atraso", replica, r -> r.atrasoMs)
+                    .tag("replica", replica.nome)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+    }
+    
+    @PreDestroy
+    public void encerrar() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable pool) {
+                pool.close();
+            }
+        }
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (RoteamentoLeitura.primarioObrigatorio()) {
+            conexoesPrimarioAposEscrita.increment();
+            return primario.getConnection();
+        }
+        
+        int inicio = replicas.isEmpty() ? 0 : Math.floorMod(proxima.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((inicio + i) % replicas.size());
+            if (!replica.disponivel) {
+                continue;
+            }
+            try {
+                Connection conexao = replica.dataSource.getConnection();
+                conexoesReplica.increment();
+                return conexao;
+            } catch (SQLException e) {
+                // fora do rodízio até a próxima verificação bem-sucedida
+                replica.disponivel = false;
+            }
+        }
+        
+        conexoesPrimarioSemReplica.increment();
+        return primario.getConnection();
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+    
+    /**
+     * Confere cada réplica: conexão válida e, se configurado, atraso de replicação dentro do limite
+     */
+    @Scheduled(fixedDelayString = "${alunos.replicas.verificacao-ms:5000}")
+    public void verificarReplicas() {
+        for (Replica replica : replicas) {
+            replica.disponivel = verificar(replica);
+        }
+    }
+    
+    public int replicasDisponiveis() {
+        return (int) replicas.stream().filter(replica -> replica.disponivel).count();
+    }
+    
+    private boolean verificar(Replica replica) {
+        try (Connection conexao = replica.dataSource.getConnection()) {
+            if (!conexao.isValid(timeoutValidacaoSegundos)) {
+                return false;
+            }
+            replica.atrasoMs = medirAtraso(conexao);
+            return replica.atrasoMs <= atrasoMaximoMs;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+    
+    private long medirAtraso(Connection conexao) throws SQLException {
+        if (consultaAtraso == null) {
+            return 0L;
+        }
+        try (Statement statement = conexao.createStatement();
+             ResultSet resultado = statement.executeQuery(consultaAtraso)) {
+            return resultado.next() ? resultado.getLong(1) : 0L;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import java.util.function.Supplier;
+
+/**
+ * Marca, para a thread atual, que as transações somente leitura devem ir ao primário
+ * 
+ * Usado quando o cliente acabou de escrever: a réplica pode ainda não ter recebido
+ * a escrita, e a leitura seguinte do mesmo cliente precisa enxergá-la.
+ */
+public final class RoteamentoLeitura {
+    
+    private static final ThreadLocal<Boolean> PRIMARIO = new ThreadLocal<>();
+    
+    private RoteamentoLeitura() {
+    }
+    
+    public static void forcarPrimario() {
+        PRIMARIO.set(Boolean.TRUE);
+    }
+    
+    public static void liberar() {
+        PRIMARIO.remove();
+    }
+    
+    public static boolean primarioObrigatorio() {
+        return PRIMARIO.get() != null;
+    }
+    
+    /**
+     * Executa a leitura no primário e depois devolve a thread ao roteamento anterior
+     */
+    public static <T> T noPrimario(Supplier<T> leitura) {
+        if (primarioObrigatorio()) {
+            return leitura.get();
+        }
+        forcarPrimario();
+        try {
+            return leitura.get();
+        } finally {
+            liberar();
+        }
+    }
+}
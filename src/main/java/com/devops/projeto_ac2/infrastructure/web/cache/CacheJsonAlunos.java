@@ -0,0 +1,155 @@
+package com.devops.projeto_ac2.infrastructure.web.cache;
+
+import com.devops.projeto_ac2.domain.events.AlunoRemovidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoSalvoEvent;
+import com.devops.projeto_ac2.domain.readmodels.AlunoResumo;
+import com.devops.projeto_ac2.shared.dto.AlunoResponseDTO;
+import com.devops.projeto_ac2.shared.mapper.AlunoMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * JSON já serializado (UTF-8) do GET /api/alunos/{id}, por aluno e versão (ETag)
+ * 
+ * Um acerto devolve os bytes prontos: sem montar o AlunoResponseDTO e sem passar
+ * pelo Jackson. Cada entrada guarda a versão de que foi gerada e só é servida para
+ * essa mesma versão, então uma serialização atrasada nunca aparece como atual. As
+ * escritas de um aluno removem sua entrada após o commit.
+ * 
+ * O limite é de memória (alunos.cache-json.memoria-maxima-bytes), com o peso de cada
+ * entrada igual ao tamanho do JSON mais um custo fixo por entrada. As entradas expiram
+ * em alunos.cache-json.expiracao-ms (por padrão, o mesmo prazo das versões do
+ * RastreadorVersoes): escritas de outras instâncias não invalidam esta, e nenhuma
+ * entrada sobrevive à versão que a gerou.
+ */
+@Component
+public class CacheJsonAlunos {
+    
+    static final String NOME = "alunos.json";
+    
+    /**
+     * Custo aproximado de cada entrada além do JSON (chave, versão, objetos do cache)
+     */
+    static final int CUSTO_FIXO_ENTRADA = 128;
+    
+    private final AlunoMapper alunoMapper;
+    private final ObjectWriter writer;
+    private final boolean habilitado;
+    private final Cache<Long, RespostaJson> porAluno;
+    
+    /**
+     * JSON de uma versão do aluno
+     */
+    private record RespostaJson(String versao, byte[] json) {
+    }
+    
+    @Autowired
+    public CacheJsonAlunos(
+            AlunoMapper alunoMapper,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${alunos.cache-json.habilitado:true}") boolean habilitado,
+            @Value("${alunos.cache-json.memoria-maxima-bytes:16777216}") long memoriaMaximaBytes,
+            @Value("${alunos.cache-json.expiracao-ms:${alunos.etag.expiracao-ms:30000}}") long expiracaoMs) {
+        this(alunoMapper, objectMapper, meterRegistry, habilitado, memoriaMaximaBytes, expiracaoMs,
+                ForkJoinPool.commonPool(), Ticker.systemTicker());
+    }
+    
+    /**
+     * @param manutencao Executor das tarefas de manutenção do Caffeine (despejo)
+     * @param ticker Relógio usado na expiração das entradas
+     */
+    CacheJsonAlunos(
+            AlunoMapper alunoMapper,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            boolean habilitado,
+            long memoriaMaximaBytes,
+            long expiracaoMs,
+            Executor manutencao,
+            Ticker ticker) {
+        this.alunoMapper = alunoMapper;
+        this.writer = objectMapper.writerFor(AlunoResponseDTO.class);
+        this.habilitado = habilitado;
+        this.porAluno = Caffeine.newBuilder()
+                .maximumWeight(memoriaMaximaBytes)
+                .weigher((Long id, RespostaJson resposta) -> resposta.json().length + CUSTO_FIXO_ENTRADA)
+                .expireAfterWrite(Duration.ofMillis(expiracaoMs))
+                .ticker(ticker)
+                .recordStats()
+                .executor(manutencao)
+                .build();
+        
+        CaffeineCacheMetrics.monitor(meterRegistry, porAluno, NOME);
+        Gauge.builder("alunos.cache-json.memoria", porAluno,
+                        cache -> cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * JSON guardado para esta versão do aluno, se houver
+     */
+    public Optional<byte[]> buscar(Long alunoId, String versao) {
+        if (!habilitado) {
+            return Optional.empty();
+        }
+        RespostaJson resposta = porAluno.getIfPresent(alunoId);
+        if (resposta == null || !resposta.versao().equals(versao)) {
+            return Optional.empty();
+        }
+        return Optional.of(resposta.json());
+    }
+    
+    /**
+     * JSON do aluno nesta versão: o guardado, ou serializado agora e guardado
+     * Os bytes retornados são compartilhados e não devem ser alterados
+     */
+    public byte[] obter(AlunoResumo aluno, String versao) {
+        Optional<byte[]> guardado = buscar(aluno.id(), versao);
+        if (guardado.isPresent()) {
+            return guardado.get();
+        }
+        
+        byte[] json = serializar(aluno);
+        if (habilitado) {
+            porAluno.put(aluno.id(), new RespostaJson(versao, json));
+        }
+        return json;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoSalvarAluno(AlunoSalvoEvent evento) {
+        porAluno.invalidate(evento.getAluno().getId());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoRemoverAluno(AlunoRemovidoEvent evento) {
+        porAluno.invalidate(evento.getAlunoId());
+    }
+    
+    private byte[] serializar(AlunoResumo aluno) {
+        try {
+            return writer.writeValueAsBytes(alunoMapper.toResponseDTO(aluno));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
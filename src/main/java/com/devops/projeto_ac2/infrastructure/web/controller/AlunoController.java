@@ -1,18 +1,49 @@
 package com.devops.projeto_ac2.infrastructure.web.controller;
 
+import com.devops.projeto_ac2.application.cache.RastreadorVersoes;
 import com.devops.projeto_ac2.application.usecases.BuscarAlunoPorIdUseCase;
+import com.devops.projeto_ac2.application.usecases.BuscarAlunoPorRAUseCase;
 import com.devops.projeto_ac2.application.usecases.ConcluirCursoUseCase;
 import com.devops.projeto_ac2.application.usecases.CriarAlunoUseCase;
+import com.devops.projeto_ac2.application.usecases.CriarAlunosEmLoteUseCase;
+import com.devops.projeto_ac2.application.usecases.ExportarAlunosUseCase;
+import com.devops.projeto_ac2.application.usecases.ImportarAlunosUseCase;
 import com.devops.projeto_ac2.application.usecases.ListarAlunosUseCase;
+import com.devops.projeto_ac2.application.usecases.ObterPosicaoAlunoUseCase;
 import com.devops.projeto_ac2.application.usecases.RegistrarTentativaUseCase;
+import com.devops.projeto_ac2.application.usecases.RegistrarTentativasEmLoteUseCase;
 import com.devops.projeto_ac2.application.usecases.ObterRankingAlunosUseCase;
+import com.devops.projeto_ac2.application.usecases.ObterRankingCoortesUseCase;
+import com.devops.projeto_ac2.application.usecases.ObterRankingMaterializadoUseCase;
 import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.readmodels.AlunoParcial;
+import com.devops.projeto_ac2.domain.readmodels.AlunoResumo;
+import com.devops.projeto_ac2.domain.readmodels.CampoAluno;
+import com.devops.projeto_ac2.domain.readmodels.CampoRanking;
+import com.devops.projeto_ac2.domain.readmodels.PaginaAlunos;
+import com.devops.projeto_ac2.domain.readmodels.PaginaRanking;
+import com.devops.projeto_ac2.domain.readmodels.PosicaoRanking;
+import com.devops.projeto_ac2.domain.readmodels.ResultadoCriacaoAluno;
+import com.devops.projeto_ac2.domain.readmodels.ResultadoTentativaAluno;
+import com.devops.projeto_ac2.infrastructure.persistence.RoteamentoLeitura;
+import com.devops.projeto_ac2.infrastructure.web.cache.CacheJsonAlunos;
 import com.devops.projeto_ac2.shared.dto.AlunoResponseDTO;
 import com.devops.projeto_ac2.shared.dto.ConcluirCursoRequestDTO;
+import com.devops.projeto_ac2.shared.dto.CriacaoEmLoteResponseDTO;
 import com.devops.projeto_ac2.shared.dto.CriarAlunoRequestDTO;
+import com.devops.projeto_ac2.shared.dto.PosicaoAlunoResponseDTO;
+import com.devops.projeto_ac2.shared.dto.ProgressoImportacaoResponseDTO;
+import com.devops.projeto_ac2.shared.dto.RegistrarTentativaPorRARequestDTO;
 import com.devops.projeto_ac2.shared.dto.RegistrarTentativaRequestDTO;
+import com.devops.projeto_ac2.shared.dto.RankingCoortesResponseDTO;
 import com.devops.projeto_ac2.shared.dto.RankingResponseDTO;
+import com.devops.projeto_ac2.shared.dto.TentativasEmLoteResponseDTO;
 import com.devops.projeto_ac2.shared.mapper.AlunoMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,12 +51,29 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -34,33 +82,77 @@ import java.util.stream.Collectors;
  */
 @RestController
 @RequestMapping("/api/alunos")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {
+        AlunoController.HEADER_PROXIMO_CURSOR, AlunoController.HEADER_VERSAO_RANKING, HttpHeaders.ETAG})
 @Tag(name = "Alunos", description = "API de gerenciamento de alunos")
 public class AlunoController {
     
+    static final String HEADER_PROXIMO_CURSOR = "X-Proximo-Cursor";
+    static final String HEADER_VERSAO_RANKING = "X-Ranking-Versao";
+    static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+    
+    /**
+     * A cada quantos alunos a exportação descarrega o buffer na resposta
+     */
+    private static final int LINHAS_POR_FLUSH = 1000;
+    
     private final CriarAlunoUseCase criarAlunoUseCase;
+    private final CriarAlunosEmLoteUseCase criarAlunosEmLoteUseCase;
     private final ConcluirCursoUseCase concluirCursoUseCase;
     private final BuscarAlunoPorIdUseCase buscarAlunoPorIdUseCase;
+    private final BuscarAlunoPorRAUseCase buscarAlunoPorRAUseCase;
     private final ListarAlunosUseCase listarAlunosUseCase;
+    private final ExportarAlunosUseCase exportarAlunosUseCase;
+    private final ImportarAlunosUseCase importarAlunosUseCase;
     private final RegistrarTentativaUseCase registrarTentativaUseCase;
+    private final RegistrarTentativasEmLoteUseCase registrarTentativasEmLoteUseCase;
     private final ObterRankingAlunosUseCase obterRankingAlunosUseCase;
+    private final ObterRankingMaterializadoUseCase obterRankingMaterializadoUseCase;
+    private final ObterRankingCoortesUseCase obterRankingCoortesUseCase;
+    private final ObterPosicaoAlunoUseCase obterPosicaoAlunoUseCase;
+    private final RastreadorVersoes rastreadorVersoes;
+    private final CacheJsonAlunos cacheJsonAlunos;
     private final AlunoMapper alunoMapper;
+    private final ObjectWriter exportacaoWriter;
     
     public AlunoController(
             CriarAlunoUseCase criarAlunoUseCase,
+            CriarAlunosEmLoteUseCase criarAlunosEmLoteUseCase,
             ConcluirCursoUseCase concluirCursoUseCase,
             BuscarAlunoPorIdUseCase buscarAlunoPorIdUseCase,
+            BuscarAlunoPorRAUseCase buscarAlunoPorRAUseCase,
             ListarAlunosUseCase listarAlunosUseCase,
+            ExportarAlunosUseCase exportarAlunosUseCase,
+            ImportarAlunosUseCase importarAlunosUseCase,
             RegistrarTentativaUseCase registrarTentativaUseCase,
+            RegistrarTentativasEmLoteUseCase registrarTentativasEmLoteUseCase,
             ObterRankingAlunosUseCase obterRankingAlunosUseCase,
-            AlunoMapper alunoMapper) {
+            ObterRankingMaterializadoUseCase obterRankingMaterializadoUseCase,
+            ObterRankingCoortesUseCase obterRankingCoortesUseCase,
+            ObterPosicaoAlunoUseCase obterPosicaoAlunoUseCase,
+            RastreadorVersoes rastreadorVersoes,
+            CacheJsonAlunos cacheJsonAlunos,
+            AlunoMapper alunoMapper,
+            ObjectMapper objectMapper) {
         this.criarAlunoUseCase = criarAlunoUseCase;
+        this.criarAlunosEmLoteUseCase = criarAlunosEmLoteUseCase;
         this.concluirCursoUseCase = concluirCursoUseCase;
         this.buscarAlunoPorIdUseCase = buscarAlunoPorIdUseCase;
+        this.buscarAlunoPorRAUseCase = buscarAlunoPorRAUseCase;
         this.listarAlunosUseCase = listarAlunosUseCase;
+        this.exportarAlunosUseCase = exportarAlunosUseCase;
+        this.importarAlunosUseCase = importarAlunosUseCase;
         this.registrarTentativaUseCase = registrarTentativaUseCase;
+        this.registrarTentativasEmLoteUseCase = registrarTentativasEmLoteUseCase;
         this.obterRankingAlunosUseCase = obterRankingAlunosUseCase;
+        this.obterRankingMaterializadoUseCase = obterRankingMaterializadoUseCase;
+        this.obterRankingCoortesUseCase = obterRankingCoortesUseCase;
+        this.obterPosicaoAlunoUseCase = obterPosicaoAlunoUseCase;
+        this.rastreadorVersoes = rastreadorVersoes;
+        this.cacheJsonAlunos = cacheJsonAlunos;
         this.alunoMapper = alunoMapper;
+        this.exportacaoWriter = objectMapper.writerFor(AlunoResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
     
     /**
@@ -80,52 +172,332 @@ public class AlunoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    /**
+     * POST /api/alunos/batch - Criar vários alunos de uma vez
+     * 
+     * Cada item é validado individualmente; os válidos são gravados e os demais
+     * voltam rejeitados com o motivo. 201 se todos foram criados, 207 caso contrário
+     */
+    @Operation(summary = "Criar alunos em lote", description = "Cria até " + CriarAlunosEmLoteUseCase.TAMANHO_MAXIMO_LOTE
+            + " alunos com uma verificação de RA para o lote inteiro e INSERTs em lote. Retorna o resultado de cada item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Todos os alunos foram criados",
+                    content = @Content(schema = @Schema(implementation = CriacaoEmLoteResponseDTO.class))),
+            @ApiResponse(responseCode = "207", description = "Parte dos alunos foi rejeitada",
+                    content = @Content(schema = @Schema(implementation = CriacaoEmLoteResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou acima do tamanho máximo")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<CriacaoEmLoteResponseDTO> criarEmLote(@RequestBody List<CriarAlunoRequestDTO> request) {
+        List<CriarAlunosEmLoteUseCase.NovoAluno> novos = request.stream()
+                .map(item -> item != null
+                        ? new CriarAlunosEmLoteUseCase.NovoAluno(item.getNome(), item.getRa())
+                        : new CriarAlunosEmLoteUseCase.NovoAluno(null, null))
+                .collect(Collectors.toList());
+        
+        List<ResultadoCriacaoAluno> resultados = criarAlunosEmLoteUseCase.executar(novos);
+        CriacaoEmLoteResponseDTO response = alunoMapper.toCriacaoEmLoteResponseDTO(resultados);
+        
+        HttpStatus status = response.getRejeitados() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+    
+    /**
+     * POST /api/alunos/import - Importar alunos de um arquivo CSV
+     * 
+     * O corpo é o próprio CSV (colunas nome e ra, separadas por vírgula ou ponto e
+     * vírgula, cabeçalho opcional). A importação roda em segundo plano; o andamento
+     * é consultado no endereço do header Location
+     */
+    @Operation(summary = "Importar alunos de CSV", description = "Recebe um CSV (nome,ra) e o importa em segundo plano, "
+            + "em lotes gravados em transações próprias. Linhas inválidas vão para o relatório de erros")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Importação agendada",
+                    content = @Content(schema = @Schema(implementation = ProgressoImportacaoResponseDTO.class)))
+    })
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ProgressoImportacaoResponseDTO> importar(InputStream csv) {
+        ProgressoImportacaoResponseDTO response = alunoMapper.toProgressoImportacaoResponseDTO(
+                importarAlunosUseCase.iniciar(csv));
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(response.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(response);
+    }
+    
+    /**
+     * GET /api/alunos/import/{id} - Andamento de uma importação
+     */
+    @Operation(summary = "Consultar importação", description = "Retorna o status, as contagens, a última linha "
+            + "confirmada e a vazão (linhas por segundo) de uma importação")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Andamento encontrado",
+                    content = @Content(schema = @Schema(implementation = ProgressoImportacaoResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Importação não encontrada")
+    })
+    @GetMapping("/import/{id}")
+    public ResponseEntity<ProgressoImportacaoResponseDTO> consultarImportacao(
+            @Parameter(description = "ID da importação") @PathVariable String id) {
+        return ResponseEntity.ok(alunoMapper.toProgressoImportacaoResponseDTO(importarAlunosUseCase.consultar(id)));
+    }
+    
+    /**
+     * GET /api/alunos/import/{id}/erros - Relatório CSV das linhas rejeitadas
+     */
+    @Operation(summary = "Baixar relatório de erros da importação",
+            description = "CSV com linha, nome, ra e motivo de cada linha rejeitada até o momento")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Relatório de erros"),
+            @ApiResponse(responseCode = "404", description = "Importação não encontrada")
+    })
+    @GetMapping(value = "/import/{id}/erros", produces = "text/csv")
+    public ResponseEntity<Resource> baixarErrosImportacao(
+            @Parameter(description = "ID da importação") @PathVariable String id) {
+        Resource relatorio = new FileSystemResource(importarAlunosUseCase.relatorioErros(id));
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("importacao-" + id + "-erros.csv")
+                        .build()
+                        .toString())
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .body(relatorio);
+    }
+    
+    /**
+     * POST /api/alunos/import/{id}/retomar - Retomar uma importação com falha
+     * 
+     * Continua a partir da linha seguinte ao último lote gravado, sem reenviar o arquivo
+     */
+    @Operation(summary = "Retomar importação", description = "Retoma uma importação com falha a partir do último lote confirmado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Importação reagendada",
+                    content = @Content(schema = @Schema(implementation = ProgressoImportacaoResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "A importação não está com falha"),
+            @ApiResponse(responseCode = "404", description = "Importação não encontrada")
+    })
+    @PostMapping("/import/{id}/retomar")
+    public ResponseEntity<ProgressoImportacaoResponseDTO> retomarImportacao(
+            @Parameter(description = "ID da importação") @PathVariable String id) {
+        return ResponseEntity.accepted()
+                .body(alunoMapper.toProgressoImportacaoResponseDTO(importarAlunosUseCase.retomar(id)));
+    }
+    
     /**
      * GET /api/alunos/{id} - Buscar aluno por ID
+     * 
+     * Responde com ETag (id + dataAtualizacao). Se a versão do aluno já é conhecida
+     * em memória, um If-None-Match igual é respondido com 304 sem consultar o banco,
+     * e o JSON já serializado dessa versão é escrito direto na resposta
+     * 
+     * Se o JSON da versão conhecida não está em cache, o aluno é lido de novo e
+     * pode vir em outra versão: o ETag passa a ser o da versão entregue
      */
     @Operation(summary = "Buscar aluno por ID", description = "Retorna os dados completos de um aluno")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Aluno encontrado",
                     content = @Content(schema = @Schema(implementation = AlunoResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Aluno não mudou desde o ETag informado"),
             @ApiResponse(responseCode = "404", description = "Aluno não encontrado")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<AlunoResponseDTO> buscarPorId(
-            @Parameter(description = "ID do aluno") @PathVariable Long id) {
-        Aluno aluno = buscarAlunoPorIdUseCase.executar(id);
-        AlunoResponseDTO response = alunoMapper.toResponseDTO(aluno);
-        return ResponseEntity.ok(response);
+    public void buscarPorId(
+            @Parameter(description = "ID do aluno") @PathVariable Long id,
+            WebRequest request,
+            HttpServletResponse response) throws IOException {
+        Optional<String> versaoConhecida = rastreadorVersoes.versaoAluno(id);
+        if (versaoConhecida.isPresent()) {
+            if (request.checkNotModified(versaoConhecida.get())) {
+                return;
+            }
+            Optional<byte[]> json = cacheJsonAlunos.buscar(id, versaoConhecida.get());
+            if (json.isPresent()) {
+                escreverJson(response, json.get());
+                return;
+            }
+        }
+        
+        AlunoResumo aluno = buscarAlunoPorIdUseCase.executarResumo(id);
+        String versao = rastreadorVersoes.registrar(aluno.id(), aluno.dataAtualizacao());
+        if (versaoConhecida.isEmpty()) {
+            if (request.checkNotModified(versao)) {
+                return;
+            }
+        } else if (!versao.equals(versaoConhecida.get())) {
+            // checkNotModified já escreveu o ETag da versão conhecida
+            response.setHeader(HttpHeaders.ETAG, "\"" + versao + "\"");
+        }
+        
+        escreverJson(response, cacheJsonAlunos.obter(aluno, versao));
+    }
+    
+    /**
+     * GET /api/alunos/ra/{ra} - Buscar aluno pelo RA
+     * Mesma resposta (e ETag) da busca por ID; o RA é resolvido pelo índice em memória
+     */
+    @Operation(summary = "Buscar aluno por RA", description = "Retorna os dados completos do aluno com o RA informado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Aluno encontrado",
+                    content = @Content(schema = @Schema(implementation = AlunoResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Aluno não mudou desde o ETag informado"),
+            @ApiResponse(responseCode = "404", description = "Aluno não encontrado")
+    })
+    @GetMapping("/ra/{ra}")
+    public void buscarPorRA(
+            @Parameter(description = "RA do aluno") @PathVariable String ra,
+            WebRequest request,
+            HttpServletResponse response) throws IOException {
+        AlunoResumo aluno = buscarAlunoPorRAUseCase.executar(ra);
+        String versao = rastreadorVersoes.registrar(aluno.id(), aluno.dataAtualizacao());
+        if (request.checkNotModified(versao)) {
+            return;
+        }
+        
+        escreverJson(response, cacheJsonAlunos.obter(aluno, versao));
     }
     
     /**
-     * GET /api/alunos - Listar todos os alunos
+     * GET /api/alunos/{id}?fields=id,nome - Buscar apenas alguns campos do aluno
+     * Apenas os campos pedidos são lidos do banco e escritos no JSON
      */
-    @Operation(summary = "Listar alunos", description = "Lista todos os alunos com filtro opcional de conclusão")
+    @Operation(summary = "Buscar campos do aluno por ID", description = "Retorna apenas os campos informados em fields")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso")
+            @ApiResponse(responseCode = "200", description = "Aluno encontrado"),
+            @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields"),
+            @ApiResponse(responseCode = "404", description = "Aluno não encontrado")
+    })
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> buscarCamposPorId(
+            @Parameter(description = "ID do aluno") @PathVariable Long id,
+            @Parameter(description = "Campos separados por vírgula (ex.: id,nome,mediaFinal)") @RequestParam String fields) {
+        AlunoParcial aluno = buscarAlunoPorIdUseCase.executarParcial(id, fields);
+        return ResponseEntity.ok(alunoMapper.toMapa(aluno, CampoAluno.interpretar(fields)));
+    }
+    
+    /**
+     * GET /api/alunos - Listar alunos paginados por keyset
+     * 
+     * O ID a ser enviado em after na próxima página é devolvido no header X-Proximo-Cursor.
+     * O ETag é a versão da coleção, então um If-None-Match igual é respondido com 304 sem consultar o banco
+     */
+    @Operation(summary = "Listar alunos", description = "Lista alunos paginados por keyset com filtro opcional de conclusão. "
+            + "Enquanto houver mais páginas, o valor de after da próxima é devolvido no header " + HEADER_PROXIMO_CURSOR)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Nenhum aluno mudou desde o ETag informado"),
+            @ApiResponse(responseCode = "400", description = "Ordenação inválida")
     })
     @GetMapping
     public ResponseEntity<List<AlunoResponseDTO>> listarTodos(
             @Parameter(description = "Filtrar por conclusão: true (concluídos), false (não concluídos), null (todos)")
-            @RequestParam(required = false) Boolean concluido) {
-        
-        List<Aluno> alunos;
+            @RequestParam(required = false) Boolean concluido,
+            @Parameter(description = "ID do último aluno da página anterior") @RequestParam(required = false) Long after,
+            @Parameter(description = "Tamanho da página (máximo " + ListarAlunosUseCase.TAMANHO_MAXIMO_PAGINA + ")")
+            @RequestParam(defaultValue = "" + ListarAlunosUseCase.TAMANHO_PADRAO_PAGINA) int limit,
+            @Parameter(description = "Ordenação: id, nome ou mediaFinal (prefixo - para decrescente)")
+            @RequestParam(required = false) String sort,
+            WebRequest request) {
         
-        if (concluido != null) {
-            if (concluido) {
-                alunos = listarAlunosUseCase.executarConcluidos();
-            } else {
-                alunos = listarAlunosUseCase.executarNaoConcluidos();
-            }
-        } else {
-            alunos = listarAlunosUseCase.executar();
+        if (request.checkNotModified(rastreadorVersoes.versaoColecao())) {
+            return null;
         }
         
-        List<AlunoResponseDTO> response = alunos.stream()
+        PaginaAlunos<AlunoResumo> pagina = lerColecao(() -> listarAlunosUseCase.executar(concluido, after, limit, sort));
+        
+        List<AlunoResponseDTO> response = pagina.itens().stream()
                 .map(alunoMapper::toResponseDTO)
                 .collect(Collectors.toList());
         
-        return ResponseEntity.ok(response);
+        return respostaPagina(pagina).body(response);
+    }
+    
+    /**
+     * GET /api/alunos?fields=id,nome - Listar apenas alguns campos dos alunos
+     * Apenas os campos pedidos são lidos do banco e escritos no JSON
+     */
+    @Operation(summary = "Listar campos dos alunos", description = "Mesma listagem paginada, retornando apenas os campos informados em fields")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Nenhum aluno mudou desde o ETag informado"),
+            @ApiResponse(responseCode = "400", description = "Ordenação ou campo desconhecido em fields")
+    })
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> listarCampos(
+            @Parameter(description = "Campos separados por vírgula (ex.: id,nome,mediaFinal)") @RequestParam String fields,
+            @Parameter(description = "Filtrar por conclusão: true (concluídos), false (não concluídos), null (todos)")
+            @RequestParam(required = false) Boolean concluido,
+            @Parameter(description = "ID do último aluno da página anterior") @RequestParam(required = false) Long after,
+            @Parameter(description = "Tamanho da página (máximo " + ListarAlunosUseCase.TAMANHO_MAXIMO_PAGINA + ")")
+            @RequestParam(defaultValue = "" + ListarAlunosUseCase.TAMANHO_PADRAO_PAGINA) int limit,
+            @Parameter(description = "Ordenação: id, nome ou mediaFinal (prefixo - para decrescente)")
+            @RequestParam(required = false) String sort,
+            WebRequest request) {
+        
+        if (request.checkNotModified(rastreadorVersoes.versaoColecao())) {
+            return null;
+        }
+        
+        PaginaAlunos<AlunoParcial> pagina =
+                lerColecao(() -> listarAlunosUseCase.executarParcial(fields, concluido, after, limit, sort));
+        Set<CampoAluno> campos = CampoAluno.interpretar(fields);
+        
+        List<Map<String, Object>> response = pagina.itens().stream()
+                .map(aluno -> alunoMapper.toMapa(aluno, campos))
+                .collect(Collectors.toList());
+        
+        return respostaPagina(pagina).body(response);
+    }
+    
+    /**
+     * O ETag da coleção vem dos eventos do primário; logo depois de uma escrita a leitura
+     * também vai ao primário, para que uma réplica atrasada não entregue um corpo mais
+     * antigo que a versão anunciada
+     */
+    private <T> T lerColecao(Supplier<T> leitura) {
+        return rastreadorVersoes.colecaoAlteradaRecentemente() ? RoteamentoLeitura.noPrimario(leitura) : leitura.get();
+    }
+    
+    private ResponseEntity.BodyBuilder respostaPagina(PaginaAlunos<?> pagina) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (pagina.temProximaPagina()) {
+            builder.header(HEADER_PROXIMO_CURSOR, pagina.proximoApos().toString());
+        }
+        return builder;
+    }
+    
+    /**
+     * GET /api/alunos/stream - Exportar todos os alunos em NDJSON
+     * 
+     * Cada aluno é convertido e escrito direto na resposta (um JSON por linha)
+     * assim que lido do banco, sem montar listas em memória
+     */
+    @Operation(summary = "Exportar alunos", description = "Exporta todos os alunos, ordenados por ID, "
+            + "em NDJSON (um objeto JSON por linha) com uso de memória constante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportação concluída",
+                    content = @Content(mediaType = MEDIA_TYPE_NDJSON, schema = @Schema(implementation = AlunoResponseDTO.class)))
+    })
+    @GetMapping(value = "/stream", produces = MEDIA_TYPE_NDJSON)
+    public void exportar(HttpServletResponse response) throws IOException {
+        response.setContentType(MEDIA_TYPE_NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        
+        try (JsonGenerator gerador = exportacaoWriter.createGenerator(response.getOutputStream())) {
+            // O separador entre objetos é a quebra de linha escrita abaixo
+            gerador.setRootValueSeparator(null);
+            int[] linhas = {0};
+            exportarAlunosUseCase.executar(aluno -> {
+                try {
+                    exportacaoWriter.writeValue(gerador, alunoMapper.toResponseDTO(aluno));
+                    gerador.writeRaw('\n');
+                    if (++linhas[0] % LINHAS_POR_FLUSH == 0) {
+                        gerador.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
     }
     
     /**
@@ -147,6 +519,39 @@ public class AlunoController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * POST /api/alunos/tentativas/batch - Registrar tentativas de vários alunos pelo RA
+     * 
+     * Cada item recebe o seu resultado; itens recusados (RA inexistente, curso concluído,
+     * tentativas esgotadas, nota inválida) não impedem o registro dos demais.
+     * 200 se todas foram registradas, 207 caso contrário
+     */
+    @Operation(summary = "Registrar tentativas em lote", description = "Registra até "
+            + RegistrarTentativasEmLoteUseCase.TAMANHO_MAXIMO_LOTE + " tentativas (RA e nota) com uma consulta "
+            + "por conjunto de RAs e UPDATEs em lote. Retorna o resultado de cada item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Todas as tentativas foram registradas",
+                    content = @Content(schema = @Schema(implementation = TentativasEmLoteResponseDTO.class))),
+            @ApiResponse(responseCode = "207", description = "Parte das tentativas foi recusada",
+                    content = @Content(schema = @Schema(implementation = TentativasEmLoteResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou acima do tamanho máximo")
+    })
+    @PostMapping("/tentativas/batch")
+    public ResponseEntity<TentativasEmLoteResponseDTO> registrarTentativasEmLote(
+            @RequestBody List<RegistrarTentativaPorRARequestDTO> request) {
+        List<RegistrarTentativasEmLoteUseCase.NovaTentativa> tentativas = request.stream()
+                .map(item -> item != null
+                        ? new RegistrarTentativasEmLoteUseCase.NovaTentativa(item.getRa(), item.getNota())
+                        : new RegistrarTentativasEmLoteUseCase.NovaTentativa(null, null))
+                .collect(Collectors.toList());
+        
+        List<ResultadoTentativaAluno> resultados = registrarTentativasEmLoteUseCase.executar(tentativas);
+        TentativasEmLoteResponseDTO response = alunoMapper.toTentativasEmLoteResponseDTO(resultados);
+        
+        HttpStatus status = response.getRejeitadas() == 0 ? HttpStatus.OK : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+    
     /**
      * PATCH /api/alunos/{id}/concluir - Concluir curso do aluno
      */
@@ -168,27 +573,202 @@ public class AlunoController {
     
     /**
      * GET /api/alunos/ranking - Obter ranking completo dos alunos
+     * 
+     * Com tamanho (e opcionalmente cursor) o ranking é paginado por keyset;
+     * o cursor da próxima página é devolvido no header X-Proximo-Cursor.
+     * Com o ranking materializado habilitado, a versão do snapshot lido vem no
+     * header X-Ranking-Versao e pode ser repassada em versao nas próximas páginas.
+     * Com coorte, retorna o ranking apenas dos alunos daquela coorte de ingresso,
+     * limitado por top; apenasAprovados, cursor, tamanho e versao não se aplicam a
+     * ele e, combinados com coorte, são recusados com 400.
+     * O ETag combina a versão da coleção e a do snapshot; um If-None-Match igual
+     * é respondido com 304 sem montar nem serializar o ranking
      */
-    @Operation(summary = "Obter ranking", description = "Retorna ranking dos alunos ordenado por média e cursos extras")
+    @Operation(summary = "Obter ranking", description = "Retorna ranking dos alunos ordenado por média e cursos extras. "
+            + "Alunos empatados dividem a mesma posição. Informe tamanho para paginar; o cursor da próxima página "
+            + "é devolvido no header " + HEADER_PROXIMO_CURSOR + " e a versão do snapshot no header " + HEADER_VERSAO_RANKING)
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Ranking retornado com sucesso")
+            @ApiResponse(responseCode = "200", description = "Ranking retornado com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Ranking não mudou desde o ETag informado"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou coorte inválidos, ou coorte com apenasAprovados, cursor, tamanho ou versao")
     })
     @GetMapping("/ranking")
     public ResponseEntity<List<RankingResponseDTO>> obterRanking(
             @Parameter(description = "Limitar top N alunos") @RequestParam(required = false) Integer top,
-            @Parameter(description = "Filtrar apenas aprovados") @RequestParam(required = false) Boolean apenasAprovados) {
+            @Parameter(description = "Filtrar apenas aprovados") @RequestParam(required = false) Boolean apenasAprovados,
+            @Parameter(description = "Cursor opaco devolvido pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página (máximo " + ObterRankingAlunosUseCase.TAMANHO_MAXIMO_PAGINA + ")")
+            @RequestParam(required = false) Integer tamanho,
+            @Parameter(description = "Versão do snapshot devolvida no header " + HEADER_VERSAO_RANKING)
+            @RequestParam(required = false) Long versao,
+            @Parameter(description = "Coorte de ingresso: AAAA-S (semestre, ex.: 2026-1) ou AAAA-MM (mês, ex.: 2026-03)")
+            @RequestParam(required = false) String coorte,
+            WebRequest request) {
+        
+        if (coorte != null && (Boolean.TRUE.equals(apenasAprovados) || cursor != null || tamanho != null || versao != null)) {
+            throw new DomainException("O ranking por coorte aceita apenas top; apenasAprovados, cursor, tamanho "
+                    + "e versao valem só para o ranking geral");
+        }
         
-        List<Aluno> alunos;
+        if (request.checkNotModified(versaoRanking())) {
+            return null;
+        }
+        
+        return lerColecao(() -> montarRanking(top, apenasAprovados, cursor, tamanho, versao, coorte));
+    }
+    
+    private ResponseEntity<List<RankingResponseDTO>> montarRanking(
+            Integer top, Boolean apenasAprovados, String cursor, Integer tamanho, Long versao, String coorte) {
+        if (coorte != null) {
+            List<PosicaoRanking> ranking = obterRankingCoortesUseCase.executar(coorte, top).posicoes();
+            return ResponseEntity.ok(alunoMapper.toRankingResponseDTOList(ranking));
+        }
+        
+        boolean aprovados = apenasAprovados != null && apenasAprovados;
+        boolean paginado = cursor != null || tamanho != null;
+        int tamanhoPagina = tamanho != null ? tamanho : ObterRankingAlunosUseCase.TAMANHO_MAXIMO_PAGINA;
+        
+        Optional<PaginaRanking> materializado = paginado
+                ? obterRankingMaterializadoUseCase.executarPagina(versao, aprovados, cursor, tamanhoPagina)
+                : obterRankingMaterializadoUseCase.executar(versao, aprovados, aprovados ? null : top);
+        if (materializado.isPresent()) {
+            return respostaRanking(materializado.get());
+        }
         
-        if (apenasAprovados != null && apenasAprovados) {
-            alunos = obterRankingAlunosUseCase.executarAprovados();
+        if (paginado) {
+            return respostaRanking(obterRankingAlunosUseCase.executarPagina(cursor, tamanhoPagina, aprovados));
+        }
+        
+        List<PosicaoRanking> ranking;
+        
+        if (aprovados) {
+            ranking = obterRankingAlunosUseCase.executarAprovados();
         } else if (top != null && top > 0) {
-            alunos = obterRankingAlunosUseCase.executarTop(top);
+            ranking = obterRankingAlunosUseCase.executarTop(top);
         } else {
-            alunos = obterRankingAlunosUseCase.executar();
+            ranking = obterRankingAlunosUseCase.executar();
         }
         
-        List<RankingResponseDTO> response = alunoMapper.toRankingResponseDTOList(alunos);
+        List<RankingResponseDTO> response = alunoMapper.toRankingResponseDTOList(ranking);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * GET /api/alunos/ranking?fields=posicao,nome - Ranking com apenas alguns campos
+     * O ranking já vem da memória; fields reduz apenas o JSON escrito
+     */
+    @Operation(summary = "Obter campos do ranking", description = "Mesmo ranking, retornando apenas os campos informados em fields")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ranking retornado com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Ranking não mudou desde o ETag informado"),
+            @ApiResponse(responseCode = "400", description = "Cursor, coorte, combinação com coorte ou campo desconhecido em fields")
+    })
+    @GetMapping(value = "/ranking", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> obterRankingCampos(
+            @Parameter(description = "Campos separados por vírgula (ex.: posicao,nome,mediaFinal)") @RequestParam String fields,
+            @Parameter(description = "Limitar top N alunos") @RequestParam(required = false) Integer top,
+            @Parameter(description = "Filtrar apenas aprovados") @RequestParam(required = false) Boolean apenasAprovados,
+            @Parameter(description = "Cursor opaco devolvido pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página (máximo " + ObterRankingAlunosUseCase.TAMANHO_MAXIMO_PAGINA + ")")
+            @RequestParam(required = false) Integer tamanho,
+            @Parameter(description = "Versão do snapshot devolvida no header " + HEADER_VERSAO_RANKING)
+            @RequestParam(required = false) Long versao,
+            @Parameter(description = "Coorte de ingresso: AAAA-S (semestre, ex.: 2026-1) ou AAAA-MM (mês, ex.: 2026-03)")
+            @RequestParam(required = false) String coorte,
+            WebRequest request) {
+        
+        Set<CampoRanking> campos = CampoRanking.interpretar(fields);
+        ResponseEntity<List<RankingResponseDTO>> ranking =
+                obterRanking(top, apenasAprovados, cursor, tamanho, versao, coorte, request);
+        if (ranking == null) {
+            return null;
+        }
+        
+        return ResponseEntity.status(ranking.getStatusCode())
+                .headers(ranking.getHeaders())
+                .body(alunoMapper.toMapas(ranking.getBody(), campos));
+    }
+    
+    private static void escreverJson(HttpServletResponse response, byte[] json) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(json.length);
+        response.getOutputStream().write(json);
+    }
+    
+    /**
+     * A versão do snapshot entra no ETag porque ele é atualizado depois do contador da coleção
+     */
+    private String versaoRanking() {
+        return "ranking-" + rastreadorVersoes.versaoColecao()
+                + obterRankingMaterializadoUseCase.versaoAtual().map(versao -> "-" + versao).orElse("");
+    }
+    
+    private ResponseEntity<List<RankingResponseDTO>> respostaRanking(PaginaRanking pagina) {
+        List<RankingResponseDTO> response = alunoMapper.toRankingResponseDTOList(pagina.itens());
+        
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (pagina.temProximaPagina()) {
+            builder.header(HEADER_PROXIMO_CURSOR, pagina.proximoCursor().codificar());
+        }
+        if (pagina.versao() != null) {
+            builder.header(HEADER_VERSAO_RANKING, pagina.versao().toString());
+        }
+        return builder.body(response);
+    }
+    
+    /**
+     * GET /api/alunos/ranking/coortes - Rankings de todas as coortes de ingresso
+     */
+    @Operation(summary = "Ranking por coortes", description = "Retorna o ranking de cada coorte de ingresso (por semestre ou mês) "
+            + "e o ranking geral obtido pela intercalação dos rankings das coortes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rankings retornados com sucesso",
+                    content = @Content(schema = @Schema(implementation = RankingCoortesResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Periodicidade inválida")
+    })
+    @GetMapping("/ranking/coortes")
+    public ResponseEntity<RankingCoortesResponseDTO> obterRankingCoortes(
+            @Parameter(description = "SEMESTRAL ou MENSAL") @RequestParam(defaultValue = "SEMESTRAL") String periodicidade,
+            @Parameter(description = "Limitar top N alunos de cada ranking") @RequestParam(required = false) Integer top) {
+        
+        RankingCoortesResponseDTO response = alunoMapper.toRankingCoortesResponseDTO(
+                obterRankingCoortesUseCase.executarTodas(periodicidade, top));
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * GET /api/alunos/{id}/ranking - Alunos posicionados ao redor de um aluno
+     */
+    @Operation(summary = "Ranking ao redor do aluno", description = "Retorna o aluno e os colegas imediatamente acima e abaixo dele no ranking")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ranking retornado com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Aluno não encontrado")
+    })
+    @GetMapping("/{id}/ranking")
+    public ResponseEntity<List<RankingResponseDTO>> obterRankingAoRedor(
+            @Parameter(description = "ID do aluno") @PathVariable Long id,
+            @Parameter(description = "Quantidade de posições acima e abaixo do aluno") @RequestParam(defaultValue = "5") int raio) {
+        
+        List<PosicaoRanking> ranking = obterRankingAlunosUseCase.executarAoRedor(id, raio);
+        List<RankingResponseDTO> response = alunoMapper.toRankingResponseDTOList(ranking);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * GET /api/alunos/{id}/posicao - Posição e percentil do aluno no ranking
+     */
+    @Operation(summary = "Posição do aluno", description = "Retorna a posição e o percentil do aluno no ranking geral")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Posição retornada com sucesso",
+                    content = @Content(schema = @Schema(implementation = PosicaoAlunoResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Aluno não encontrado")
+    })
+    @GetMapping("/{id}/posicao")
+    public ResponseEntity<PosicaoAlunoResponseDTO> obterPosicao(
+            @Parameter(description = "ID do aluno") @PathVariable Long id) {
+        
+        PosicaoAlunoResponseDTO response = alunoMapper.toPosicaoResponseDTO(obterPosicaoAlunoUseCase.executar(id));
         return ResponseEntity.ok(response);
     }
 }
@@ -1,10 +1,15 @@
 package com.devops.projeto_ac2.infrastructure.web.exception;
 
 import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.CampoInvalidoException;
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
 import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.exceptions.ImportacaoNaoEncontradaException;
 import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
 import com.devops.projeto_ac2.domain.exceptions.TentativasEsgotadasException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -42,6 +47,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
     
+    /**
+     * Trata exceções de importação não encontrada
+     */
+    @ExceptionHandler(ImportacaoNaoEncontradaException.class)
+    public ResponseEntity<ErrorResponse> handleImportacaoNaoEncontrada(
+            ImportacaoNaoEncontradaException ex, 
+            HttpServletRequest request) {
+        
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("Importação não encontrada")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+    
     /**
      * Trata exceções de Value Object inválido
      */
@@ -80,6 +104,82 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
     
+    /**
+     * Trata conflitos de concorrência que persistiram após as tentativas automáticas
+     */
+    @ExceptionHandler(ConflitoConcorrenciaException.class)
+    public ResponseEntity<ErrorResponse> handleConflitoConcorrencia(
+            ConflitoConcorrenciaException ex, 
+            HttpServletRequest request) {
+        
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflito de concorrência")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+    
+    /**
+     * Trata conflitos de versão otimista de escritas sem repetição automática
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLocking(
+            OptimisticLockingFailureException ex, 
+            HttpServletRequest request) {
+        
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflito de concorrência")
+                .message("O registro foi alterado por outra requisição; tente novamente")
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+    
+    /**
+     * Trata violações de constraint do banco, como o RA duplicado gravado por requisições simultâneas
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(
+            DataIntegrityViolationException ex, 
+            HttpServletRequest request) {
+        
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflito de dados")
+                .message("O registro viola uma restrição do banco (por exemplo, RA já cadastrado)")
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+    
+    /**
+     * Trata exceções de campo desconhecido em fields
+     */
+    @ExceptionHandler(CampoInvalidoException.class)
+    public ResponseEntity<ErrorResponse> handleCampoInvalidoException(
+            CampoInvalidoException ex, 
+            HttpServletRequest request) {
+        
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Campo inválido")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+    
     /**
      * Trata exceções gerais de domínio
      */
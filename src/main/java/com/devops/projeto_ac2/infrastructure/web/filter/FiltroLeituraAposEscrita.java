@@ -0,0 +1,85 @@
+package com.devops.projeto_ac2.infrastructure.web.filter;
+
+import com.devops.projeto_ac2.infrastructure.persistence.RoteamentoLeitura;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Leitura após escrita: o cliente que acabou de escrever lê do primário
+ * 
+ * Toda requisição de escrita devolve o cookie ultima-escrita com o instante da
+ * escrita. Enquanto ele estiver dentro da janela (alunos.replicas.janela-leitura-apos-escrita-ms),
+ * as leituras desse cliente ignoram as réplicas, que podem ainda não ter a alteração.
+ * A própria requisição de escrita também fica no primário, inclusive nas leituras
+ * feitas em transações somente leitura.
+ */
+@Component
+@ConditionalOnProperty(name = "alunos.replicas.habilitado", havingValue = "true")
+public class FiltroLeituraAposEscrita extends OncePerRequestFilter {
+    
+    public static final String COOKIE_ULTIMA_ESCRITA = "ultima-escrita";
+    
+    private static final Set<String> METODOS_LEITURA = Set.of("GET", "HEAD", "OPTIONS");
+    
+    private final long janelaMs;
+    
+    public FiltroLeituraAposEscrita(@Value("${alunos.replicas.janela-leitura-apos-escrita-ms:5000}") long janelaMs) {
+        this.janelaMs = Math.max(0, janelaMs);
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean escrita = !METODOS_LEITURA.contains(request.getMethod());
+        if (escrita) {
+            // antes da resposta começar a ser escrita; uma escrita que falhar só desvia leituras para o primário
+            response.addCookie(cookieUltimaEscrita(System.currentTimeMillis()));
+        } else if (!escritaRecente(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        RoteamentoLeitura.forcarPrimario();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RoteamentoLeitura.liberar();
+        }
+    }
+    
+    private Cookie cookieUltimaEscrita(long instante) {
+        Cookie cookie = new Cookie(COOKIE_ULTIMA_ESCRITA, Long.toString(instante));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (janelaMs + 999) / 1000));
+        return cookie;
+    }
+    
+    private boolean escritaRecente(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_ULTIMA_ESCRITA.equals(cookie.getName())) {
+                try {
+                    long decorrido = System.currentTimeMillis() - Long.parseLong(cookie.getValue());
+                    return decorrido >= 0 && decorrido <= janelaMs;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,23 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para resposta da criação de alunos em lote
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CriacaoEmLoteResponseDTO {
+    
+    private Integer total;
+    private Integer criados;
+    private Integer rejeitados;
+    private List<ResultadoCriacaoAlunoResponseDTO> resultados;
+}
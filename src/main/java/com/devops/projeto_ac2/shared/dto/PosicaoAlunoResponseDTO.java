@@ -0,0 +1,21 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para resposta de posição do aluno no ranking
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PosicaoAlunoResponseDTO {
+    
+    private Long alunoId;
+    private Long posicao;
+    private Long totalAlunos;
+    private Double percentil;
+}
@@ -0,0 +1,35 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO para resposta do andamento de uma importação de alunos
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressoImportacaoResponseDTO {
+    
+    private String id;
+    private String status; // EM_ANDAMENTO, CONCLUIDA ou FALHOU
+    private Long importadas;
+    private Long rejeitadas;
+    private Long lotesConfirmados;
+    private Long linhaConfirmada;
+    private Double linhasPorSegundo;
+    
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    private LocalDateTime inicio;
+    
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    private LocalDateTime fim;
+    
+    private String erro;
+}
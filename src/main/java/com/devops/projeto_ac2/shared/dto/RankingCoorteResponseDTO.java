@@ -0,0 +1,22 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para resposta do ranking de uma coorte de ingresso
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingCoorteResponseDTO {
+    
+    private String coorte;
+    private Integer totalAlunos;
+    private List<RankingResponseDTO> ranking;
+}
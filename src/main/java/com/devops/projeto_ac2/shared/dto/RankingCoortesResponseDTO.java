@@ -0,0 +1,22 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para resposta dos rankings de todas as coortes e do ranking geral
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingCoortesResponseDTO {
+    
+    private String periodicidade;
+    private List<RankingResponseDTO> geral;
+    private List<RankingCoorteResponseDTO> coortes;
+}
@@ -0,0 +1,18 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de um item do registro de tentativas em lote
+ * Validado item a item no caso de uso, para que um item inválido não recuse o lote inteiro
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrarTentativaPorRARequestDTO {
+    
+    private String ra;
+    private Double nota;
+}
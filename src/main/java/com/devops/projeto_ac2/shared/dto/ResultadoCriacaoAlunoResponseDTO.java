@@ -0,0 +1,24 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para resposta de um item da criação em lote
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultadoCriacaoAlunoResponseDTO {
+    
+    private Integer indice;
+    private String ra;
+    private String status; // CRIADO ou REJEITADO
+    private Long id;
+    private String erro;
+}
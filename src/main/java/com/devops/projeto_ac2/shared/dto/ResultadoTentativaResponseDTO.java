@@ -0,0 +1,26 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para resposta de um item do registro de tentativas em lote
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultadoTentativaResponseDTO {
+    
+    private Integer indice;
+    private String ra;
+    private String status; // REGISTRADA, NAO_ENCONTRADO, CURSO_CONCLUIDO, TENTATIVAS_ESGOTADAS ou REJEITADA
+    private Long id;
+    private Double mediaFinal;
+    private Integer tentativasRestantes;
+    private String erro;
+}
@@ -0,0 +1,23 @@
+package com.devops.projeto_ac2.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para resposta do registro de tentativas em lote
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TentativasEmLoteResponseDTO {
+    
+    private Integer total;
+    private Integer registradas;
+    private Integer rejeitadas;
+    private List<ResultadoTentativaResponseDTO> resultados;
+}
@@ -1,13 +1,39 @@
 package com.devops.projeto_ac2.shared.mapper;
 
 import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.readmodels.AlunoParcial;
+import com.devops.projeto_ac2.domain.readmodels.AlunoResumo;
+import com.devops.projeto_ac2.domain.readmodels.CampoAluno;
+import com.devops.projeto_ac2.domain.readmodels.CampoRanking;
+import com.devops.projeto_ac2.domain.readmodels.EntradaRanking;
+import com.devops.projeto_ac2.domain.readmodels.PosicaoAluno;
+import com.devops.projeto_ac2.domain.readmodels.PosicaoRanking;
+import com.devops.projeto_ac2.domain.readmodels.ProgressoImportacao;
+import com.devops.projeto_ac2.domain.readmodels.RankingCoorte;
+import com.devops.projeto_ac2.domain.readmodels.RankingCoortes;
+import com.devops.projeto_ac2.domain.readmodels.ResultadoCriacaoAluno;
+import com.devops.projeto_ac2.domain.readmodels.ResultadoTentativaAluno;
 import com.devops.projeto_ac2.shared.dto.AlunoResponseDTO;
+import com.devops.projeto_ac2.shared.dto.CriacaoEmLoteResponseDTO;
+import com.devops.projeto_ac2.shared.dto.PosicaoAlunoResponseDTO;
+import com.devops.projeto_ac2.shared.dto.ProgressoImportacaoResponseDTO;
+import com.devops.projeto_ac2.shared.dto.RankingCoorteResponseDTO;
+import com.devops.projeto_ac2.shared.dto.RankingCoortesResponseDTO;
 import com.devops.projeto_ac2.shared.dto.RankingResponseDTO;
+import com.devops.projeto_ac2.shared.dto.ResultadoCriacaoAlunoResponseDTO;
+import com.devops.projeto_ac2.shared.dto.ResultadoTentativaResponseDTO;
+import com.devops.projeto_ac2.shared.dto.TentativasEmLoteResponseDTO;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * Mapper para converter Aluno em DTOs
@@ -15,6 +41,22 @@ import java.util.stream.IntStream;
 @Component
 public class AlunoMapper {
     
+    /**
+     * Mesmo formato do @JsonFormat de AlunoResponseDTO
+     */
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    
+    private static final Map<CampoRanking, Function<RankingResponseDTO, Object>> CAMPOS_RANKING = new EnumMap<>(
+            Map.<CampoRanking, Function<RankingResponseDTO, Object>>of(
+                    CampoRanking.POSICAO, RankingResponseDTO::getPosicao,
+                    CampoRanking.ALUNO_ID, RankingResponseDTO::getAlunoId,
+                    CampoRanking.NOME, RankingResponseDTO::getNome,
+                    CampoRanking.RA, RankingResponseDTO::getRa,
+                    CampoRanking.MEDIA_FINAL, RankingResponseDTO::getMediaFinal,
+                    CampoRanking.CURSOS_ADICIONAIS, RankingResponseDTO::getCursosAdicionais,
+                    CampoRanking.CONCLUIU, RankingResponseDTO::getConcluiu,
+                    CampoRanking.SITUACAO, RankingResponseDTO::getSituacao));
+    
     /**
      * Converte Aluno entity para AlunoResponseDTO
      */
@@ -40,47 +82,208 @@ public class AlunoMapper {
     }
     
     /**
-     * Converte lista de Alunos para lista de RankingResponseDTO com posições
+     * Converte a projeção AlunoResumo para AlunoResponseDTO
+     * (situacao e tentativasRestantes já vêm calculados pela consulta)
+     */
+    public AlunoResponseDTO toResponseDTO(AlunoResumo resumo) {
+        if (resumo == null) {
+            return null;
+        }
+        
+        return AlunoResponseDTO.builder()
+                .id(resumo.id())
+                .nome(resumo.nome())
+                .ra(resumo.ra())
+                .mediaFinal(resumo.mediaFinal())
+                .concluiu(resumo.concluiu())
+                .cursosAdicionais(resumo.cursosAdicionais())
+                .tentativasAvaliacao(resumo.tentativasAvaliacao())
+                .tentativasRestantes(resumo.tentativasRestantes())
+                .situacao(resumo.situacao())
+                .dataCriacao(resumo.dataCriacao())
+                .dataAtualizacao(resumo.dataAtualizacao())
+                .dataConclusao(resumo.dataConclusao())
+                .build();
+    }
+    
+    /**
+     * Converte o aluno parcial em um mapa apenas com os campos selecionados
+     * (o ID, sempre lido por ser o cursor, só é incluído se tiver sido pedido)
+     */
+    public Map<String, Object> toMapa(AlunoParcial aluno, Set<CampoAluno> campos) {
+        Map<String, Object> mapa = new LinkedHashMap<>();
+        for (CampoAluno campo : campos) {
+            Object valor = aluno.valor(campo);
+            mapa.put(campo.getNome(), valor instanceof LocalDateTime data ? FORMATO_DATA.format(data) : valor);
+        }
+        return mapa;
+    }
+    
+    /**
+     * Reduz as linhas do ranking aos campos selecionados
+     */
+    public List<Map<String, Object>> toMapas(List<RankingResponseDTO> ranking, Set<CampoRanking> campos) {
+        return ranking.stream()
+                .map(linha -> {
+                    Map<String, Object> mapa = new LinkedHashMap<>();
+                    campos.forEach(campo -> mapa.put(campo.getNome(), CAMPOS_RANKING.get(campo).apply(linha)));
+                    return mapa;
+                })
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Converte os resultados da criação em lote para CriacaoEmLoteResponseDTO
+     */
+    public CriacaoEmLoteResponseDTO toCriacaoEmLoteResponseDTO(List<ResultadoCriacaoAluno> resultados) {
+        List<ResultadoCriacaoAlunoResponseDTO> itens = resultados.stream()
+                .map(resultado -> ResultadoCriacaoAlunoResponseDTO.builder()
+                        .indice(resultado.indice())
+                        .ra(resultado.ra())
+                        .status(resultado.criado() ? "CRIADO" : "REJEITADO")
+                        .id(resultado.criado() ? resultado.aluno().getId() : null)
+                        .erro(resultado.erro())
+                        .build())
+                .collect(Collectors.toList());
+        
+        int criados = (int) resultados.stream().filter(ResultadoCriacaoAluno::criado).count();
+        return CriacaoEmLoteResponseDTO.builder()
+                .total(resultados.size())
+                .criados(criados)
+                .rejeitados(resultados.size() - criados)
+                .resultados(itens)
+                .build();
+    }
+    
+    /**
+     * Converte os resultados do registro de tentativas em lote para TentativasEmLoteResponseDTO
      */
-    public List<RankingResponseDTO> toRankingResponseDTOList(List<Aluno> alunos) {
-        if (alunos == null) {
+    public TentativasEmLoteResponseDTO toTentativasEmLoteResponseDTO(List<ResultadoTentativaAluno> resultados) {
+        List<ResultadoTentativaResponseDTO> itens = resultados.stream()
+                .map(resultado -> ResultadoTentativaResponseDTO.builder()
+                        .indice(resultado.indice())
+                        .ra(resultado.ra())
+                        .status(resultado.situacao().name())
+                        .id(resultado.registrada() ? resultado.aluno().getId() : null)
+                        .mediaFinal(resultado.registrada() ? resultado.aluno().getMediaFinal() : null)
+                        .tentativasRestantes(resultado.registrada() ? resultado.aluno().tentativasRestantes() : null)
+                        .erro(resultado.erro())
+                        .build())
+                .collect(Collectors.toList());
+        
+        int registradas = (int) resultados.stream().filter(ResultadoTentativaAluno::registrada).count();
+        return TentativasEmLoteResponseDTO.builder()
+                .total(resultados.size())
+                .registradas(registradas)
+                .rejeitadas(resultados.size() - registradas)
+                .resultados(itens)
+                .build();
+    }
+    
+    /**
+     * Converte o andamento da importação para ProgressoImportacaoResponseDTO
+     */
+    public ProgressoImportacaoResponseDTO toProgressoImportacaoResponseDTO(ProgressoImportacao progresso) {
+        return ProgressoImportacaoResponseDTO.builder()
+                .id(progresso.id())
+                .status(progresso.status())
+                .importadas(progresso.importadas())
+                .rejeitadas(progresso.rejeitadas())
+                .lotesConfirmados(progresso.lotesConfirmados())
+                .linhaConfirmada(progresso.linhaConfirmada())
+                .linhasPorSegundo(progresso.linhasPorSegundo())
+                .inicio(progresso.inicio())
+                .fim(progresso.fim())
+                .erro(progresso.erro())
+                .build();
+    }
+    
+    /**
+     * Converte as posições do ranking para lista de RankingResponseDTO
+     */
+    public List<RankingResponseDTO> toRankingResponseDTOList(List<PosicaoRanking> ranking) {
+        if (ranking == null) {
             return List.of();
         }
         
-        return IntStream.range(0, alunos.size())
-                .mapToObj(i -> toRankingResponseDTO(alunos.get(i), i + 1))
+        return ranking.stream()
+                .map(this::toRankingResponseDTO)
                 .collect(Collectors.toList());
     }
     
     /**
-     * Converte Aluno entity para RankingResponseDTO
+     * Converte uma posição do ranking para RankingResponseDTO
      */
-    private RankingResponseDTO toRankingResponseDTO(Aluno aluno, int posicao) {
+    private RankingResponseDTO toRankingResponseDTO(PosicaoRanking posicao) {
+        EntradaRanking entrada = posicao.entrada();
         return RankingResponseDTO.builder()
-                .posicao(posicao)
-                .alunoId(aluno.getId())
-                .nome(aluno.getNome())
-                .ra(aluno.getRegistroAcademico().getValor())
-                .mediaFinal(aluno.getMediaFinal())
-                .cursosAdicionais(aluno.getCursosAdicionais())
-                .concluiu(aluno.isConcluiu())
-                .situacao(determinarSituacao(aluno))
+                .posicao(posicao.posicao())
+                .alunoId(entrada.id())
+                .nome(entrada.nome())
+                .ra(entrada.ra())
+                .mediaFinal(entrada.mediaFinal())
+                .cursosAdicionais(entrada.cursosAdicionais())
+                .concluiu(entrada.concluiu())
+                .situacao(determinarSituacao(entrada.concluiu(), entrada.mediaFinal()))
+                .build();
+    }
+    
+    /**
+     * Converte o ranking de uma coorte para RankingCoorteResponseDTO
+     */
+    public RankingCoorteResponseDTO toRankingCoorteResponseDTO(RankingCoorte ranking) {
+        return RankingCoorteResponseDTO.builder()
+                .coorte(ranking.coorte().toString())
+                .totalAlunos(ranking.totalAlunos())
+                .ranking(toRankingResponseDTOList(ranking.posicoes()))
+                .build();
+    }
+    
+    /**
+     * Converte os rankings por coorte para RankingCoortesResponseDTO
+     */
+    public RankingCoortesResponseDTO toRankingCoortesResponseDTO(RankingCoortes rankings) {
+        return RankingCoortesResponseDTO.builder()
+                .periodicidade(rankings.periodicidade().name())
+                .geral(toRankingResponseDTOList(rankings.geral()))
+                .coortes(rankings.coortes().stream()
+                        .map(this::toRankingCoorteResponseDTO)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+    
+    /**
+     * Converte a posição do aluno para PosicaoAlunoResponseDTO
+     */
+    public PosicaoAlunoResponseDTO toPosicaoResponseDTO(PosicaoAluno posicao) {
+        return PosicaoAlunoResponseDTO.builder()
+                .alunoId(posicao.alunoId())
+                .posicao(posicao.posicao())
+                .totalAlunos(posicao.totalAlunos())
+                .percentil(posicao.percentil())
                 .build();
     }
     
     private String determinarSituacao(Aluno aluno) {
-        if (!aluno.isConcluiu()) {
-            if (aluno.emRecuperacao()) {
+        return determinarSituacao(aluno.isConcluiu(), aluno.getMediaFinal());
+    }
+    
+    /**
+     * Mesmas regras de Aluno.aprovado(), Aluno.reprovado() e Aluno.emRecuperacao()
+     */
+    private String determinarSituacao(boolean concluiu, double mediaFinal) {
+        if (!concluiu) {
+            if (mediaFinal >= 5.0 && mediaFinal < 7.0) {
                 return "EM_RECUPERACAO";
             }
             return "NAO_CONCLUIDO";
         }
         
-        if (aluno.aprovado()) {
+        if (mediaFinal >= 7.0) {
             return "APROVADO";
         }
         
-        if (aluno.reprovado()) {
+        if (mediaFinal < 5.0) {
             return "REPROVADO";
         }
         
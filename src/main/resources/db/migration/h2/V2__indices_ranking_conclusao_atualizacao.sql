@@ -0,0 +1,9 @@
+-- Ordem do ranking (e keyset das páginas seguintes): lido em ordem pelo índice, sem ordenar a tabela
+CREATE INDEX idx_alunos_ranking ON tb_alunos (media_final DESC, cursos_adicionais DESC, id);
+
+-- Filtro por conclusão; o H2 não tem índice parcial, então concluiu é a primeira coluna
+-- e o id em seguida mantém a paginação por keyset da listagem filtrada
+CREATE INDEX idx_alunos_concluiu ON tb_alunos (concluiu, id);
+
+-- Consultas por período de atualização
+CREATE INDEX idx_alunos_data_atualizacao ON tb_alunos (data_atualizacao);
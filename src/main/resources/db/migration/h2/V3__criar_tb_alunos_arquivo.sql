@@ -0,0 +1,21 @@
+-- Alunos concluídos há mais tempo que alunos.arquivo.idade-minima-dias, movidos de tb_alunos
+-- pelo arquivamento; mesmas colunas, mais o instante em que a linha foi movida
+CREATE TABLE tb_alunos_arquivo (
+    id                   BIGINT       NOT NULL,
+    nome                 VARCHAR(100) NOT NULL,
+    ra                   VARCHAR(20)  NOT NULL,
+    media_final          FLOAT(53)    NOT NULL,
+    concluiu             BOOLEAN      NOT NULL,
+    cursos_adicionais    INTEGER      NOT NULL,
+    tentativas_avaliacao INTEGER      NOT NULL,
+    data_criacao         TIMESTAMP(6) NOT NULL,
+    versao               BIGINT       NOT NULL,
+    data_atualizacao     TIMESTAMP(6),
+    data_conclusao       TIMESTAMP(6),
+    data_arquivamento    TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_tb_alunos_arquivo PRIMARY KEY (id),
+    CONSTRAINT uk_tb_alunos_arquivo_ra UNIQUE (ra)
+);
+
+-- Seleção dos lotes a arquivar: concluídos por data de conclusão
+CREATE INDEX idx_alunos_arquivamento ON tb_alunos (concluiu, data_conclusao);
@@ -0,0 +1,19 @@
+-- Tabela de alunos (mapeada pela entidade Aluno)
+-- IDs reservados pelo Hibernate em blocos de 50 (allocationSize do @SequenceGenerator)
+CREATE SEQUENCE tb_alunos_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE tb_alunos (
+    id                   BIGINT       NOT NULL,
+    nome                 VARCHAR(100) NOT NULL,
+    ra                   VARCHAR(20)  NOT NULL,
+    media_final          FLOAT(53)    NOT NULL,
+    concluiu             BOOLEAN      NOT NULL,
+    cursos_adicionais    INTEGER      NOT NULL,
+    tentativas_avaliacao INTEGER      NOT NULL,
+    data_criacao         TIMESTAMP(6) NOT NULL,
+    versao               BIGINT       NOT NULL,
+    data_atualizacao     TIMESTAMP(6),
+    data_conclusao       TIMESTAMP(6),
+    CONSTRAINT pk_tb_alunos PRIMARY KEY (id),
+    CONSTRAINT uk_tb_alunos_ra UNIQUE (ra)
+);
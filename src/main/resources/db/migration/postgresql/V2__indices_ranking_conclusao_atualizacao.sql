@@ -0,0 +1,11 @@
+-- Ordem do ranking (e keyset das páginas seguintes): lido em ordem pelo índice, sem ordenar a tabela.
+-- As demais colunas do ranking vão no INCLUDE para a leitura ser só do índice (index-only scan)
+CREATE INDEX idx_alunos_ranking ON tb_alunos (media_final DESC, cursos_adicionais DESC, id)
+    INCLUDE (nome, ra, concluiu, data_criacao);
+
+-- Índice parcial apenas com os alunos em andamento: a maior parte da tabela é de alunos que
+-- já concluíram, e para esses a leitura da tabela (ou da chave primária, no keyset) já é o melhor plano
+CREATE INDEX idx_alunos_concluiu ON tb_alunos (id) WHERE concluiu = false;
+
+-- Consultas por período de atualização
+CREATE INDEX idx_alunos_data_atualizacao ON tb_alunos (data_atualizacao);
@@ -0,0 +1,91 @@
+package com.devops.projeto_ac2.application.arquivamento;
+
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ArquivadorAlunos
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Arquivador de Alunos Concluídos")
+class ArquivadorAlunosTest {
+    
+    @Mock
+    private AlunoRepository alunoRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private ArquivadorAlunos arquivador;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        arquivador = new ArquivadorAlunos(alunoRepository, transactionManager, meterRegistry, 365, 2, Runnable::run);
+    }
+    
+    @Test
+    @DisplayName("Deve arquivar lote a lote, uma transação por lote, até um lote incompleto")
+    void deveArquivarLoteALote() {
+        // Arrange
+        when(alunoRepository.arquivarConcluidosAte(any(), eq(2)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+        
+        // Act
+        int arquivados = arquivador.arquivar();
+        
+        // Assert
+        assertThat(arquivados).isEqualTo(3);
+        verify(alunoRepository, times(2)).arquivarConcluidosAte(any(), eq(2));
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(meterRegistry.counter("alunos.arquivo.arquivados").count()).isEqualTo(3.0);
+    }
+    
+    @Test
+    @DisplayName("Deve arquivar apenas os alunos concluídos antes da idade mínima")
+    void deveUsarIdadeMinimaComoLimite() {
+        // Arrange
+        when(alunoRepository.arquivarConcluidosAte(any(), eq(2))).thenReturn(List.of());
+        LocalDateTime antes = LocalDateTime.now().minusDays(365);
+        
+        // Act
+        int arquivados = arquivador.arquivar();
+        
+        // Assert
+        assertThat(arquivados).isZero();
+        verify(alunoRepository).arquivarConcluidosAte(
+                argThat(limite -> !limite.isBefore(antes) && limite.isBefore(antes.plusMinutes(1))), eq(2));
+    }
+    
+    @Test
+    @DisplayName("Deve limitar o tamanho do lote")
+    void deveLimitarTamanhoDoLote() {
+        // Arrange
+        arquivador = new ArquivadorAlunos(alunoRepository, transactionManager, meterRegistry, 365, 50_000, Runnable::run);
+        when(alunoRepository.arquivarConcluidosAte(any(), anyInt())).thenReturn(List.of());
+        
+        // Act
+        arquivador.agendar();
+        
+        // Assert
+        verify(alunoRepository).arquivarConcluidosAte(any(), eq(ArquivadorAlunos.TAMANHO_MAXIMO_LOTE));
+    }
+}
@@ -0,0 +1,116 @@
+package com.devops.projeto_ac2.application.cache;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.events.AlunoRemovidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoSalvoEvent;
+import com.devops.projeto_ac2.domain.readmodels.AlunoResumo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para CacheAlunos
+ */
+@DisplayName("Testes do Cache de Alunos por ID")
+class CacheAlunosTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    private CacheAlunos cache;
+    private AtomicInteger cargas;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CacheAlunos(meterRegistry, 100, 60_000, 60_000);
+        cargas = new AtomicInteger();
+    }
+    
+    @Test
+    @DisplayName("Deve carregar o aluno uma vez e servir as leituras seguintes da memória")
+    void deveServirLeiturasDaMemoria() {
+        // Act
+        Optional<AlunoResumo> primeira = cache.buscar(1L, carregar("Ana Souza"));
+        Optional<AlunoResumo> segunda = cache.buscar(1L, carregar("Outro Nome"));
+        
+        // Assert
+        assertThat(primeira).map(AlunoResumo::nome).contains("Ana Souza");
+        assertThat(segunda).containsSame(primeira.orElseThrow());
+        assertThat(cargas).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("alunos.cache.taxa-acertos").gauge().value()).isEqualTo(0.5);
+    }
+    
+    @Test
+    @DisplayName("Não deve guardar aluno inexistente")
+    void naoDeveGuardarAlunoInexistente() {
+        // Act
+        cache.buscar(1L, id -> {
+            cargas.incrementAndGet();
+            return Optional.empty();
+        });
+        Optional<AlunoResumo> depois = cache.buscar(1L, carregar("Ana Souza"));
+        
+        // Assert
+        assertThat(depois).isPresent();
+        assertThat(cargas).hasValue(2);
+    }
+    
+    @Test
+    @DisplayName("Deve recarregar o aluno após escrita ou remoção")
+    void deveInvalidarAposEscritaOuRemocao() {
+        // Arrange
+        cache.buscar(1L, carregar("Ana Souza"));
+        Aluno aluno = mock(Aluno.class);
+        when(aluno.getId()).thenReturn(1L);
+        
+        // Act & Assert - escrita
+        cache.aoSalvarAluno(new AlunoSalvoEvent(aluno));
+        assertThat(cache.buscar(1L, carregar("Ana Souza Lima"))).map(AlunoResumo::nome).contains("Ana Souza Lima");
+        
+        // Act & Assert - remoção
+        cache.aoRemoverAluno(new AlunoRemovidoEvent(1L, "11111"));
+        assertThat(cache.buscar(1L, id -> Optional.empty())).isEmpty();
+        assertThat(cargas).hasValue(2);
+    }
+    
+    @Test
+    @DisplayName("Deve marcar o aluno gravado, para que a carga seguinte leia do primário")
+    void deveMarcarAlunoGravadoRecentemente() {
+        // Arrange
+        Aluno aluno = mock(Aluno.class);
+        when(aluno.getId()).thenReturn(1L);
+        AtomicInteger cargasMarcadas = new AtomicInteger();
+        cache.buscar(1L, carregar("Ana Souza"));
+        
+        // Act
+        cache.aoSalvarAluno(new AlunoSalvoEvent(aluno));
+        cache.buscar(1L, id -> {
+            if (cache.gravadoRecentemente(id)) {
+                cargasMarcadas.incrementAndGet();
+            }
+            return carregar("Ana Souza Lima").apply(id);
+        });
+        
+        // Assert
+        assertThat(cargasMarcadas).hasValue(1);
+        assertThat(cache.gravadoRecentemente(2L)).isFalse();
+    }
+    
+    private Function<Long, Optional<AlunoResumo>> carregar(String nome) {
+        return id -> {
+            cargas.incrementAndGet();
+            LocalDateTime agora = LocalDateTime.now();
+            return Optional.of(new AlunoResumo(id, nome, "11111", 8.0, false, 0, 1, 2,
+                    "NAO_CONCLUIDO", agora, agora, null));
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package com.devops.projeto_ac2.application.cache;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.events.AlunoRemovidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoSalvoEvent;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para FiltroRAs
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Filtro de RAs (Bloom)")
+class FiltroRAsTest {
+    
+    @Mock
+    private AlunoRepository alunoRepository;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private FiltroRAs filtro;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filtro = new FiltroRAs(alunoRepository, meterRegistry, 0.01);
+    }
+    
+    @Test
+    @DisplayName("Deve responder talvez para todo RA enquanto não foi carregado")
+    void deveResponderTalvezAntesDeCarregar() {
+        assertThat(filtro.pronto()).isFalse();
+        assertThat(filtro.podeExistir("12345ABC")).isTrue();
+    }
+    
+    @Test
+    @DisplayName("Deve conter todos os RAs do banco e descartar a maioria dos ausentes")
+    void deveConterTodosOsRAsDoBanco() {
+        // Arrange
+        List<String> cadastrados = IntStream.range(0, 1000).mapToObj(i -> "RA" + (100000 + i)).toList();
+        carregar(cadastrados);
+        
+        // Act
+        long ausentesAceitos = IntStream.range(0, 10_000)
+                .mapToObj(i -> "XY" + (500000 + i))
+                .filter(filtro::podeExistir)
+                .count();
+        
+        // Assert - nenhum falso negativo e falsos positivos perto da taxa configurada
+        assertThat(cadastrados).allMatch(filtro::podeExistir);
+        assertThat(ausentesAceitos).isLessThan(200);
+        assertThat(meterRegistry.get("alunos.filtro-ra.elementos").gauge().value()).isCloseTo(1000.0, within(10.0));
+        assertThat(meterRegistry.get("alunos.filtro-ra.memoria").gauge().value()).isPositive();
+    }
+    
+    @Test
+    @DisplayName("Deve incluir o RA gravado e esquecer os removidos após a reconstrução")
+    void deveAcompanharGravacoesERemocoes() {
+        // Arrange
+        carregar(List.of());
+        Aluno aluno = Aluno.criar(NomeAluno.criar("João Silva"), RegistroAcademico.criar("12345ABC"));
+        
+        // Act - gravação
+        filtro.aoSalvarAluno(new AlunoSalvoEvent(aluno));
+        
+        // Assert
+        assertThat(filtro.podeExistir("12345ABC")).isTrue();
+        
+        // Act - remoção seguida da reconstrução
+        filtro.aoRemoverAluno(new AlunoRemovidoEvent(1L, "12345ABC"));
+        filtro.reconstruirSeNecessario();
+        
+        // Assert
+        assertThat(filtro.podeExistir("12345ABC")).isFalse();
+        verify(alunoRepository, times(2)).paraCadaRA(any());
+    }
+    
+    private void carregar(List<String> ras) {
+        List<String> atuais = new ArrayList<>(ras);
+        lenient().when(alunoRepository.contar()).thenAnswer(invocation -> (long) atuais.size());
+        lenient().doAnswer(invocation -> {
+            atuais.forEach(invocation.<Consumer<String>>getArgument(0));
+            return null;
+        }).when(alunoRepository).paraCadaRA(any());
+        filtro.reconstruir();
+    }
+}
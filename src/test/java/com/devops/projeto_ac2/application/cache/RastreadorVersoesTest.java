@@ -0,0 +1,148 @@
+package com.devops.projeto_ac2.application.cache;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.events.AlunoRemovidoEvent;
+import com.devops.projeto_ac2.domain.events.AlunoSalvoEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para RastreadorVersoes
+ */
+@DisplayName("Testes do Rastreador de Versões (ETag)")
+class RastreadorVersoesTest {
+    
+    private static final LocalDateTime AGORA = LocalDateTime.of(2026, 3, 10, 14, 30, 0, 123_456_789);
+    
+    private static final long EXPIRACAO_MS = 30_000;
+    
+    private static final long ATRASO_REPLICAS_MS = 1_000;
+    
+    private final AtomicLong relogio = new AtomicLong();
+    
+    private RastreadorVersoes rastreador;
+    
+    @BeforeEach
+    void setUp() {
+        rastreador = new RastreadorVersoes(100, EXPIRACAO_MS, ATRASO_REPLICAS_MS, relogio::get);
+    }
+    
+    @Test
+    @DisplayName("Deve lembrar a versão do aluno lido, ignorando a precisão abaixo de microssegundos")
+    void deveLembrarVersaoDoAlunoLido() {
+        // Arrange
+        assertThat(rastreador.versaoAluno(1L)).isEmpty();
+        
+        // Act
+        String versao = rastreador.registrar(aluno(1L, AGORA));
+        
+        // Assert
+        assertThat(rastreador.versaoAluno(1L)).contains(versao);
+        assertThat(rastreador.registrar(aluno(1L, AGORA.withNano(123_456_000)))).isEqualTo(versao);
+    }
+    
+    @Test
+    @DisplayName("Deve trocar a versão do aluno e da coleção a cada escrita")
+    void deveTrocarVersaoACadaEscrita() {
+        // Arrange
+        String versaoAluno = rastreador.registrar(aluno(1L, AGORA));
+        String versaoColecao = rastreador.versaoColecao();
+        
+        // Act
+        rastreador.aoSalvarAluno(new AlunoSalvoEvent(aluno(1L, AGORA.plusSeconds(1))));
+        
+        // Assert
+        assertThat(rastreador.versaoAluno(1L).orElseThrow()).isNotEqualTo(versaoAluno);
+        assertThat(rastreador.versaoColecao()).isNotEqualTo(versaoColecao);
+    }
+    
+    @Test
+    @DisplayName("Não deve voltar para uma versão antiga lida antes do evento de escrita")
+    void naoDeveVoltarParaVersaoAntiga() {
+        // Arrange
+        rastreador.aoSalvarAluno(new AlunoSalvoEvent(aluno(1L, AGORA.plusSeconds(1))));
+        String versaoNova = rastreador.versaoAluno(1L).orElseThrow();
+        
+        // Act - leitura concorrente que carregou o aluno antes da escrita
+        rastreador.registrar(aluno(1L, AGORA));
+        
+        // Assert
+        assertThat(rastreador.versaoAluno(1L)).contains(versaoNova);
+    }
+    
+    @Test
+    @DisplayName("Deve indicar a coleção alterada apenas dentro do atraso máximo das réplicas")
+    void deveIndicarColecaoAlteradaRecentemente() {
+        // Arrange
+        assertThat(rastreador.colecaoAlteradaRecentemente()).isFalse();
+        
+        // Act
+        rastreador.aoSalvarAluno(new AlunoSalvoEvent(aluno(1L, AGORA)));
+        boolean logoAposEscrita = rastreador.colecaoAlteradaRecentemente();
+        relogio.addAndGet(Duration.ofMillis(ATRASO_REPLICAS_MS).toNanos());
+        
+        // Assert
+        assertThat(logoAposEscrita).isTrue();
+        assertThat(rastreador.colecaoAlteradaRecentemente()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Deve esquecer o aluno removido")
+    void deveEsquecerAlunoRemovido() {
+        // Arrange
+        rastreador.registrar(aluno(1L, AGORA));
+        String versaoColecao = rastreador.versaoColecao();
+        
+        // Act
+        rastreador.aoRemoverAluno(new AlunoRemovidoEvent(1L, "12345"));
+        
+        // Assert
+        assertThat(rastreador.versaoAluno(1L)).isEmpty();
+        assertThat(rastreador.versaoColecao()).isNotEqualTo(versaoColecao);
+    }
+    
+    private Aluno aluno(Long id, LocalDateTime dataAtualizacao) {
+        Aluno aluno = mock(Aluno.class);
+        when(aluno.getId()).thenReturn(id);
+        when(aluno.getDataAtualizacao()).thenReturn(dataAtualizacao);
+        return aluno;
+    }
+    
+    @Test
+    @DisplayName("Deve esquecer a versão do aluno após a expiração, para que seja recalculada a partir do banco")
+    void deveExpirarVersaoDoAluno() {
+        // Arrange
+        rastreador.registrar(aluno(1L, AGORA));
+        
+        // Act
+        avancar(Duration.ofMillis(EXPIRACAO_MS + 1));
+        
+        // Assert
+        assertThat(rastreador.versaoAluno(1L)).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Deve trocar a versão da coleção a cada período de expiração, mesmo sem escritas locais")
+    void deveTrocarVersaoColecaoACadaPeriodo() {
+        // Arrange
+        String versaoColecao = rastreador.versaoColecao();
+        
+        // Act
+        avancar(Duration.ofMillis(EXPIRACAO_MS));
+        
+        // Assert
+        assertThat(rastreador.versaoColecao()).isNotEqualTo(versaoColecao);
+    }
+    
+    private void avancar(Duration duracao) {
+        relogio.addAndGet(duracao.toNanos());
+    }
+}
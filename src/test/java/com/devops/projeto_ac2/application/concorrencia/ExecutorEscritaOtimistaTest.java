@@ -0,0 +1,96 @@
+package com.devops.projeto_ac2.application.concorrencia;
+
+import com.devops.projeto_ac2.domain.exceptions.ConflitoConcorrenciaException;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ExecutorEscritaOtimista
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Executor de Escrita com Versão Otimista")
+class ExecutorEscritaOtimistaTest {
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private MonitorContencao monitorContencao;
+    private ExecutorEscritaOtimista executor;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitorContencao = new MonitorContencao(meterRegistry);
+        executor = new ExecutorEscritaOtimista(transactionManager, monitorContencao, 3, 0, 0);
+    }
+    
+    @Test
+    @DisplayName("Deve repetir a escrita em nova transação até não haver conflito")
+    void deveRepetirAteNaoHaverConflito() {
+        // Arrange
+        AtomicInteger chamadas = new AtomicInteger();
+        
+        // Act
+        String resultado = executor.executar("concluir-curso", 7L, () -> {
+            if (chamadas.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Aluno", 7L);
+            }
+            return "gravado";
+        });
+        
+        // Assert
+        assertThat(resultado).isEqualTo("gravado");
+        assertThat(chamadas).hasValue(3);
+        verify(transactionManager, times(3)).getTransaction(any());
+        assertThat(meterRegistry.counter("alunos.escrita.conflitos", "operacao", "concluir-curso").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("alunos.escrita.retentativas", "operacao", "concluir-curso").count()).isEqualTo(2.0);
+    }
+    
+    @Test
+    @DisplayName("Deve lançar ConflitoConcorrenciaException e contar o aluno disputado ao esgotar as tentativas")
+    void deveLancarConflitoAoEsgotarTentativas() {
+        // Act & Assert
+        assertThatThrownBy(() -> executor.executar("registrar-tentativa", 7L, () -> {
+            throw new ObjectOptimisticLockingFailureException("Aluno", 7L);
+        }))
+                .isInstanceOf(ConflitoConcorrenciaException.class)
+                .hasMessageContaining("3 tentativas");
+        
+        assertThat(meterRegistry.counter("alunos.escrita.esgotadas", "operacao", "registrar-tentativa").count()).isEqualTo(1.0);
+        assertThat(monitorContencao.maisDisputados(5))
+                .containsExactly(new MonitorContencao.AlunoDisputado(7L, 3));
+    }
+    
+    @Test
+    @DisplayName("Não deve repetir escritas recusadas pelas regras de negócio")
+    void naoDeveRepetirRecusaDeNegocio() {
+        // Arrange
+        AtomicInteger chamadas = new AtomicInteger();
+        
+        // Act & Assert
+        assertThatThrownBy(() -> executor.executar("concluir-curso", 7L, () -> {
+            chamadas.incrementAndGet();
+            throw new DomainException("Aluno já concluiu o curso");
+        }))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("Aluno já concluiu o curso");
+        
+        assertThat(chamadas).hasValue(1);
+        assertThat(monitorContencao.maisDisputados(5)).isEmpty();
+    }
+}
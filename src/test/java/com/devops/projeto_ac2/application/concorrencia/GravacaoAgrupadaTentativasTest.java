@@ -0,0 +1,169 @@
+package com.devops.projeto_ac2.application.concorrencia;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para GravacaoAgrupadaTentativas (group commit)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes da Gravação Agrupada de Tentativas")
+class GravacaoAgrupadaTentativasTest {
+    
+    @Mock
+    private AlunoRepository alunoRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private GravacaoAgrupadaTentativas gravacao;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ExecutorEscritaOtimista executorEscrita = new ExecutorEscritaOtimista(
+                transactionManager, new MonitorContencao(meterRegistry), 3, 0, 0);
+        // lote fecha ao completar 3 pedidos; o intervalo longo evita lotes parciais no teste
+        gravacao = new GravacaoAgrupadaTentativas(
+                alunoRepository, executorEscrita, transactionManager, meterRegistry, 5_000, 3, 100);
+        gravacao.iniciar();
+    }
+    
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        gravacao.encerrar();
+    }
+    
+    @Test
+    @DisplayName("Deve gravar os pedidos do lote em uma transação e completar cada um com o seu resultado")
+    void deveGravarLoteEmUmaTransacao() throws Exception {
+        // Arrange - Bruno já tem 2 tentativas: só a primeira das duas do lote cabe no limite
+        Aluno ana = aluno(1L, "Ana Souza", "11111");
+        Aluno bruno = aluno(2L, "Bruno Lima", "22222");
+        bruno.registrarTentativa(MediaFinal.criar(4.0));
+        bruno.registrarTentativa(MediaFinal.criar(5.0));
+        when(alunoRepository.buscarPorIds(any())).thenReturn(List.of(ana, bruno));
+        when(alunoRepository.atualizarTodos(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        CompletableFuture<Aluno> primeiro = gravacao.registrar(1L, MediaFinal.criar(8.0));
+        CompletableFuture<Aluno> segundo = gravacao.registrar(2L, MediaFinal.criar(6.0));
+        CompletableFuture<Aluno> terceiro = gravacao.registrar(2L, MediaFinal.criar(9.0));
+        
+        // Assert
+        assertThat(primeiro.get(5, TimeUnit.SECONDS).getMediaFinal()).isEqualTo(8.0);
+        assertThat(segundo.get(5, TimeUnit.SECONDS).getTentativasAvaliacao()).isEqualTo(3);
+        assertThatThrownBy(() -> terceiro.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(DomainException.class)
+                .hasRootCauseMessage("Aluno já utilizou todas as 3 tentativas disponíveis");
+        
+        verify(alunoRepository, times(1)).buscarPorIds(any());
+        verify(alunoRepository, times(1)).atualizarTodos(List.of(ana, bruno));
+        verify(transactionManager, times(1)).getTransaction(any());
+        assertThat(meterRegistry.summary("alunos.tentativas.agrupadas.lote").totalAmount()).isEqualTo(3.0);
+        assertThat(meterRegistry.timer("alunos.tentativas.agrupadas.commit").count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve gravar cada pedido sozinho quando a transação do lote falhar")
+    void deveGravarPedidosSozinhosQuandoLoteFalhar() throws Exception {
+        // Arrange
+        when(alunoRepository.buscarPorIds(any())).thenReturn(List.of(
+                aluno(1L, "Ana Souza", "11111"), aluno(2L, "Bruno Lima", "22222")));
+        when(alunoRepository.atualizarTodos(anyList())).thenThrow(new ObjectOptimisticLockingFailureException("Aluno", 2L));
+        when(alunoRepository.buscarPorId(1L)).thenReturn(Optional.of(aluno(1L, "Ana Souza", "11111")));
+        when(alunoRepository.buscarPorId(2L)).thenReturn(Optional.of(aluno(2L, "Bruno Lima", "22222")));
+        when(alunoRepository.buscarPorId(3L)).thenReturn(Optional.empty());
+        when(alunoRepository.salvar(any(Aluno.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        CompletableFuture<Aluno> primeiro = gravacao.registrar(1L, MediaFinal.criar(8.0));
+        CompletableFuture<Aluno> segundo = gravacao.registrar(2L, MediaFinal.criar(6.0));
+        CompletableFuture<Aluno> terceiro = gravacao.registrar(3L, MediaFinal.criar(7.0));
+        
+        // Assert
+        assertThat(primeiro.get(5, TimeUnit.SECONDS).getTentativasAvaliacao()).isEqualTo(1);
+        assertThat(segundo.get(5, TimeUnit.SECONDS).getMediaFinal()).isEqualTo(6.0);
+        assertThatThrownBy(() -> terceiro.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(AlunoNotFoundException.class);
+        verify(alunoRepository, times(2)).salvar(any(Aluno.class));
+    }
+    
+    @Test
+    @DisplayName("Deve gravar direto na thread de quem chamou após o encerramento")
+    void deveGravarDiretoAposEncerramento() throws Exception {
+        // Arrange
+        gravacao.encerrar();
+        when(alunoRepository.buscarPorId(1L)).thenReturn(Optional.of(aluno(1L, "Ana Souza", "11111")));
+        when(alunoRepository.salvar(any(Aluno.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        CompletableFuture<Aluno> resultado = gravacao.registrar(1L, MediaFinal.criar(8.0));
+        
+        // Assert
+        assertThat(resultado).isCompleted();
+        assertThat(resultado.get().getMediaFinal()).isEqualTo(8.0);
+        verify(alunoRepository, never()).buscarPorIds(any());
+    }
+    
+    @Test
+    @DisplayName("Deve gravar direto o pedido enfileirado depois da última volta da gravadora")
+    void deveGravarDiretoPedidoEnfileiradoDuranteEncerramento() throws Exception {
+        // Arrange - gravadora já parada; o encerramento acontece entre a verificação e o offer
+        gravacao.encerrar();
+        ReflectionTestUtils.setField(gravacao, "ativo", true);
+        ReflectionTestUtils.setField(gravacao, "fila", new ArrayBlockingQueue<Object>(10) {
+            @Override
+            public boolean offer(Object pedido) {
+                boolean aceito = super.offer(pedido);
+                ReflectionTestUtils.setField(gravacao, "ativo", false);
+                return aceito;
+            }
+        });
+        when(alunoRepository.buscarPorId(1L)).thenReturn(Optional.of(aluno(1L, "Ana Souza", "11111")));
+        when(alunoRepository.salvar(any(Aluno.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        CompletableFuture<Aluno> resultado = gravacao.registrar(1L, MediaFinal.criar(8.0));
+        
+        // Assert
+        assertThat(resultado).isCompleted();
+        assertThat(resultado.get().getMediaFinal()).isEqualTo(8.0);
+    }
+    
+    private Aluno aluno(Long id, String nome, String ra) {
+        Aluno aluno = Aluno.criar(NomeAluno.criar(nome), RegistroAcademico.criar(ra));
+        ReflectionTestUtils.setField(aluno, "id", id);
+        return aluno;
+    }
+}
@@ -0,0 +1,175 @@
+package com.devops.projeto_ac2.application.importacao;
+
+import com.devops.projeto_ac2.application.usecases.CriarAlunosEmLoteUseCase;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.readmodels.ProgressoImportacao;
+import com.devops.projeto_ac2.domain.readmodels.ResultadoCriacaoAluno;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ImportadorAlunos
+ * A importação roda na própria thread do teste (Executor síncrono)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Importador de Alunos (CSV)")
+class ImportadorAlunosTest {
+    
+    @Mock
+    private CriarAlunosEmLoteUseCase criarAlunosEmLoteUseCase;
+    
+    private ImportadorAlunos importador;
+    
+    @BeforeEach
+    void setUp() {
+        importador = new ImportadorAlunos(criarAlunosEmLoteUseCase, 2, 2, Runnable::run);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        importador.encerrar();
+    }
+    
+    @Test
+    @DisplayName("Deve importar CSV com cabeçalho e ponto e vírgula, gravando um lote por vez")
+    void deveImportarCsvEmLotes() throws IOException {
+        // Arrange
+        when(criarAlunosEmLoteUseCase.gravar(anyList())).thenAnswer(invocacao -> criarTodos(invocacao.getArgument(0)));
+        String csv = "\uFEFFnome;ra\n"
+                + "João Silva;12345\n"
+                + "\"Maria Souza\";67890\n"
+                + "\n"
+                + "Pedro Lima;11111\n";
+        
+        // Act
+        ImportacaoAlunos importacao = importador.iniciar(entrada(csv));
+        
+        // Assert
+        ProgressoImportacao progresso = importacao.progresso();
+        assertThat(progresso.status()).isEqualTo("CONCLUIDA");
+        assertThat(progresso.importadas()).isEqualTo(3);
+        assertThat(progresso.rejeitadas()).isZero();
+        assertThat(progresso.lotesConfirmados()).isEqualTo(2);
+        assertThat(progresso.linhaConfirmada()).isEqualTo(5);
+        
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Aluno>> lotes = ArgumentCaptor.forClass(List.class);
+        verify(criarAlunosEmLoteUseCase, times(2)).gravar(lotes.capture());
+        assertThat(lotes.getAllValues().get(0))
+                .extracting(Aluno::getNome)
+                .containsExactly("João Silva", "Maria Souza");
+        assertThat(Files.exists(importacao.getArquivo())).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Deve registrar no relatório as linhas inválidas e os RAs recusados na gravação")
+    void deveRegistrarRejeicoesNoRelatorio() throws IOException {
+        // Arrange
+        when(criarAlunosEmLoteUseCase.gravar(anyList())).thenAnswer(invocacao -> {
+            List<Aluno> alunos = invocacao.getArgument(0);
+            return IntStream.range(0, alunos.size())
+                    .mapToObj(i -> "12345".equals(alunos.get(i).getRegistroAcademico().getValor())
+                            ? ResultadoCriacaoAluno.rejeitado(i, "12345", "Já existe um aluno cadastrado com o RA: 12345")
+                            : ResultadoCriacaoAluno.criado(i, alunos.get(i)))
+                    .toList();
+        });
+        String csv = "João Silva,12345\n"
+                + "Maria Souza,RA-001\n"
+                + "Pedro Lima,67890,extra\n"
+                + "Ana Costa,54321\n";
+        
+        // Act
+        ImportacaoAlunos importacao = importador.iniciar(entrada(csv));
+        
+        // Assert
+        ProgressoImportacao progresso = importacao.progresso();
+        assertThat(progresso.status()).isEqualTo("CONCLUIDA");
+        assertThat(progresso.importadas()).isEqualTo(1);
+        assertThat(progresso.rejeitadas()).isEqualTo(3);
+        assertThat(Files.readAllLines(importacao.getRelatorioErros())).containsExactly(
+                "linha,nome,ra,erro",
+                "1,\"João Silva\",\"12345\",\"Já existe um aluno cadastrado com o RA: 12345\"",
+                "2,\"Maria Souza\",\"RA-001\",\"RA deve conter apenas letras e números\"",
+                "3,\"Pedro Lima,67890,extra\",,\"Esperadas 2 colunas (nome e ra), encontradas 3\"");
+    }
+    
+    @Test
+    @DisplayName("Deve retomar importação com falha a partir do último lote confirmado")
+    void deveRetomarAPartirDoUltimoLoteConfirmado() throws IOException {
+        // Arrange - o segundo lote falha na primeira tentativa
+        when(criarAlunosEmLoteUseCase.gravar(anyList()))
+                .thenAnswer(invocacao -> criarTodos(invocacao.getArgument(0)))
+                .thenThrow(new IllegalStateException("Conexão perdida"))
+                .thenAnswer(invocacao -> criarTodos(invocacao.getArgument(0)));
+        String csv = "nome,ra\n"
+                + "João Silva,12345\n"
+                + "Maria Souza,67890\n"
+                + "Pedro Lima,11111\n";
+        
+        ImportacaoAlunos importacao = importador.iniciar(entrada(csv));
+        assertThat(importacao.progresso().status()).isEqualTo("FALHOU");
+        assertThat(importacao.progresso().erro()).isEqualTo("Conexão perdida");
+        assertThat(importacao.progresso().lotesConfirmados()).isEqualTo(1);
+        assertThat(importacao.progresso().linhaConfirmada()).isEqualTo(3);
+        
+        // Act
+        importador.retomar(importacao);
+        
+        // Assert
+        ProgressoImportacao progresso = importacao.progresso();
+        assertThat(progresso.status()).isEqualTo("CONCLUIDA");
+        assertThat(progresso.importadas()).isEqualTo(3);
+        assertThat(progresso.lotesConfirmados()).isEqualTo(2);
+        
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Aluno>> lotes = ArgumentCaptor.forClass(List.class);
+        verify(criarAlunosEmLoteUseCase, times(3)).gravar(lotes.capture());
+        assertThat(lotes.getAllValues().get(2))
+                .extracting(aluno -> aluno.getRegistroAcademico().getValor())
+                .containsExactly("11111");
+    }
+    
+    @Test
+    @DisplayName("Deve recusar retomar importação que não falhou")
+    void deveRecusarRetomarImportacaoSemFalha() throws IOException {
+        // Arrange
+        when(criarAlunosEmLoteUseCase.gravar(anyList())).thenAnswer(invocacao -> criarTodos(invocacao.getArgument(0)));
+        ImportacaoAlunos importacao = importador.iniciar(entrada("João Silva,12345\n"));
+        
+        // Act & Assert
+        assertThatThrownBy(() -> importador.retomar(importacao))
+                .isInstanceOf(DomainException.class)
+                .hasMessageContaining("Apenas importações com falha podem ser retomadas");
+    }
+    
+    private static List<ResultadoCriacaoAluno> criarTodos(List<Aluno> alunos) {
+        List<ResultadoCriacaoAluno> resultados = new ArrayList<>();
+        for (int i = 0; i < alunos.size(); i++) {
+            resultados.add(ResultadoCriacaoAluno.criado(i, alunos.get(i)));
+        }
+        return resultados;
+    }
+    
+    private static ByteArrayInputStream entrada(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
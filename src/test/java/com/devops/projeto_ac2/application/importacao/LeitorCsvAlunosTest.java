@@ -0,0 +1,86 @@
+package com.devops.projeto_ac2.application.importacao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para LeitorCsvAlunos
+ */
+@DisplayName("Testes do Leitor de CSV de Alunos")
+class LeitorCsvAlunosTest {
+    
+    @TempDir
+    Path pasta;
+    
+    @Test
+    @DisplayName("Deve aceitar o separador dentro de um campo entre aspas")
+    void deveAceitarSeparadorEntreAspas() throws IOException {
+        // Arrange
+        Path arquivo = escrever("nome,ra\n"
+                + "\"Silva, João\",12345\n"
+                + "\"Ana \"\"Aninha\"\" Souza\" , \"67890\"\n");
+        
+        // Act
+        List<LeitorCsvAlunos.Linha> linhas = ler(arquivo);
+        
+        // Assert
+        assertThat(linhas).extracting(LeitorCsvAlunos.Linha::nome, LeitorCsvAlunos.Linha::ra, LeitorCsvAlunos.Linha::erro)
+                .containsExactly(
+                        tuple("Silva, João", "12345", null),
+                        tuple("Ana \"Aninha\" Souza", "67890", null));
+    }
+    
+    @Test
+    @DisplayName("Deve detectar a vírgula quando o ponto e vírgula aparece só entre aspas")
+    void deveIgnorarPontoEVirgulaEntreAspasNaDeteccao() throws IOException {
+        // Arrange
+        Path arquivo = escrever("\"Souza; Maria\",12345\n"
+                + "Pedro Lima,67890\n");
+        
+        // Act
+        List<LeitorCsvAlunos.Linha> linhas = ler(arquivo);
+        
+        // Assert
+        assertThat(linhas).extracting(LeitorCsvAlunos.Linha::nome, LeitorCsvAlunos.Linha::ra)
+                .containsExactly(
+                        tuple("Souza; Maria", "12345"),
+                        tuple("Pedro Lima", "67890"));
+    }
+    
+    @Test
+    @DisplayName("Deve recusar a linha com aspas não fechadas")
+    void deveRecusarAspasNaoFechadas() throws IOException {
+        // Arrange
+        Path arquivo = escrever("nome;ra\n"
+                + "\"Silva; João;12345\n"
+                + "Maria Souza;67890\n");
+        
+        // Act
+        List<LeitorCsvAlunos.Linha> linhas = ler(arquivo);
+        
+        // Assert
+        assertThat(linhas).extracting(LeitorCsvAlunos.Linha::numero, LeitorCsvAlunos.Linha::erro)
+                .containsExactly(
+                        tuple(2L, "Aspas não fechadas"),
+                        tuple(3L, null));
+    }
+    
+    private Path escrever(String csv) throws IOException {
+        return Files.writeString(pasta.resolve("alunos.csv"), csv, StandardCharsets.UTF_8);
+    }
+    
+    private static List<LeitorCsvAlunos.Linha> ler(Path arquivo) throws IOException {
+        try (LeitorCsvAlunos leitor = new LeitorCsvAlunos(arquivo, 0)) {
+            return leitor.proximas(10);
+        }
+    }
+}
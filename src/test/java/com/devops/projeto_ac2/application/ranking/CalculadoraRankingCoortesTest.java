@@ -0,0 +1,106 @@
+package com.devops.projeto_ac2.application.ranking;
+
+import com.devops.projeto_ac2.domain.readmodels.EntradaRanking;
+import com.devops.projeto_ac2.domain.readmodels.PosicaoRanking;
+import com.devops.projeto_ac2.domain.readmodels.RankingCoorte;
+import com.devops.projeto_ac2.domain.readmodels.RankingCoortes;
+import com.devops.projeto_ac2.domain.valueobjects.Coorte;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para CalculadoraRankingCoortes
+ */
+@DisplayName("Testes da Calculadora de Ranking por Coortes")
+class CalculadoraRankingCoortesTest {
+    
+    private CalculadoraRankingCoortes calculadora;
+    
+    @BeforeEach
+    void setUp() {
+        calculadora = new CalculadoraRankingCoortes(4);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        calculadora.encerrar();
+    }
+    
+    @Test
+    @DisplayName("Deve ranquear cada coorte separadamente")
+    void deveRanquearCadaCoorte() {
+        // Arrange
+        List<EntradaRanking> entradas = List.of(
+                entrada(1L, 9.0, 2026, 2),
+                entrada(2L, 7.0, 2026, 3),
+                entrada(3L, 8.0, 2026, 8),
+                entrada(4L, 10.0, 2025, 9));
+        
+        // Act
+        RankingCoortes rankings = calculadora.calcular(entradas, Coorte.Periodicidade.SEMESTRAL, Integer.MAX_VALUE);
+        
+        // Assert
+        assertThat(rankings.coortes()).extracting(r -> r.coorte().toString())
+                .containsExactly("2025-2", "2026-1", "2026-2");
+        RankingCoorte primeiroSemestre = rankings.coortes().get(1);
+        assertThat(primeiroSemestre.totalAlunos()).isEqualTo(2);
+        assertThat(primeiroSemestre.posicoes()).extracting(p -> p.entrada().id()).containsExactly(1L, 2L);
+        assertThat(primeiroSemestre.posicoes()).extracting(PosicaoRanking::posicao).containsExactly(1, 2);
+        assertThat(rankings.geral()).extracting(p -> p.entrada().id()).containsExactly(4L, 1L, 3L, 2L);
+    }
+    
+    @Test
+    @DisplayName("Deve obter o top N geral igual ao de uma ordenação completa")
+    void deveObterTopGeralIgualAoDaOrdenacaoCompleta() {
+        // Arrange
+        Random random = new Random(7);
+        List<EntradaRanking> entradas = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            entradas.add(new EntradaRanking(id, "Aluno " + id, "RA" + id + "000",
+                    random.nextInt(101) / 10.0, random.nextInt(3) * 3, false,
+                    LocalDateTime.of(2020 + random.nextInt(6), 1 + random.nextInt(12), 1, 0, 0)));
+        }
+        List<EntradaRanking> esperado = new ArrayList<>(entradas);
+        esperado.sort(EntradaRanking.ORDEM);
+        
+        // Act
+        RankingCoortes rankings = calculadora.calcular(entradas, Coorte.Periodicidade.MENSAL, 25);
+        
+        // Assert
+        assertThat(rankings.geral()).extracting(PosicaoRanking::entrada).containsExactlyElementsOf(esperado.subList(0, 25));
+        assertThat(rankings.coortes()).allSatisfy(coorte -> assertThat(coorte.posicoes()).hasSizeLessThanOrEqualTo(25));
+        assertThat(rankings.coortes().stream().mapToInt(RankingCoorte::totalAlunos).sum()).isEqualTo(2000);
+    }
+    
+    @Test
+    @DisplayName("Deve ranquear uma única coorte com empates")
+    void deveRanquearUmaCoorte() {
+        // Arrange
+        List<EntradaRanking> entradas = List.of(
+                entrada(1L, 8.0, 2026, 3),
+                entrada(2L, 8.0, 2026, 3),
+                entrada(3L, 6.0, 2026, 3),
+                entrada(4L, 9.0, 2026, 4));
+        
+        // Act
+        RankingCoorte ranking = calculadora.calcular(entradas, Coorte.criar("2026-03"), Integer.MAX_VALUE);
+        
+        // Assert
+        assertThat(ranking.posicoes()).extracting(p -> p.entrada().id()).containsExactly(1L, 2L, 3L);
+        assertThat(ranking.posicoes()).extracting(PosicaoRanking::posicao).containsExactly(1, 1, 3);
+    }
+    
+    private EntradaRanking entrada(Long id, double media, int ano, int mes) {
+        return new EntradaRanking(id, "Aluno " + id, "RA" + id + "000", media, 0, false,
+                LocalDateTime.of(ano, mes, 10, 12, 0));
+    }
+}
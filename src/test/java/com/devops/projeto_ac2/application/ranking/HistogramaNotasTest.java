@@ -0,0 +1,119 @@
+package com.devops.projeto_ac2.application.ranking;
+
+import com.devops.projeto_ac2.domain.readmodels.PosicaoAluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Testes unitários para HistogramaNotas
+ */
+@DisplayName("Testes do Histograma de Notas")
+class HistogramaNotasTest {
+    
+    private HistogramaNotas histograma;
+    
+    @BeforeEach
+    void setUp() {
+        histograma = new HistogramaNotas(mock(AlunoRepository.class));
+    }
+    
+    @Test
+    @DisplayName("Deve calcular posição considerando média e cursos adicionais")
+    void deveCalcularPosicao() {
+        // Arrange
+        histograma.registrar(1L, 9.5, 5);
+        histograma.registrar(2L, 8.0, 3);
+        histograma.registrar(3L, 8.0, 0);
+        histograma.registrar(4L, 6.0, 0);
+        
+        // Act & Assert
+        assertThat(histograma.posicaoDe(1L)).get().extracting(PosicaoAluno::posicao).isEqualTo(1L);
+        assertThat(histograma.posicaoDe(2L)).get().extracting(PosicaoAluno::posicao).isEqualTo(2L);
+        assertThat(histograma.posicaoDe(3L)).get().extracting(PosicaoAluno::posicao).isEqualTo(3L);
+        assertThat(histograma.posicaoDe(4L)).get().extracting(PosicaoAluno::posicao).isEqualTo(4L);
+    }
+    
+    @Test
+    @DisplayName("Deve dar a mesma posição a alunos empatados")
+    void deveDarMesmaPosicaoAosEmpatados() {
+        // Arrange
+        histograma.registrar(1L, 7.25, 3);
+        histograma.registrar(2L, 7.25, 3);
+        histograma.registrar(3L, 5.0, 0);
+        
+        // Act & Assert
+        assertThat(histograma.posicaoDe(1L)).get().extracting(PosicaoAluno::posicao).isEqualTo(1L);
+        assertThat(histograma.posicaoDe(2L)).get().extracting(PosicaoAluno::posicao).isEqualTo(1L);
+        assertThat(histograma.posicaoDe(3L)).get().extracting(PosicaoAluno::posicao).isEqualTo(3L);
+    }
+    
+    @Test
+    @DisplayName("Deve ordenar pela média exata alunos que dividem o mesmo balde, como o ranking")
+    void deveOrdenarPelaMediaExataDentroDoBalde() {
+        // Arrange - 7.004 e 7.001 caem no balde 7.00
+        histograma.registrar(1L, 7.001, 5);
+        histograma.registrar(2L, 7.004, 0);
+        histograma.registrar(3L, 7.004, 0);
+        histograma.registrar(4L, 6.999, 9);
+        
+        // Act & Assert
+        assertThat(HistogramaNotas.balde(7.004)).isEqualTo(HistogramaNotas.balde(7.001));
+        assertThat(histograma.posicaoDe(2L)).get().extracting(PosicaoAluno::posicao).isEqualTo(1L);
+        assertThat(histograma.posicaoDe(3L)).get().extracting(PosicaoAluno::posicao).isEqualTo(1L);
+        assertThat(histograma.posicaoDe(1L)).get().extracting(PosicaoAluno::posicao).isEqualTo(3L);
+        assertThat(histograma.posicaoDe(4L)).get().extracting(PosicaoAluno::posicao).isEqualTo(4L);
+    }
+    
+    @Test
+    @DisplayName("Deve mover aluno entre baldes quando a média muda")
+    void deveMoverAlunoQuandoMediaMuda() {
+        // Arrange
+        histograma.registrar(1L, 9.0, 0);
+        histograma.registrar(2L, 4.0, 0);
+        
+        // Act
+        histograma.registrar(2L, 10.0, 0);
+        
+        // Assert
+        PosicaoAluno posicao = histograma.posicaoDe(2L).orElseThrow();
+        assertThat(posicao.posicao()).isEqualTo(1L);
+        assertThat(posicao.totalAlunos()).isEqualTo(2L);
+        assertThat(posicao.percentil()).isEqualTo(100.0);
+        assertThat(histograma.posicaoDe(1L).orElseThrow().percentil()).isEqualTo(50.0);
+    }
+    
+    @Test
+    @DisplayName("Deve ignorar um evento com versão anterior à já registrada")
+    void deveIgnorarVersaoAnterior() {
+        // Arrange
+        histograma.registrar(1L, 9.0, 0, 1L);
+        histograma.registrar(2L, 6.0, 0, 3L);
+        
+        // Act - o ouvinte da versão 2 roda depois do da versão 3
+        histograma.registrar(2L, 10.0, 0, 2L);
+        
+        // Assert
+        assertThat(histograma.posicaoDe(2L).orElseThrow().posicao()).isEqualTo(2L);
+        assertThat(histograma.posicaoDe(1L).orElseThrow().posicao()).isEqualTo(1L);
+    }
+    
+    @Test
+    @DisplayName("Deve remover aluno do histograma")
+    void deveRemoverAluno() {
+        // Arrange
+        histograma.registrar(1L, 9.0, 0);
+        histograma.registrar(2L, 0.0, 0);
+        
+        // Act
+        histograma.remover(1L);
+        
+        // Assert
+        assertThat(histograma.posicaoDe(1L)).isEmpty();
+        assertThat(histograma.posicaoDe(2L).orElseThrow().posicao()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,176 @@
+package com.devops.projeto_ac2.application.ranking;
+
+import com.devops.projeto_ac2.domain.readmodels.EntradaRanking;
+import com.devops.projeto_ac2.domain.readmodels.PosicaoRanking;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para IndiceRanking
+ */
+@DisplayName("Testes do Índice de Ranking em memória")
+class IndiceRankingTest {
+    
+    private IndiceRanking indice;
+    
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceRanking(mock(AlunoRepository.class));
+    }
+    
+    @Test
+    @DisplayName("Deve reposicionar aluno quando a média é atualizada")
+    void deveReposicionarAlunoQuandoMediaAtualizada() {
+        // Arrange
+        indice.carregar(List.of(
+                entrada(1L, 9.0, 0, false),
+                entrada(2L, 8.0, 0, false),
+                entrada(3L, 7.0, 0, false)));
+        
+        // Act
+        indice.atualizar(entrada(3L, 9.5, 0, false));
+        
+        // Assert
+        assertThat(indice.ranking()).extracting(p -> p.entrada().id()).containsExactly(3L, 1L, 2L);
+        assertThat(indice.tamanho()).isEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("Deve incluir aluno nos aprovados após conclusão e removê-lo ao deletar")
+    void deveManterRankingDeAprovados() {
+        // Arrange
+        indice.carregar(List.of(entrada(1L, 8.0, 0, false)));
+        assertThat(indice.aprovados()).isEmpty();
+        
+        // Act
+        indice.atualizar(entrada(1L, 8.0, 3, true));
+        
+        // Assert
+        assertThat(indice.aprovados()).extracting(p -> p.entrada().id()).containsExactly(1L);
+        
+        indice.remover(1L);
+        assertThat(indice.aprovados()).isEmpty();
+        assertThat(indice.ranking()).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Deve manter a mesma ordem de uma ordenação completa após muitas alterações")
+    void deveManterOrdemConsistenteComOrdenacaoCompleta() {
+        // Arrange
+        Random random = new Random(42);
+        List<EntradaRanking> esperado = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            EntradaRanking e = entrada(id, random.nextInt(1001) / 100.0, random.nextInt(3) * 3, false);
+            esperado.add(e);
+        }
+        indice.carregar(esperado);
+        
+        // Act - atualizar metade dos alunos
+        for (int i = 0; i < 250; i++) {
+            EntradaRanking atual = esperado.get(random.nextInt(esperado.size()));
+            EntradaRanking nova = entrada(atual.id(), random.nextInt(1001) / 100.0, atual.cursosAdicionais(), false);
+            esperado.set(esperado.indexOf(atual), nova);
+            indice.atualizar(nova);
+        }
+        esperado.sort(EntradaRanking.ORDEM);
+        
+        // Assert
+        assertThat(indice.ranking()).extracting(PosicaoRanking::entrada).containsExactlyElementsOf(esperado);
+        assertThat(indice.top(10)).extracting(PosicaoRanking::entrada).containsExactlyElementsOf(esperado.subList(0, 10));
+        
+        EntradaRanking referencia = esperado.get(100);
+        assertThat(indice.aoRedor(referencia.id(), 3)).hasValueSatisfying(vizinhos -> {
+            assertThat(vizinhos).extracting(PosicaoRanking::entrada)
+                    .containsExactlyElementsOf(esperado.subList(97, 104));
+            // posição no padrão RANK(): 1 + quantidade de alunos estritamente melhores
+            long melhores = esperado.stream()
+                    .filter(e -> EntradaRanking.ORDEM.compare(e, esperado.get(97).inicioDoEmpate()) < 0)
+                    .count();
+            assertThat(vizinhos.get(0).posicao()).isEqualTo((int) melhores + 1);
+        });
+    }
+    
+    @Test
+    @DisplayName("Deve ignorar uma atualização com versão anterior à já indexada")
+    void deveIgnorarVersaoAnterior() {
+        // Arrange
+        indice.carregar(List.of(
+                entrada(1L, 9.0, 0, false, 1L),
+                entrada(2L, 8.0, 0, false, 1L)));
+        indice.atualizar(entrada(2L, 9.5, 0, false, 3L));
+        
+        // Act - o ouvinte da versão 2 roda depois do da versão 3
+        indice.atualizar(entrada(2L, 7.0, 0, false, 2L));
+        
+        // Assert
+        assertThat(indice.ranking()).extracting(p -> p.entrada().id()).containsExactly(2L, 1L);
+        assertThat(indice.ranking().get(0).entrada().versao()).isEqualTo(3L);
+    }
+    
+    @Test
+    @DisplayName("Deve aplicar depois da carga inicial um evento confirmado após a leitura do banco")
+    void deveAplicarEventoPosteriorACarga() {
+        // Arrange
+        AlunoRepository alunoRepository = mock(AlunoRepository.class);
+        IndiceRanking indiceComBanco = new IndiceRanking(alunoRepository);
+        when(alunoRepository.buscarEntradasRanking()).thenReturn(List.of(
+                entrada(1L, 9.0, 0, false, 1L),
+                entrada(2L, 8.0, 0, false, 1L)));
+        indiceComBanco.atualizar(entrada(2L, 9.5, 0, false, 2L));
+        
+        // Act - evento já aplicado antes da carga, cuja leitura trouxe a versão 1
+        indiceComBanco.carregarNaInicializacao();
+        indiceComBanco.atualizar(entrada(2L, 9.5, 0, false, 2L));
+        
+        // Assert
+        assertThat(indiceComBanco.ranking()).extracting(p -> p.entrada().id()).containsExactly(2L, 1L);
+    }
+    
+    @Test
+    @DisplayName("Deve manter a posição do empate quando a janela começa no meio do grupo")
+    void deveManterPosicaoDoEmpateNoMeioDaJanela() {
+        // Arrange
+        indice.carregar(List.of(
+                entrada(1L, 9.0, 0, false),
+                entrada(2L, 8.0, 3, false),
+                entrada(3L, 8.0, 3, false),
+                entrada(4L, 8.0, 3, false),
+                entrada(5L, 7.0, 0, false)));
+        
+        // Act & Assert
+        assertThat(indice.aoRedor(4L, 1)).hasValueSatisfying(vizinhos ->
+                assertThat(vizinhos).extracting(PosicaoRanking::posicao).containsExactly(2, 2, 5));
+    }
+    
+    @Test
+    @DisplayName("Deve limitar a janela ao redor nas extremidades do ranking")
+    void deveLimitarJanelaNasExtremidades() {
+        // Arrange
+        indice.carregar(List.of(
+                entrada(1L, 9.0, 0, false),
+                entrada(2L, 8.0, 0, false)));
+        
+        // Act & Assert
+        assertThat(indice.aoRedor(1L, 5)).hasValueSatisfying(vizinhos ->
+                assertThat(vizinhos).extracting(PosicaoRanking::posicao).containsExactly(1, 2));
+        assertThat(indice.aoRedor(99L, 5)).isEmpty();
+    }
+    
+    private EntradaRanking entrada(Long id, double media, int cursos, boolean concluiu) {
+        return new EntradaRanking(id, "Aluno " + id, "RA" + id + "000", media, cursos, concluiu);
+    }
+    
+    private EntradaRanking entrada(Long id, double media, int cursos, boolean concluiu, Long versao) {
+        return new EntradaRanking(id, "Aluno " + id, "RA" + id + "000", media, cursos, concluiu, null, versao);
+    }
+}
@@ -0,0 +1,121 @@
+package com.devops.projeto_ac2.application.ranking;
+
+import com.devops.projeto_ac2.domain.events.AlunoSalvoEvent;
+import com.devops.projeto_ac2.domain.readmodels.EntradaRanking;
+import com.devops.projeto_ac2.domain.readmodels.PaginaRanking;
+import com.devops.projeto_ac2.domain.readmodels.PosicaoRanking;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para MaterializadorRanking e SnapshotRanking
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Ranking Materializado")
+class MaterializadorRankingTest {
+    
+    @Mock
+    private AlunoRepository alunoRepository;
+    
+    private MaterializadorRanking materializador;
+    
+    @BeforeEach
+    void setUp() {
+        materializador = new MaterializadorRanking(alunoRepository, true, 2);
+    }
+    
+    @Test
+    @DisplayName("Deve materializar ranking com posições e versão crescente")
+    void deveMaterializarRankingComVersao() {
+        // Arrange
+        when(alunoRepository.buscarEntradasRanking()).thenReturn(List.of(
+                entrada(3L, 7.0, 0, true),
+                entrada(1L, 9.0, 3, true),
+                entrada(2L, 9.0, 3, false)));
+        
+        // Act
+        SnapshotRanking primeiro = materializador.materializar();
+        SnapshotRanking segundo = materializador.materializar();
+        
+        // Assert
+        assertThat(segundo.getVersao()).isGreaterThan(primeiro.getVersao());
+        PaginaRanking pagina = segundo.pagina(false, null, 10);
+        assertThat(pagina.itens()).extracting(p -> p.entrada().id()).containsExactly(1L, 2L, 3L);
+        assertThat(pagina.itens()).extracting(PosicaoRanking::posicao).containsExactly(1, 1, 3);
+        assertThat(pagina.versao()).isEqualTo(segundo.getVersao());
+        assertThat(segundo.pagina(true, null, 10).itens()).extracting(PosicaoRanking::posicao).containsExactly(1, 2);
+    }
+    
+    @Test
+    @DisplayName("Deve paginar a mesma versão mesmo após um novo refresh")
+    void devePaginarMesmaVersaoAposRefresh() {
+        // Arrange
+        when(alunoRepository.buscarEntradasRanking())
+                .thenReturn(List.of(entrada(1L, 9.0, 0, false), entrada(2L, 8.0, 0, false), entrada(3L, 7.0, 0, false)))
+                .thenReturn(List.of(entrada(4L, 10.0, 0, false), entrada(1L, 9.0, 0, false)));
+        SnapshotRanking original = materializador.materializar();
+        PaginaRanking primeiraPagina = original.pagina(false, null, 2);
+        
+        // Act
+        materializador.aoSalvarAluno(mock(AlunoSalvoEvent.class));
+        materializador.materializarSePendente();
+        PaginaRanking segundaPagina = materializador.snapshot(original.getVersao()).orElseThrow()
+                .pagina(false, primeiraPagina.proximoCursor(), 2);
+        
+        // Assert
+        assertThat(materializador.snapshot(null).orElseThrow().getVersao()).isGreaterThan(original.getVersao());
+        assertThat(segundaPagina.versao()).isEqualTo(original.getVersao());
+        assertThat(segundaPagina.itens()).extracting(p -> p.entrada().id()).containsExactly(3L);
+        assertThat(segundaPagina.itens()).extracting(PosicaoRanking::posicao).containsExactly(3);
+        assertThat(segundaPagina.temProximaPagina()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Deve refazer o snapshot apenas quando houver escrita pendente")
+    void deveMaterializarApenasQuandoPendente() {
+        // Arrange
+        when(alunoRepository.buscarEntradasRanking()).thenReturn(List.of());
+        materializador.materializar();
+        
+        // Act
+        materializador.materializarSePendente();
+        
+        // Assert
+        verify(alunoRepository, times(1)).buscarEntradasRanking();
+    }
+    
+    @Test
+    @DisplayName("Deve descartar versões antigas e continuar na mais recente")
+    void deveDescartarVersoesAntigas() {
+        // Arrange
+        when(alunoRepository.buscarEntradasRanking()).thenReturn(List.of(entrada(1L, 9.0, 0, false)));
+        long primeira = materializador.materializar().getVersao();
+        materializador.materializar();
+        long terceira = materializador.materializar().getVersao();
+        
+        // Act & Assert
+        assertThat(materializador.snapshot(primeira)).hasValueSatisfying(s ->
+                assertThat(s.getVersao()).isEqualTo(terceira));
+    }
+    
+    @Test
+    @DisplayName("Deve retornar vazio antes do primeiro snapshot")
+    void deveRetornarVazioAntesDoPrimeiroSnapshot() {
+        assertThat(materializador.snapshot(null)).isEmpty();
+        verifyNoInteractions(alunoRepository);
+    }
+    
+    private EntradaRanking entrada(Long id, double media, int cursos, boolean concluiu) {
+        return new EntradaRanking(id, "Aluno " + id, "RA" + id + "000", media, cursos, concluiu);
+    }
+}
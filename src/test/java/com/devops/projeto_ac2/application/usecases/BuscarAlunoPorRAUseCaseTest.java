@@ -0,0 +1,124 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.cache.FiltroRAs;
+import com.devops.projeto_ac2.application.cache.IndiceRAs;
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.readmodels.AlunoResumo;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para BuscarAlunoPorRAUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Use Case Buscar Aluno por RA")
+class BuscarAlunoPorRAUseCaseTest {
+    
+    @Mock
+    private AlunoRepository alunoRepository;
+    
+    @Mock
+    private BuscarAlunoPorIdUseCase buscarAlunoPorIdUseCase;
+    
+    private IndiceRAs indiceRAs;
+    private FiltroRAs filtroRAs;
+    private BuscarAlunoPorRAUseCase useCase;
+    
+    @BeforeEach
+    void setUp() {
+        indiceRAs = new IndiceRAs(alunoRepository, new SimpleMeterRegistry());
+        filtroRAs = new FiltroRAs(alunoRepository, new SimpleMeterRegistry(), 0.01);
+        useCase = new BuscarAlunoPorRAUseCase(alunoRepository, buscarAlunoPorIdUseCase, indiceRAs, filtroRAs, false);
+    }
+    
+    @Test
+    @DisplayName("Deve resolver o RA pelo índice, sem consultar o RA no banco")
+    void deveResolverPeloIndice() {
+        // Arrange
+        AlunoResumo aluno = resumo(1L, "12345ABC");
+        indiceRAs.registrar("12345ABC", 1L);
+        when(buscarAlunoPorIdUseCase.executarResumo(1L)).thenReturn(aluno);
+        
+        // Act
+        AlunoResumo resultado = useCase.executar("12345ABC");
+        
+        // Assert
+        assertThat(resultado).isEqualTo(aluno);
+        verify(alunoRepository, never()).buscarResumoPorRA(any());
+    }
+    
+    @Test
+    @DisplayName("Deve descartar entrada de aluno removido e consultar o RA no banco")
+    void deveDescartarEntradaDeAlunoRemovido() {
+        // Arrange
+        AlunoResumo aluno = resumo(2L, "12345ABC");
+        indiceRAs.registrar("12345ABC", 1L);
+        when(buscarAlunoPorIdUseCase.executarResumo(1L)).thenThrow(new AlunoNotFoundException(1L));
+        when(alunoRepository.buscarResumoPorRA("12345ABC")).thenReturn(Optional.of(aluno));
+        
+        // Act
+        AlunoResumo resultado = useCase.executar("12345ABC");
+        
+        // Assert
+        assertThat(resultado).isEqualTo(aluno);
+        assertThat(indiceRAs.idDe("12345ABC")).contains(2L);
+    }
+    
+    @Test
+    @DisplayName("Deve consultar o banco mesmo quando o filtro local descarta o RA")
+    void deveConsultarBancoQuandoFiltroDescartaRA() {
+        // Arrange - RA cadastrado por outra instância, fora do índice e do filtro locais
+        AlunoResumo aluno = resumo(7L, "99999XYZ");
+        carregarFiltroCom("11111");
+        when(alunoRepository.buscarResumoPorRA("99999XYZ")).thenReturn(Optional.of(aluno));
+        
+        // Act
+        AlunoResumo resultado = useCase.executar("99999XYZ");
+        
+        // Assert
+        assertThat(resultado).isEqualTo(aluno);
+        assertThat(indiceRAs.idDe("99999XYZ")).contains(7L);
+    }
+    
+    @Test
+    @DisplayName("Deve responder não encontrado sem consultar o banco quando o filtro descarta o RA em instância única")
+    void deveResponderNaoEncontradoPeloFiltroEmInstanciaUnica() {
+        // Arrange
+        useCase = new BuscarAlunoPorRAUseCase(alunoRepository, buscarAlunoPorIdUseCase, indiceRAs, filtroRAs, true);
+        carregarFiltroCom("11111");
+        
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executar("99999XYZ"))
+                .isInstanceOf(AlunoNotFoundException.class)
+                .hasMessageContaining("99999XYZ");
+        verify(alunoRepository, never()).buscarResumoPorRA(any());
+    }
+    
+    private void carregarFiltroCom(String ra) {
+        doAnswer(invocacao -> {
+            Consumer<String> consumidor = invocacao.getArgument(0);
+            consumidor.accept(ra);
+            return null;
+        }).when(alunoRepository).paraCadaRA(any());
+        filtroRAs.reconstruir();
+    }
+    
+    private AlunoResumo resumo(Long id, String ra) {
+        LocalDateTime agora = LocalDateTime.now();
+        return new AlunoResumo(id, "João Silva", ra, 0.0, false, 0, 0, 3, "EM_ANDAMENTO", agora, agora, null);
+    }
+}
@@ -1,17 +1,21 @@
 package com.devops.projeto_ac2.application.usecases;
 
+import com.devops.projeto_ac2.application.concorrencia.ExecutorEscritaOtimista;
+import com.devops.projeto_ac2.application.concorrencia.MonitorContencao;
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
 import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
 import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
 import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.Optional;
 
@@ -29,9 +33,18 @@ class ConcluirCursoUseCaseTest {
     @Mock
     private AlunoRepository alunoRepository;
     
-    @InjectMocks
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
     private ConcluirCursoUseCase useCase;
     
+    @BeforeEach
+    void setUp() {
+        ExecutorEscritaOtimista executorEscrita = new ExecutorEscritaOtimista(
+                transactionManager, new MonitorContencao(new SimpleMeterRegistry()), 3, 0, 0);
+        useCase = new ConcluirCursoUseCase(alunoRepository, executorEscrita);
+    }
+    
     @Test
     @DisplayName("Deve concluir curso com sucesso e adicionar cursos extras quando aprovado")
     void deveConcluirCursoComSucessoQuandoAprovado() {
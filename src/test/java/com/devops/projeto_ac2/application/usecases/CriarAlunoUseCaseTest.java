@@ -1,16 +1,19 @@
 package com.devops.projeto_ac2.application.usecases;
 
+import com.devops.projeto_ac2.application.cache.FiltroRAs;
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.exceptions.DomainException;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -26,12 +29,15 @@ class CriarAlunoUseCaseTest {
     @Mock
     private AlunoRepository alunoRepository;
     
-    @InjectMocks
+    private FiltroRAs filtroRAs;
+    
     private CriarAlunoUseCase useCase;
     
     @BeforeEach
     void setUp() {
-        // Configuração comum para todos os testes
+        // Filtro ainda não carregado: responde "talvez" e o RA é sempre consultado no banco
+        filtroRAs = new FiltroRAs(alunoRepository, new SimpleMeterRegistry(), 0.01);
+        useCase = new CriarAlunoUseCase(alunoRepository, filtroRAs, false);
     }
     
     @Test
@@ -61,6 +67,39 @@ class CriarAlunoUseCaseTest {
         verify(alunoRepository, times(1)).salvar(any(Aluno.class));
     }
     
+    @Test
+    @DisplayName("Não deve consultar o banco quando o filtro garante que o RA não existe")
+    void naoDeveConsultarBancoQuandoFiltroGaranteAusencia() {
+        // Arrange - filtro carregado a partir de um banco vazio
+        filtroRAs.reconstruir();
+        when(alunoRepository.salvar(any(Aluno.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        Aluno resultado = useCase.executar("João Silva", "12345ABC");
+        
+        // Assert
+        assertThat(resultado.getRegistroAcademico().getValor()).isEqualTo("12345ABC");
+        verify(alunoRepository, never()).existePorRA(any());
+        verify(alunoRepository, times(1)).salvar(any(Aluno.class));
+    }
+    
+    @Test
+    @DisplayName("Deve inserir direto, sem consultar o RA, no modo inserir-direto")
+    void deveInserirDiretoSemConsultarRA() {
+        // Arrange
+        useCase = new CriarAlunoUseCase(alunoRepository, filtroRAs, true);
+        when(alunoRepository.inserirSeRALivre(any(Aluno.class)))
+                .thenReturn(Optional.empty());
+        
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executar("João Silva", "12345ABC"))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("Já existe um aluno cadastrado com o RA: 12345ABC");
+        
+        verify(alunoRepository, never()).existePorRA(any());
+        verify(alunoRepository, never()).salvar(any());
+    }
+    
     @Test
     @DisplayName("Deve lançar exceção quando RA já existe")
     void deveLancarExcecaoQuandoRAJaExiste() {
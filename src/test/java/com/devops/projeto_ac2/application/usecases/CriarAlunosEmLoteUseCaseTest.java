@@ -0,0 +1,114 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.usecases.CriarAlunosEmLoteUseCase.NovoAluno;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.readmodels.ResultadoCriacaoAluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para CriarAlunosEmLoteUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Use Case Criar Alunos em Lote")
+class CriarAlunosEmLoteUseCaseTest {
+    
+    @Mock
+    private AlunoRepository alunoRepository;
+    
+    @InjectMocks
+    private CriarAlunosEmLoteUseCase useCase;
+    
+    @Test
+    @DisplayName("Deve criar os itens válidos e rejeitar os demais, mantendo a ordem do lote")
+    void deveCriarValidosERejeitarDemais() {
+        // Arrange
+        when(alunoRepository.buscarRAsExistentes(any())).thenReturn(Set.of("22222"));
+        when(alunoRepository.salvarTodos(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        List<ResultadoCriacaoAluno> resultados = useCase.executar(List.of(
+                new NovoAluno("Ana Souza", "11111"),
+                new NovoAluno("Bruno Lima", "22222"),
+                new NovoAluno("Jo", "33333"),
+                new NovoAluno("Carla Dias", "11111"),
+                new NovoAluno("Diego Melo", "44444")));
+        
+        // Assert
+        assertThat(resultados).extracting(ResultadoCriacaoAluno::indice).containsExactly(0, 1, 2, 3, 4);
+        assertThat(resultados).extracting(ResultadoCriacaoAluno::criado).containsExactly(true, false, false, false, true);
+        assertThat(resultados.get(1).erro()).isEqualTo("Já existe um aluno cadastrado com o RA: 22222");
+        assertThat(resultados.get(3).erro()).isEqualTo("RA repetido no lote: 11111");
+        assertThat(resultados.get(4).aluno().getNome()).isEqualTo("Diego Melo");
+    }
+    
+    @Test
+    @DisplayName("Deve verificar os RAs do lote inteiro com uma única chamada ao repositório")
+    void deveVerificarRAsComUmaUnicaChamada() {
+        // Arrange
+        List<NovoAluno> novos = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            novos.add(new NovoAluno("Aluno Lote", "RA" + (10000 + i)));
+        }
+        when(alunoRepository.buscarRAsExistentes(any())).thenReturn(Collections.emptySet());
+        when(alunoRepository.salvarTodos(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        List<ResultadoCriacaoAluno> resultados = useCase.executar(novos);
+        
+        // Assert
+        assertThat(resultados).allMatch(ResultadoCriacaoAluno::criado);
+        verify(alunoRepository, times(1)).buscarRAsExistentes(argThat((Collection<String> ras) -> ras.size() == 300));
+        verify(alunoRepository, times(1)).salvarTodos(argThat((List<Aluno> alunos) -> alunos.size() == 300));
+        verify(alunoRepository, never()).existePorRA(any());
+        verify(alunoRepository, never()).salvar(any());
+    }
+    
+    @Test
+    @DisplayName("Não deve gravar nada quando todos os itens são rejeitados")
+    void naoDeveGravarQuandoTodosRejeitados() {
+        // Arrange
+        when(alunoRepository.buscarRAsExistentes(any())).thenReturn(Set.of("11111"));
+        
+        // Act
+        List<ResultadoCriacaoAluno> resultados = useCase.executar(List.of(new NovoAluno("Ana Souza", "11111")));
+        
+        // Assert
+        assertThat(resultados).noneMatch(ResultadoCriacaoAluno::criado);
+        verify(alunoRepository, never()).salvarTodos(any());
+    }
+    
+    @Test
+    @DisplayName("Deve lançar exceção quando o lote está vazio ou excede o tamanho máximo")
+    void deveLancarExcecaoQuandoLoteInvalido() {
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executar(List.of()))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("Informe ao menos um aluno no lote");
+        
+        List<NovoAluno> grande = Collections.nCopies(CriarAlunosEmLoteUseCase.TAMANHO_MAXIMO_LOTE + 1,
+                new NovoAluno("Ana Souza", "11111"));
+        assertThatThrownBy(() -> useCase.executar(grande))
+                .isInstanceOf(DomainException.class)
+                .hasMessageContaining("no máximo");
+        
+        verifyNoInteractions(alunoRepository);
+    }
+}
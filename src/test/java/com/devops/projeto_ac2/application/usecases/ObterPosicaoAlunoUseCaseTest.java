@@ -0,0 +1,55 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.ranking.HistogramaNotas;
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.readmodels.PosicaoAluno;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ObterPosicaoAlunoUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Use Case Obter Posição do Aluno")
+class ObterPosicaoAlunoUseCaseTest {
+    
+    @Mock
+    private HistogramaNotas histogramaNotas;
+    
+    @InjectMocks
+    private ObterPosicaoAlunoUseCase useCase;
+    
+    @Test
+    @DisplayName("Deve retornar posição do aluno")
+    void deveRetornarPosicao() {
+        // Arrange
+        PosicaoAluno posicao = new PosicaoAluno(1L, 3, 10, 80.0);
+        when(histogramaNotas.posicaoDe(1L)).thenReturn(Optional.of(posicao));
+        
+        // Act
+        PosicaoAluno resultado = useCase.executar(1L);
+        
+        // Assert
+        assertThat(resultado).isEqualTo(posicao);
+    }
+    
+    @Test
+    @DisplayName("Deve lançar exceção quando aluno não existe")
+    void deveLancarExcecaoQuandoAlunoNaoExiste() {
+        // Arrange
+        when(histogramaNotas.posicaoDe(999L)).thenReturn(Optional.empty());
+        
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executar(999L))
+                .isInstanceOf(AlunoNotFoundException.class);
+    }
+}
@@ -1,21 +1,26 @@
 package com.devops.projeto_ac2.application.usecases;
 
-import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.application.ranking.IndiceRanking;
+import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+import com.devops.projeto_ac2.domain.readmodels.EntradaRanking;
+import com.devops.projeto_ac2.domain.readmodels.PaginaRanking;
+import com.devops.projeto_ac2.domain.readmodels.PosicaoRanking;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
-import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
-import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
-import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import com.devops.projeto_ac2.domain.valueobjects.CursorRanking;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -28,56 +33,55 @@ class ObterRankingAlunosUseCaseTest {
     @Mock
     private AlunoRepository alunoRepository;
     
-    @InjectMocks
+    private IndiceRanking indiceRanking;
+    
     private ObterRankingAlunosUseCase useCase;
     
+    @BeforeEach
+    void setUp() {
+        indiceRanking = new IndiceRanking(alunoRepository);
+        useCase = new ObterRankingAlunosUseCase(indiceRanking, alunoRepository);
+    }
+    
     @Test
     @DisplayName("Deve retornar ranking ordenado por média final")
     void deveRetornarRankingOrdenado() {
         // Arrange
-        Aluno aluno1 = criarAlunoComMedia("João", "11111", 8.5);
-        aluno1.adicionarCursosExtras(5);
-        Aluno aluno2 = criarAlunoComMedia("Maria", "22222", 9.5);
-        aluno2.adicionarCursosExtras(6);
-        Aluno aluno3 = criarAlunoComMedia("Pedro", "33333", 7.0);
-        aluno3.adicionarCursosExtras(4);
-
-        when(alunoRepository.buscarTodos()).thenReturn(Arrays.asList(aluno1, aluno2, aluno3));
-
+        indiceRanking.carregar(List.of(
+                entrada(1L, "João", 8.5, 5, false),
+                entrada(2L, "Maria", 9.5, 6, false),
+                entrada(3L, "Pedro", 7.0, 4, false)));
+        
         // Act
-        List<Aluno> ranking = useCase.executar();
-
+        List<PosicaoRanking> ranking = useCase.executar();
+        
         // Assert
         assertThat(ranking).hasSize(3);
-        assertThat(ranking.get(0).getNome()).isEqualTo("Maria");
-        assertThat(ranking.get(1).getNome()).isEqualTo("João");
-        assertThat(ranking.get(2).getNome()).isEqualTo("Pedro");
-
-        verify(alunoRepository, times(1)).buscarTodos();
+        assertThat(ranking.get(0).entrada().nome()).isEqualTo("Maria");
+        assertThat(ranking.get(1).entrada().nome()).isEqualTo("João");
+        assertThat(ranking.get(2).entrada().nome()).isEqualTo("Pedro");
+        assertThat(ranking).extracting(PosicaoRanking::posicao).containsExactly(1, 2, 3);
+        
+        // O ranking é lido do índice em memória, sem consultar o banco
+        verifyNoInteractions(alunoRepository);
     }
-
+    
     @Test
     @DisplayName("Deve retornar top N alunos")
     void deveRetornarTopN() {
         // Arrange
-        Aluno aluno1 = criarAlunoComMedia("João", "11111", 8.5);
-        aluno1.adicionarCursosExtras(5);
-        Aluno aluno2 = criarAlunoComMedia("Maria", "22222", 9.5);
-        aluno2.adicionarCursosExtras(6);
-        Aluno aluno3 = criarAlunoComMedia("Pedro", "33333", 7.0);
-        aluno3.adicionarCursosExtras(4);
-
-        when(alunoRepository.buscarTodos()).thenReturn(Arrays.asList(aluno1, aluno2, aluno3));
-
+        indiceRanking.carregar(List.of(
+                entrada(1L, "João", 8.5, 5, false),
+                entrada(2L, "Maria", 9.5, 6, false),
+                entrada(3L, "Pedro", 7.0, 4, false)));
+        
         // Act
-        List<Aluno> top2 = useCase.executarTop(2);
-
+        List<PosicaoRanking> top2 = useCase.executarTop(2);
+        
         // Assert
         assertThat(top2).hasSize(2);
-        assertThat(top2.get(0).getNome()).isEqualTo("Maria");
-        assertThat(top2.get(1).getNome()).isEqualTo("João");
-
-        verify(alunoRepository, times(1)).buscarTodos();
+        assertThat(top2.get(0).entrada().nome()).isEqualTo("Maria");
+        assertThat(top2.get(1).entrada().nome()).isEqualTo("João");
     }
     
     @Test
@@ -97,62 +101,132 @@ class ObterRankingAlunosUseCaseTest {
     @DisplayName("Deve retornar ranking apenas de aprovados")
     void deveRetornarRankingAprovados() {
         // Arrange
-        Aluno aprovado1 = criarAlunoConcluidoComMedia("João", "11111", 8.5);
-        aprovado1.adicionarCursosExtras(4);
-        Aluno aprovado2 = criarAlunoConcluidoComMedia("Maria", "22222", 9.5);
-        aprovado2.adicionarCursosExtras(6);
-        Aluno reprovado = criarAlunoConcluidoComMedia("Pedro", "33333", 4.0);
-        aprovado1.adicionarCursosExtras(3);
-
-        when(alunoRepository.buscarConcluidos()).thenReturn(Arrays.asList(aprovado1, aprovado2, reprovado));
-
+        indiceRanking.carregar(List.of(
+                entrada(1L, "João", 8.5, 7, true),
+                entrada(2L, "Maria", 9.5, 6, true),
+                entrada(3L, "Pedro", 4.0, 0, true),
+                entrada(4L, "Ana", 9.0, 0, false)));
+        
         // Act
-        List<Aluno> rankingAprovados = useCase.executarAprovados();
-
+        List<PosicaoRanking> rankingAprovados = useCase.executarAprovados();
+        
         // Assert
         assertThat(rankingAprovados).hasSize(2);
-        assertThat(rankingAprovados.get(0).getNome()).isEqualTo("Maria");
-        assertThat(rankingAprovados.get(1).getNome()).isEqualTo("João");
-
-        verify(alunoRepository, times(1)).buscarConcluidos();
+        assertThat(rankingAprovados.get(0).entrada().nome()).isEqualTo("Maria");
+        assertThat(rankingAprovados.get(1).entrada().nome()).isEqualTo("João");
     }
-
+    
     @Test
     @DisplayName("Deve ordenar por cursos adicionais quando médias são iguais")
     void deveOrdenarPorCursosAdicionaisQuandoMediasIguais() {
         // Arrange
-        Aluno aluno1 = criarAlunoComMedia("João", "11111", 8.0);
-        aluno1.adicionarCursosExtras(3);
-
-        Aluno aluno2 = criarAlunoComMedia("Maria", "22222", 8.0);
-        aluno2.adicionarCursosExtras(5);
-
-        when(alunoRepository.buscarTodos()).thenReturn(Arrays.asList(aluno1, aluno2));
-
+        indiceRanking.carregar(List.of(
+                entrada(1L, "João", 8.0, 3, false),
+                entrada(2L, "Maria", 8.0, 5, false)));
+        
         // Act
-        List<Aluno> ranking = useCase.executar();
-
+        List<PosicaoRanking> ranking = useCase.executar();
+        
         // Assert
-        assertThat(ranking.get(0).getNome()).isEqualTo("Maria");
-        assertThat(ranking.get(1).getNome()).isEqualTo("João");
+        assertThat(ranking.get(0).entrada().nome()).isEqualTo("Maria");
+        assertThat(ranking.get(1).entrada().nome()).isEqualTo("João");
     }
-
-    private Aluno criarAlunoComMedia(String nome, String ra, double media) {
-        Aluno aluno = Aluno.criar(
-                NomeAluno.criar(nome), 
-                RegistroAcademico.criar(ra)
-        );
-        aluno.atualizarMedia(MediaFinal.criar(media));
-        return aluno;
+    
+    @Test
+    @DisplayName("Deve atribuir a mesma posição a alunos empatados")
+    void deveAtribuirMesmaPosicaoAosEmpatados() {
+        // Arrange
+        indiceRanking.carregar(List.of(
+                entrada(1L, "João", 8.0, 3, false),
+                entrada(2L, "Maria", 8.0, 3, false),
+                entrada(3L, "Pedro", 7.0, 0, false)));
+        
+        // Act
+        List<PosicaoRanking> ranking = useCase.executar();
+        
+        // Assert
+        assertThat(ranking).extracting(PosicaoRanking::posicao).containsExactly(1, 1, 3);
+    }
+    
+    @Test
+    @DisplayName("Deve paginar o ranking e devolver cursor da próxima página")
+    void devePaginarRankingComCursor() {
+        // Arrange
+        when(alunoRepository.buscarPaginaRanking(isNull(), eq(3), eq(false))).thenReturn(List.of(
+                new PosicaoRanking(1, entrada(2L, "Maria", 9.5, 6, false)),
+                new PosicaoRanking(2, entrada(1L, "João", 8.5, 5, false)),
+                new PosicaoRanking(3, entrada(3L, "Pedro", 7.0, 4, false))));
+        
+        // Act
+        PaginaRanking pagina = useCase.executarPagina(null, 2, false);
+        
+        // Assert
+        assertThat(pagina.itens()).extracting(p -> p.entrada().nome()).containsExactly("Maria", "João");
+        assertThat(pagina.temProximaPagina()).isTrue();
+        
+        CursorRanking cursor = CursorRanking.decodificar(pagina.proximoCursor().codificar());
+        assertThat(cursor.getAlunoId()).isEqualTo(1L);
+        assertThat(cursor.getPosicao()).isEqualTo(2L);
+        assertThat(cursor.getLinhasEntregues()).isEqualTo(2L);
+    }
+    
+    @Test
+    @DisplayName("Deve encerrar paginação na última página")
+    void deveEncerrarPaginacaoNaUltimaPagina() {
+        // Arrange
+        String cursor = CursorRanking.criar(8.5, 5, 1L, 2, 2).codificar();
+        when(alunoRepository.buscarPaginaRanking(any(CursorRanking.class), eq(3), eq(false))).thenReturn(List.of(
+                new PosicaoRanking(3, entrada(3L, "Pedro", 7.0, 4, false))));
+        
+        // Act
+        PaginaRanking pagina = useCase.executarPagina(cursor, 2, false);
+        
+        // Assert
+        assertThat(pagina.itens()).hasSize(1);
+        assertThat(pagina.temProximaPagina()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Deve recusar cursor gerado com outro filtro de aprovados")
+    void deveRecusarCursorDeOutroFiltro() {
+        // Arrange
+        String cursor = CursorRanking.criar(8.5, 5, 1L, 2, 2).codificar();
+        
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executarPagina(cursor, 2, true))
+                .isInstanceOf(InvalidValueObjectException.class)
+                .hasMessage("Cursor de paginação não corresponde ao filtro apenasAprovados");
+        verifyNoInteractions(alunoRepository);
+    }
+    
+    @Test
+    @DisplayName("Deve retornar alunos ao redor de um aluno no ranking")
+    void deveRetornarAlunosAoRedor() {
+        // Arrange
+        indiceRanking.carregar(List.of(
+                entrada(1L, "Ana", 9.0, 0, false),
+                entrada(2L, "Bruno", 8.0, 0, false),
+                entrada(3L, "Carla", 7.0, 0, false),
+                entrada(4L, "Diego", 6.0, 0, false),
+                entrada(5L, "Elisa", 5.0, 0, false)));
+        
+        // Act
+        List<PosicaoRanking> vizinhos = useCase.executarAoRedor(3L, 1);
+        
+        // Assert
+        assertThat(vizinhos).extracting(p -> p.entrada().nome()).containsExactly("Bruno", "Carla", "Diego");
+        assertThat(vizinhos).extracting(PosicaoRanking::posicao).containsExactly(2, 3, 4);
+    }
+    
+    @Test
+    @DisplayName("Deve lançar exceção quando aluno não está no ranking")
+    void deveLancarExcecaoQuandoAlunoNaoEstaNoRanking() {
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executarAoRedor(99L, 2))
+                .isInstanceOf(AlunoNotFoundException.class);
     }
     
-    private Aluno criarAlunoConcluidoComMedia(String nome, String ra, double media) {
-        Aluno aluno = Aluno.criar(
-                NomeAluno.criar(nome), 
-                RegistroAcademico.criar(ra)
-        );
-        aluno.registrarTentativa(MediaFinal.criar(media));
-        aluno.concluirCurso(MediaFinal.criar(media));
-        return aluno;
+    private EntradaRanking entrada(Long id, String nome, double media, int cursos, boolean concluiu) {
+        return new EntradaRanking(id, nome, "RA" + id + "000", media, cursos, concluiu);
     }
 }
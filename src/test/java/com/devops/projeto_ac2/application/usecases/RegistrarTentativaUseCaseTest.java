@@ -1,21 +1,29 @@
 package com.devops.projeto_ac2.application.usecases;
 
+import com.devops.projeto_ac2.application.concorrencia.ExecutorEscritaOtimista;
+import com.devops.projeto_ac2.application.concorrencia.MonitorContencao;
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.exceptions.AlunoNotFoundException;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
 import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
 import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.Mockito.*;
 
 /**
@@ -28,20 +36,29 @@ class RegistrarTentativaUseCaseTest {
     @Mock
     private AlunoRepository alunoRepository;
     
-    @InjectMocks
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
     private RegistrarTentativaUseCase useCase;
     
+    @BeforeEach
+    void setUp() {
+        ExecutorEscritaOtimista executorEscrita = new ExecutorEscritaOtimista(
+                transactionManager, new MonitorContencao(new SimpleMeterRegistry()), 3, 0, 0);
+        useCase = new RegistrarTentativaUseCase(alunoRepository, executorEscrita, Optional.empty());
+    }
+    
     @Test
-    @DisplayName("Deve registrar tentativa com sucesso")
+    @DisplayName("Deve registrar tentativa com sucesso pelo UPDATE condicional, sem carregar o aluno antes")
     void deveRegistrarTentativaComSucesso() {
         // Arrange
         Long alunoId = 1L;
         double nota = 7.5;
         
-        Aluno aluno = criarAlunoTeste(alunoId);
+        Aluno atualizado = criarAlunoTeste(alunoId);
+        atualizado.registrarTentativa(MediaFinal.criar(nota));
         
-        when(alunoRepository.buscarPorId(alunoId)).thenReturn(Optional.of(aluno));
-        when(alunoRepository.salvar(any(Aluno.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(alunoRepository.registrarTentativaSeDisponivel(alunoId, nota)).thenReturn(Optional.of(atualizado));
         
         // Act
         Aluno resultado = useCase.executar(alunoId, nota);
@@ -50,8 +67,9 @@ class RegistrarTentativaUseCaseTest {
         assertThat(resultado.getTentativasAvaliacao()).isEqualTo(1);
         assertThat(resultado.getMediaFinal()).isEqualTo(7.5);
         
-        verify(alunoRepository, times(1)).buscarPorId(alunoId);
-        verify(alunoRepository, times(1)).salvar(aluno);
+        verify(alunoRepository, times(1)).registrarTentativaSeDisponivel(alunoId, nota);
+        verify(alunoRepository, never()).buscarPorId(any());
+        verify(alunoRepository, never()).salvar(any());
     }
     
     @Test
@@ -61,6 +79,7 @@ class RegistrarTentativaUseCaseTest {
         Long alunoId = 999L;
         double nota = 7.5;
         
+        when(alunoRepository.registrarTentativaSeDisponivel(alunoId, nota)).thenReturn(Optional.empty());
         when(alunoRepository.buscarPorId(alunoId)).thenReturn(Optional.empty());
         
         // Act & Assert
@@ -72,24 +91,35 @@ class RegistrarTentativaUseCaseTest {
     }
     
     @Test
-    @DisplayName("Deve permitir múltiplas tentativas até o limite")
-    void devePermitirMultiplasTentativas() {
+    @DisplayName("Deve explicar pela entidade a recusa de quem esgotou as tentativas")
+    void deveExplicarRecusaPelaEntidade() {
         // Arrange
         Long alunoId = 1L;
         Aluno aluno = criarAlunoTeste(alunoId);
+        aluno.registrarTentativa(MediaFinal.criar(5.0));
+        aluno.registrarTentativa(MediaFinal.criar(6.0));
+        aluno.registrarTentativa(MediaFinal.criar(7.0));
         
+        when(alunoRepository.registrarTentativaSeDisponivel(alunoId, 8.0)).thenReturn(Optional.empty());
         when(alunoRepository.buscarPorId(alunoId)).thenReturn(Optional.of(aluno));
-        when(alunoRepository.salvar(any(Aluno.class))).thenAnswer(invocation -> invocation.getArgument(0));
         
-        // Act - registrar 3 tentativas
-        useCase.executar(alunoId, 5.0);
-        useCase.executar(alunoId, 6.0);
-        useCase.executar(alunoId, 7.0);
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executar(alunoId, 8.0))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("Aluno já utilizou todas as 3 tentativas disponíveis");
         
-        // Assert
-        assertThat(aluno.getTentativasAvaliacao()).isEqualTo(3);
-        assertThat(aluno.getMediaFinal()).isEqualTo(7.0);
-        verify(alunoRepository, times(3)).salvar(aluno);
+        assertThat(aluno.getTentativasAvaliacao()).isEqualTo(Aluno.MAXIMO_TENTATIVAS);
+        verify(alunoRepository, never()).salvar(any());
+    }
+    
+    @Test
+    @DisplayName("Deve validar a nota antes de ir ao banco")
+    void deveValidarNotaAntesDoBanco() {
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.executar(1L, 11.0))
+                .isInstanceOf(InvalidValueObjectException.class);
+        
+        verify(alunoRepository, never()).registrarTentativaSeDisponivel(any(), anyDouble());
     }
     
     private Aluno criarAlunoTeste(Long id) {
@@ -0,0 +1,184 @@
+package com.devops.projeto_ac2.application.usecases;
+
+import com.devops.projeto_ac2.application.concorrencia.ExecutorEscritaOtimista;
+import com.devops.projeto_ac2.application.usecases.RegistrarTentativasEmLoteUseCase.NovaTentativa;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.readmodels.ResultadoTentativaAluno;
+import com.devops.projeto_ac2.domain.readmodels.ResultadoTentativaAluno.Situacao;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para RegistrarTentativasEmLoteUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Use Case Registrar Tentativas em Lote")
+class RegistrarTentativasEmLoteUseCaseTest {
+    
+    @Mock
+    private AlunoRepository alunoRepository;
+    
+    @Mock
+    private ExecutorEscritaOtimista executorEscrita;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    @InjectMocks
+    private RegistrarTentativasEmLoteUseCase useCase;
+    
+    @Test
+    @DisplayName("Deve registrar as tentativas permitidas e recusar as demais com o motivo, mantendo a ordem do lote")
+    void deveRegistrarPermitidasERecusarDemais() {
+        // Arrange
+        Aluno ana = aluno("Ana Souza", "11111");
+        Aluno bruno = aluno("Bruno Lima", "22222");
+        bruno.registrarTentativa(MediaFinal.criar(4.0));
+        bruno.registrarTentativa(MediaFinal.criar(5.0));
+        bruno.registrarTentativa(MediaFinal.criar(6.0));
+        Aluno carla = aluno("Carla Dias", "33333");
+        carla.registrarTentativa(MediaFinal.criar(8.0));
+        carla.concluirCurso(MediaFinal.criar(8.0));
+        when(alunoRepository.buscarPorRAs(any())).thenReturn(List.of(ana, bruno, carla));
+        when(alunoRepository.atualizarTodos(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        List<ResultadoTentativaAluno> resultados = useCase.executar(List.of(
+                new NovaTentativa("11111", 9.0),
+                new NovaTentativa("22222", 7.0),
+                new NovaTentativa("33333", 7.0),
+                new NovaTentativa("99999", 7.0),
+                new NovaTentativa("11111", 10.0),
+                new NovaTentativa("44444", 11.0),
+                new NovaTentativa("55555", null)));
+        
+        // Assert
+        assertThat(resultados).extracting(ResultadoTentativaAluno::indice).containsExactly(0, 1, 2, 3, 4, 5, 6);
+        assertThat(resultados).extracting(ResultadoTentativaAluno::situacao).containsExactly(
+                Situacao.REGISTRADA,
+                Situacao.TENTATIVAS_ESGOTADAS,
+                Situacao.CURSO_CONCLUIDO,
+                Situacao.NAO_ENCONTRADO,
+                Situacao.REJEITADA,
+                Situacao.REJEITADA,
+                Situacao.REJEITADA);
+        assertThat(resultados.get(1).erro()).isEqualTo("Aluno já utilizou todas as 3 tentativas disponíveis");
+        assertThat(resultados.get(4).erro()).isEqualTo("RA repetido no lote: 11111");
+        assertThat(resultados.get(6).erro()).isEqualTo("Nota é obrigatória");
+        assertThat(ana.getMediaFinal()).isEqualTo(9.0);
+        assertThat(ana.getTentativasAvaliacao()).isEqualTo(1);
+        verify(alunoRepository).atualizarTodos(List.of(ana));
+    }
+    
+    @Test
+    @DisplayName("Deve buscar os alunos do lote inteiro e gravar as alterações com uma única chamada cada")
+    void deveBuscarEGravarComUmaUnicaChamada() {
+        // Arrange
+        List<NovaTentativa> tentativas = new ArrayList<>();
+        List<Aluno> alunos = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            tentativas.add(new NovaTentativa("RA" + (10000 + i), 7.5));
+            alunos.add(aluno("Aluno Lote", "RA" + (10000 + i)));
+        }
+        when(alunoRepository.buscarPorRAs(any())).thenReturn(alunos);
+        when(alunoRepository.atualizarTodos(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        List<ResultadoTentativaAluno> resultados = useCase.executar(tentativas);
+        
+        // Assert
+        assertThat(resultados).allMatch(ResultadoTentativaAluno::registrada);
+        verify(alunoRepository, times(1)).buscarPorRAs(argThat((Collection<String> ras) -> ras.size() == 300));
+        verify(alunoRepository, times(1)).atualizarTodos(argThat((List<Aluno> alterados) -> alterados.size() == 300));
+        verify(alunoRepository, never()).buscarPorRA(any());
+        verify(alunoRepository, never()).salvar(any());
+    }
+    
+    @Test
+    @DisplayName("Deve gravar cada tentativa aceita sozinha quando o lote conflitar com outra escrita")
+    void deveGravarItemAItemAposConflitoNoLote() {
+        // Arrange
+        Aluno ana = aluno("Ana Souza", "11111", 1L);
+        Aluno bruno = aluno("Bruno Lima", "22222", 2L);
+        Aluno brunoAtual = aluno("Bruno Lima", "22222", 2L);
+        brunoAtual.registrarTentativa(MediaFinal.criar(4.0));
+        brunoAtual.registrarTentativa(MediaFinal.criar(5.0));
+        brunoAtual.registrarTentativa(MediaFinal.criar(6.0));
+        when(alunoRepository.buscarPorRAs(any())).thenReturn(List.of(ana, bruno));
+        when(alunoRepository.atualizarTodos(anyList()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Aluno.class, 2L));
+        when(executorEscrita.executar(eq("registrar-tentativa"), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        when(alunoRepository.buscarPorId(1L)).thenReturn(Optional.of(aluno("Ana Souza", "11111", 1L)));
+        when(alunoRepository.buscarPorId(2L)).thenReturn(Optional.of(brunoAtual));
+        when(alunoRepository.salvar(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        List<ResultadoTentativaAluno> resultados = useCase.executar(List.of(
+                new NovaTentativa("11111", 9.0),
+                new NovaTentativa("22222", 7.0)));
+        
+        // Assert - a escrita concorrente esgotou as tentativas de Bruno; Ana é registrada mesmo assim
+        assertThat(resultados).extracting(ResultadoTentativaAluno::situacao)
+                .containsExactly(Situacao.REGISTRADA, Situacao.TENTATIVAS_ESGOTADAS);
+        assertThat(resultados.get(0).aluno().getMediaFinal()).isEqualTo(9.0);
+        verify(executorEscrita, times(2)).executar(anyString(), any(), any());
+        verify(alunoRepository, times(1)).salvar(any());
+    }
+    
+    @Test
+    @DisplayName("Não deve consultar o banco quando nenhum item é válido")
+    void naoDeveConsultarBancoSemItensValidos() {
+        // Act
+        List<ResultadoTentativaAluno> resultados = useCase.executar(List.of(
+                new NovaTentativa(" ", 7.0),
+                new NovaTentativa("11111", -1.0)));
+        
+        // Assert
+        assertThat(resultados).noneMatch(ResultadoTentativaAluno::registrada);
+        verifyNoInteractions(alunoRepository);
+    }
+    
+    @Test
+    @DisplayName("Deve recusar lote vazio")
+    void deveRecusarLoteVazio() {
+        assertThatThrownBy(() -> useCase.executar(List.of()))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("Informe ao menos uma tentativa no lote");
+    }
+    
+    private Aluno aluno(String nome, String ra) {
+        return Aluno.criar(NomeAluno.criar(nome), RegistroAcademico.criar(ra));
+    }
+    
+    private Aluno aluno(String nome, String ra, Long id) {
+        Aluno aluno = aluno(nome, ra);
+        ReflectionTestUtils.setField(aluno, "id", id);
+        return aluno;
+    }
+}
@@ -0,0 +1,65 @@
+package com.devops.projeto_ac2.domain.valueobjects;
+
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para o Value Object Coorte
+ */
+@DisplayName("Testes do Value Object Coorte")
+class CoorteTest {
+    
+    @Test
+    @DisplayName("Deve interpretar coorte semestral e mensal")
+    void deveInterpretarCoorte() {
+        // Act
+        Coorte semestre = Coorte.criar("2026-1");
+        Coorte mes = Coorte.criar("2026-03");
+        
+        // Assert
+        assertThat(semestre.getPeriodicidade()).isEqualTo(Coorte.Periodicidade.SEMESTRAL);
+        assertThat(semestre.getPeriodo()).isEqualTo(1);
+        assertThat(semestre.toString()).isEqualTo("2026-1");
+        assertThat(mes.getPeriodicidade()).isEqualTo(Coorte.Periodicidade.MENSAL);
+        assertThat(mes.getPeriodo()).isEqualTo(3);
+        assertThat(mes.toString()).isEqualTo("2026-03");
+    }
+    
+    @Test
+    @DisplayName("Deve derivar a coorte da data de criação")
+    void deveDerivarCoorteDaDataDeCriacao() {
+        // Arrange
+        LocalDateTime julho = LocalDateTime.of(2026, 7, 15, 10, 0);
+        
+        // Act & Assert
+        assertThat(Coorte.de(julho, Coorte.Periodicidade.SEMESTRAL)).isEqualTo(Coorte.criar("2026-2"));
+        assertThat(Coorte.de(julho, Coorte.Periodicidade.MENSAL)).isEqualTo(Coorte.criar("2026-07"));
+        assertThat(Coorte.criar("2026-2").contem(julho)).isTrue();
+        assertThat(Coorte.criar("2026-1").contem(julho)).isFalse();
+        assertThat(Coorte.criar("2026-1").contem(null)).isFalse();
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"2026", "2026-3", "2026-13", "2026-00", "26-1", "2026/1", ""})
+    @DisplayName("Deve lançar exceção para coorte inválida")
+    void deveLancarExcecaoParaCoorteInvalida(String valor) {
+        assertThatThrownBy(() -> Coorte.criar(valor))
+                .isInstanceOf(InvalidValueObjectException.class);
+    }
+    
+    @Test
+    @DisplayName("Deve lançar exceção para periodicidade inválida")
+    void deveLancarExcecaoParaPeriodicidadeInvalida() {
+        assertThat(Coorte.Periodicidade.de("mensal")).isEqualTo(Coorte.Periodicidade.MENSAL);
+        assertThatThrownBy(() -> Coorte.Periodicidade.de("anual"))
+                .isInstanceOf(InvalidValueObjectException.class)
+                .hasMessage("Periodicidade inválida: use SEMESTRAL ou MENSAL");
+    }
+}
@@ -0,0 +1,65 @@
+package com.devops.projeto_ac2.domain.valueobjects;
+
+import com.devops.projeto_ac2.domain.exceptions.InvalidValueObjectException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para o Value Object CursorRanking
+ */
+@DisplayName("Testes do Value Object CursorRanking")
+class CursorRankingTest {
+    
+    @Test
+    @DisplayName("Deve codificar e decodificar mantendo os valores")
+    void deveCodificarEDecodificar() {
+        // Arrange
+        CursorRanking cursor = CursorRanking.criar(8.75, 3, 42L, 10, 12);
+        
+        // Act
+        CursorRanking decodificado = CursorRanking.decodificar(cursor.codificar());
+        
+        // Assert
+        assertThat(decodificado).isEqualTo(cursor);
+        assertThat(decodificado.getMediaFinal()).isEqualTo(8.75);
+        assertThat(decodificado.getCursosAdicionais()).isEqualTo(3);
+        assertThat(decodificado.getAlunoId()).isEqualTo(42L);
+        assertThat(decodificado.getPosicao()).isEqualTo(10L);
+        assertThat(decodificado.getLinhasEntregues()).isEqualTo(12L);
+        assertThat(decodificado.isApenasAprovados()).isFalse();
+        assertThat(CursorRanking.decodificar(CursorRanking.criar(8.75, 3, 42L, 10, 12, true).codificar()).isApenasAprovados())
+                .isTrue();
+    }
+    
+    @Test
+    @DisplayName("Deve gerar texto opaco seguro para URL")
+    void deveGerarTextoSeguroParaUrl() {
+        // Act
+        String valor = CursorRanking.criar(10.0, 5, 1L, 1, 1).codificar();
+        
+        // Assert
+        assertThat(valor).matches("^[A-Za-z0-9_-]+$");
+    }
+    
+    @Test
+    @DisplayName("Deve lançar exceção para cursor adulterado")
+    void deveLancarExcecaoParaCursorAdulterado() {
+        // Act & Assert
+        assertThatThrownBy(() -> CursorRanking.decodificar("nao-e-um-cursor"))
+                .isInstanceOf(InvalidValueObjectException.class)
+                .hasMessage("Cursor de paginação inválido");
+        
+        assertThatThrownBy(() -> CursorRanking.decodificar(""))
+                .isInstanceOf(InvalidValueObjectException.class);
+    }
+    
+    @Test
+    @DisplayName("Deve lançar exceção quando posição é incoerente com as linhas entregues")
+    void deveLancarExcecaoQuandoPosicaoIncoerente() {
+        // Act & Assert
+        assertThatThrownBy(() -> CursorRanking.criar(8.0, 0, 1L, 5, 2))
+                .isInstanceOf(InvalidValueObjectException.class);
+    }
+}
@@ -0,0 +1,119 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.application.usecases.ConcluirCursoUseCase;
+import com.devops.projeto_ac2.application.usecases.RegistrarTentativaUseCase;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de integração do cache de segundo nível de Aluno
+ * Sem @Transactional: o Hibernate só guarda no cache o que foi confirmado
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração do Cache de Segundo Nível de Alunos")
+class AlunoCacheSegundoNivelIntegrationTest {
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private ConcluirCursoUseCase concluirCursoUseCase;
+    
+    @Autowired
+    private RegistrarTentativaUseCase registrarTentativaUseCase;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    private Statistics estatisticas;
+    
+    @BeforeEach
+    void setUp() {
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.setStatisticsEnabled(true);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+        estatisticas.setStatisticsEnabled(false);
+    }
+    
+    @Test
+    @DisplayName("Deve responder a busca repetida por ID pelo cache, sem executar SQL")
+    void deveResponderBuscaRepetidaSemSQL() {
+        // Arrange
+        Aluno ana = salvarComNota("Ana Souza", "11111", 8.0);
+        alunoRepository.buscarPorId(ana.getId());
+        estatisticas.clear();
+        
+        // Act
+        Aluno lido = alunoRepository.buscarPorId(ana.getId()).orElseThrow();
+        
+        // Assert
+        assertThat(lido.getNome()).isEqualTo("Ana Souza");
+        assertThat(estatisticas.getPrepareStatementCount()).isZero();
+        assertThat(estatisticas.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Deve descartar a região inteira de Aluno a cada tentativa registrada pelo UPDATE em massa")
+    void deveDescartarRegiaoAposUpdateEmMassa() {
+        // Arrange
+        Aluno ana = salvarComNota("Ana Souza", "11111", 8.0);
+        Aluno bruno = salvarComNota("Bruno Lima", "22222", 6.0);
+        alunoRepository.buscarPorId(bruno.getId());
+        
+        // Act
+        registrarTentativaUseCase.executar(ana.getId(), 7.0);
+        estatisticas.clear();
+        Aluno brunoLido = alunoRepository.buscarPorId(bruno.getId()).orElseThrow();
+        
+        // Assert - Bruno não foi alterado, mas também saiu do cache
+        assertThat(brunoLido.getNome()).isEqualTo("Bruno Lima");
+        assertThat(estatisticas.getSecondLevelCacheHitCount()).isZero();
+        assertThat(alunoRepository.buscarPorId(ana.getId()).orElseThrow().getTentativasAvaliacao()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("Deve descartar o resultado em cache quando um use case grava")
+    void deveDescartarCacheAposEscrita() {
+        // Arrange
+        Aluno ana = salvarComNota("Ana Souza", "11111", 8.0);
+        salvarComNota("Bruno Lima", "22222", 6.0);
+        assertThat(alunoRepository.buscarConcluidos()).isEmpty();
+        
+        // Act
+        concluirCursoUseCase.executar(ana.getId(), 8.0);
+        
+        // Assert
+        assertThat(alunoRepository.buscarConcluidos())
+                .extracting(Aluno::getNome, Aluno::getMediaFinal)
+                .containsExactly(tuple("Ana Souza", 8.0));
+        assertThat(alunoRepository.buscarNaoConcluidos())
+                .extracting(Aluno::getNome)
+                .containsExactly("Bruno Lima");
+    }
+    
+    private Aluno salvarComNota(String nome, String ra, double nota) {
+        Aluno aluno = Aluno.criar(NomeAluno.criar(nome), RegistroAcademico.criar(ra));
+        aluno.registrarTentativa(MediaFinal.criar(nota));
+        return alunoRepository.salvar(aluno);
+    }
+}
@@ -0,0 +1,201 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.application.arquivamento.ArquivadorAlunos;
+import com.devops.projeto_ac2.application.ranking.IndiceRanking;
+import com.devops.projeto_ac2.application.usecases.ConcluirCursoUseCase;
+import com.devops.projeto_ac2.application.usecases.CriarAlunoUseCase;
+import com.devops.projeto_ac2.application.usecases.ExportarAlunosUseCase;
+import com.devops.projeto_ac2.application.usecases.ListarAlunosUseCase;
+import com.devops.projeto_ac2.application.usecases.RegistrarTentativaUseCase;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.readmodels.AlunoParcial;
+import com.devops.projeto_ac2.domain.readmodels.AlunoResumo;
+import com.devops.projeto_ac2.domain.readmodels.EntradaRanking;
+import com.devops.projeto_ac2.domain.readmodels.PaginaAlunos;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de integração do arquivo de alunos concluídos (tb_alunos_arquivo)
+ * Sem @Transactional: cada lote é confirmado em sua própria transação pelo arquivador
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "alunos.arquivo.habilitado=true",
+        "alunos.arquivo.idade-minima-dias=0",
+        "alunos.arquivo.tamanho-lote=2",
+        "spring.datasource.url=jdbc:h2:mem:arquivoalunos"
+})
+@DisplayName("Testes de Integração do Arquivo de Alunos Concluídos")
+class ArquivoAlunosIntegrationTest {
+    
+    @Autowired
+    private ArquivadorAlunos arquivador;
+    
+    @Autowired
+    private CriarAlunoUseCase criarAlunoUseCase;
+    
+    @Autowired
+    private RegistrarTentativaUseCase registrarTentativaUseCase;
+    
+    @Autowired
+    private ConcluirCursoUseCase concluirCursoUseCase;
+    
+    @Autowired
+    private ListarAlunosUseCase listarAlunosUseCase;
+    
+    @Autowired
+    private ExportarAlunosUseCase exportarAlunosUseCase;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private IndiceRanking indiceRanking;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private Aluno concluido1;
+    private Aluno concluido2;
+    private Aluno cursando;
+    
+    @BeforeEach
+    void setUp() {
+        concluido1 = concluir(criarAlunoUseCase.executar("Ana Souza", "11111AAA"), 9.0);
+        concluido2 = concluir(criarAlunoUseCase.executar("Bruno Lima", "22222BBB"), 7.5);
+        cursando = criarAlunoUseCase.executar("Carla Dias", "33333CCC");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tb_alunos_arquivo");
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+    }
+    
+    @Test
+    @DisplayName("Deve mover os concluídos para o arquivo, tirando-os da tabela ativa e do ranking")
+    void deveMoverConcluidosParaOArquivo() {
+        // Act
+        int arquivados = arquivador.arquivar();
+        
+        // Assert
+        assertThat(arquivados).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_alunos_arquivo", Long.class)).isEqualTo(2L);
+        assertThat(alunoRepository.buscarTodos()).extracting(Aluno::getId).containsExactly(cursando.getId());
+        assertThat(alunoRepository.buscarConcluidos())
+                .extracting(Aluno::getId)
+                .containsExactlyInAnyOrder(concluido1.getId(), concluido2.getId());
+        assertThat(alunoRepository.buscarEntradasRanking()).extracting(EntradaRanking::id).containsExactly(cursando.getId());
+        assertThat(indiceRanking.entradas()).extracting(EntradaRanking::id).containsExactly(cursando.getId());
+        assertThat(alunoRepository.contar()).isEqualTo(3L);
+    }
+    
+    @Test
+    @DisplayName("Deve manter os arquivados na listagem de todos e de concluídos e na exportação")
+    void deveManterArquivadosNaListagemENaExportacao() {
+        // Arrange
+        arquivador.arquivar();
+        List<Long> exportados = new ArrayList<>();
+        
+        // Act
+        PaginaAlunos<AlunoResumo> todos = listarAlunosUseCase.executar(null, null, 10, null);
+        PaginaAlunos<AlunoParcial> concluidos = listarAlunosUseCase.executarParcial("nome,situacao", true, null, 10, null);
+        PaginaAlunos<AlunoResumo> naoConcluidos = listarAlunosUseCase.executar(false, null, 10, null);
+        exportarAlunosUseCase.executar(aluno -> exportados.add(aluno.getId()));
+        
+        // Assert
+        assertThat(todos.itens()).extracting(AlunoResumo::id)
+                .containsExactly(concluido1.getId(), concluido2.getId(), cursando.getId());
+        assertThat(todos.itens().get(0).situacao()).isEqualTo("APROVADO");
+        assertThat(concluidos.itens()).extracting(AlunoParcial::id)
+                .containsExactly(concluido1.getId(), concluido2.getId());
+        assertThat(naoConcluidos.itens()).extracting(AlunoResumo::id).containsExactly(cursando.getId());
+        assertThat(exportados).containsExactly(concluido1.getId(), concluido2.getId(), cursando.getId());
+    }
+    
+    @Test
+    @DisplayName("Deve continuar a paginação quando o aluno do cursor é arquivado entre duas páginas")
+    void deveContinuarPaginacaoComCursorArquivado() {
+        // Arrange - ordenação por nome: o cursor depende do nome da linha de referência
+        PaginaAlunos<AlunoResumo> primeira = listarAlunosUseCase.executar(null, null, 1, "nome");
+        assertThat(primeira.itens()).extracting(AlunoResumo::id).containsExactly(concluido1.getId());
+        
+        // Act
+        arquivador.arquivar();
+        PaginaAlunos<AlunoResumo> segunda = listarAlunosUseCase.executar(null, primeira.proximoApos(), 10, "nome");
+        
+        // Assert
+        assertThat(segunda.itens()).extracting(AlunoResumo::id).containsExactly(concluido2.getId(), cursando.getId());
+    }
+    
+    @Test
+    @DisplayName("Deve encontrar o aluno arquivado por ID e por RA, com os mesmos dados")
+    void deveEncontrarAlunoArquivado() {
+        // Arrange
+        arquivador.arquivar();
+        
+        // Act & Assert
+        Aluno porId = alunoRepository.buscarPorId(concluido1.getId()).orElseThrow();
+        assertThat(porId.getRegistroAcademico().getValor()).isEqualTo("11111AAA");
+        assertThat(porId.getMediaFinal()).isEqualTo(9.0);
+        assertThat(porId.isConcluiu()).isTrue();
+        
+        assertThat(alunoRepository.buscarResumoPorRA("22222BBB").orElseThrow().situacao()).isEqualTo("APROVADO");
+        assertThat(alunoRepository.buscarPorIds(List.of(concluido1.getId(), concluido2.getId(), cursando.getId())))
+                .extracting(Aluno::getId)
+                .containsExactlyInAnyOrder(concluido1.getId(), concluido2.getId(), cursando.getId());
+        assertThat(alunoRepository.existePorRA("11111AAA")).isTrue();
+    }
+    
+    @Test
+    @DisplayName("Não deve aceitar novo aluno com o RA de um aluno arquivado nem alterar o aluno arquivado")
+    void deveProtegerAlunoArquivado() {
+        // Arrange
+        arquivador.arquivar();
+        
+        // Act & Assert
+        assertThatThrownBy(() -> criarAlunoUseCase.executar("Outra Pessoa", "11111AAA"))
+                .isInstanceOf(DomainException.class)
+                .hasMessageContaining("11111AAA");
+        assertThatThrownBy(() -> concluirCursoUseCase.executar(concluido1.getId(), 8.0))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("Aluno já concluiu o curso");
+    }
+    
+    @Test
+    @DisplayName("Deve remover o aluno do arquivo")
+    void deveRemoverAlunoArquivado() {
+        // Arrange
+        arquivador.arquivar();
+        
+        // Act
+        alunoRepository.deletar(concluido1.getId());
+        
+        // Assert
+        assertThat(alunoRepository.buscarPorId(concluido1.getId())).isEmpty();
+        assertThat(alunoRepository.existePorRA("11111AAA")).isFalse();
+        assertThat(alunoRepository.buscarPorId(concluido2.getId())).isPresent();
+    }
+    
+    private Aluno concluir(Aluno aluno, double media) {
+        // a conclusão exige ao menos uma tentativa registrada
+        registrarTentativaUseCase.executar(aluno.getId(), media);
+        return concluirCursoUseCase.executar(aluno.getId(), media);
+    }
+}
@@ -0,0 +1,116 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.application.usecases.CriarAlunoUseCase;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de integração da criação de aluno no modo inserir-direto
+ * Sem @Transactional: cada criação precisa ser confirmada para disputar a unique constraint de RA
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "alunos.criacao.inserir-direto=true",
+        "spring.datasource.url=jdbc:h2:mem:insercaodireta"
+})
+@DisplayName("Testes de Integração da Criação de Aluno com Inserção Direta")
+class CriacaoAlunoInsercaoDiretaIntegrationTest {
+    
+    private static final int REQUISICOES_SIMULTANEAS = 8;
+    
+    @Autowired
+    private CriarAlunoUseCase criarAlunoUseCase;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @AfterEach
+    void tearDown() {
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+    }
+    
+    @Test
+    @DisplayName("Deve criar o aluno uma única vez quando o mesmo RA é enviado simultaneamente")
+    void deveCriarUmaUnicaVezComRADuplicadoSimultaneo() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(REQUISICOES_SIMULTANEAS);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<Aluno>> resultados = new ArrayList<>();
+        Callable<Aluno> criacao = () -> {
+            largada.await();
+            return criarAlunoUseCase.executar("João Silva", "12345ABC");
+        };
+        
+        // Act
+        try {
+            for (int i = 0; i < REQUISICOES_SIMULTANEAS; i++) {
+                resultados.add(executor.submit(criacao));
+            }
+            largada.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+        
+        // Assert
+        int criados = 0;
+        for (Future<Aluno> resultado : resultados) {
+            try {
+                assertThat(resultado.get().getId()).isNotNull();
+                criados++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause())
+                        .isInstanceOf(DomainException.class)
+                        .hasMessage("Já existe um aluno cadastrado com o RA: 12345ABC");
+            }
+        }
+        assertThat(criados).isEqualTo(1);
+        assertThat(alunoRepository.buscarTodos()).hasSize(1);
+    }
+    
+    @Test
+    @DisplayName("Deve manter a transação de quem chamou utilizável após um RA duplicado")
+    void deveManterTransacaoUtilizavelAposRADuplicado() {
+        // Arrange
+        criarAlunoUseCase.executar("João Silva", "12345ABC");
+        
+        // Act - duplicidade e nova criação na mesma transação
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertThatThrownBy(() -> criarAlunoUseCase.executar("Outro Aluno", "12345ABC"))
+                    .isInstanceOf(DomainException.class);
+            criarAlunoUseCase.executar("Maria Souza", "67890DEF");
+            
+            assertThat(status.isRollbackOnly()).isFalse();
+        });
+        
+        // Assert - a transação foi confirmada com o segundo aluno
+        assertThat(alunoRepository.buscarPorRA("67890DEF")).isPresent();
+        assertThat(alunoRepository.buscarTodos()).hasSize(2);
+    }
+}
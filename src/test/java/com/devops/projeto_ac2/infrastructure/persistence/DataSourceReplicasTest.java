@@ -0,0 +1,118 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para DataSourceReplicas
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do DataSource de Réplicas")
+class DataSourceReplicasTest {
+    
+    @Mock
+    private DataSource primario;
+    
+    @Mock
+    private DataSource replica1;
+    
+    @Mock
+    private DataSource replica2;
+    
+    @Mock
+    private Connection conexaoPrimario;
+    
+    @Mock
+    private Connection conexaoReplica1;
+    
+    @Mock
+    private Connection conexaoReplica2;
+    
+    private DataSourceReplicas dataSource;
+    
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        dataSource = new DataSourceReplicas(primario, replicas, 1, "", 1000, new SimpleMeterRegistry());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        RoteamentoLeitura.liberar();
+    }
+    
+    @Test
+    @DisplayName("Deve alternar as conexões entre as réplicas")
+    void deveAlternarEntreReplicas() throws SQLException {
+        // Arrange
+        when(replica1.getConnection()).thenReturn(conexaoReplica1);
+        when(replica2.getConnection()).thenReturn(conexaoReplica2);
+        
+        // Act & Assert
+        assertThat(dataSource.getConnection()).isSameAs(conexaoReplica1);
+        assertThat(dataSource.getConnection()).isSameAs(conexaoReplica2);
+        assertThat(dataSource.getConnection()).isSameAs(conexaoReplica1);
+        verifyNoInteractions(primario);
+    }
+    
+    @Test
+    @DisplayName("Deve tirar do rodízio a réplica que falha e voltar a usá-la após verificação")
+    void deveTirarReplicaQueFalhaDoRodizio() throws SQLException {
+        // Arrange
+        when(replica1.getConnection()).thenThrow(new SQLException("fora do ar")).thenReturn(conexaoReplica1);
+        when(replica2.getConnection()).thenReturn(conexaoReplica2);
+        when(conexaoReplica1.isValid(anyInt())).thenReturn(true);
+        when(conexaoReplica2.isValid(anyInt())).thenReturn(true);
+        
+        // Act & Assert
+        assertThat(dataSource.getConnection()).isSameAs(conexaoReplica2);
+        assertThat(dataSource.getConnection()).isSameAs(conexaoReplica2);
+        assertThat(dataSource.replicasDisponiveis()).isEqualTo(1);
+        
+        dataSource.verificarReplicas();
+        assertThat(dataSource.replicasDisponiveis()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("Deve usar o primário quando nenhuma réplica está disponível")
+    void deveUsarPrimarioSemReplicaDisponivel() throws SQLException {
+        // Arrange
+        when(replica1.getConnection()).thenThrow(new SQLException("fora do ar"));
+        when(replica2.getConnection()).thenThrow(new SQLException("fora do ar"));
+        when(primario.getConnection()).thenReturn(conexaoPrimario);
+        
+        // Act & Assert
+        assertThat(dataSource.getConnection()).isSameAs(conexaoPrimario);
+        assertThat(dataSource.replicasDisponiveis()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Deve usar o primário quando a thread pede leitura após escrita")
+    void deveUsarPrimarioAposEscrita() throws SQLException {
+        // Arrange
+        when(primario.getConnection()).thenReturn(conexaoPrimario);
+        RoteamentoLeitura.forcarPrimario();
+        
+        // Act & Assert
+        assertThat(dataSource.getConnection()).isSameAs(conexaoPrimario);
+        verifyNoInteractions(replica1, replica2);
+    }
+}
@@ -0,0 +1,156 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.infrastructure.web.filter.FiltroLeituraAposEscrita;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração da separação de leitura e escrita
+ * Dois bancos H2 fazem o papel do primário e da réplica; sem replicação entre eles,
+ * o aluno devolvido mostra de qual banco veio a leitura
+ * 
+ * Sem cache de segundo nível: a região JCache é compartilhada pelos contextos da JVM,
+ * e um acerto nela esconderia de qual banco veio a leitura
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "alunos.replicas.habilitado=true",
+        "spring.datasource.url=jdbc:h2:mem:leiturareplica_primario",
+        "alunos.replicas.urls=" + LeituraReplicaIntegrationTest.URL_REPLICA,
+        "alunos.replicas.atraso-maximo-ms=" + LeituraReplicaIntegrationTest.ATRASO_REPLICAS_MS,
+        "alunos.cache-hibernate.habilitado=false"
+})
+@DisplayName("Testes de Integração da Leitura em Réplica")
+class LeituraReplicaIntegrationTest {
+    
+    static final String URL_REPLICA = "jdbc:h2:mem:leiturareplica_replica;DB_CLOSE_DELAY=-1";
+    
+    /**
+     * Curto, para que o teste espere a janela em que as leituras após uma escrita vão ao primário
+     */
+    static final long ATRASO_REPLICAS_MS = 2_000;
+    
+    private static final String SQL_INSERIR_ALUNO = """
+            INSERT INTO tb_alunos (id, nome, ra, media_final, concluiu, cursos_adicionais,
+                                   tentativas_avaliacao, data_criacao, versao, data_atualizacao)
+            VALUES (?, ?, ?, 0, FALSE, 0, 0, CURRENT_TIMESTAMP, 0, CURRENT_TIMESTAMP)
+            """;
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    /**
+     * Fora de transação: sempre no primário
+     */
+    @Autowired
+    private JdbcTemplate primario;
+    
+    private static JdbcTemplate replica;
+    
+    /**
+     * Antes de o contexto subir: as cargas da inicialização já podem ler da réplica
+     */
+    @BeforeAll
+    static void criarSchemaReplica() {
+        DriverManagerDataSource dataSourceReplica = new DriverManagerDataSource(URL_REPLICA, "sa", "");
+        Flyway.configure()
+                .dataSource(dataSourceReplica)
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+        replica = new JdbcTemplate(dataSourceReplica);
+    }
+    
+    @BeforeEach
+    void setUp() {
+        replica.update(SQL_INSERIR_ALUNO, 1_000_000L, "Aluno da Réplica", "REPLICA1");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        replica.update("DELETE FROM tb_alunos");
+        primario.update("DELETE FROM tb_alunos");
+    }
+    
+    @Test
+    @DisplayName("Deve ler pela réplica nas transações somente leitura")
+    void deveLerPelaReplica() throws Exception {
+        mockMvc.perform(get("/api/alunos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].ra").value("REPLICA1"));
+    }
+    
+    @Test
+    @DisplayName("Deve ler pela réplica a busca por ID que não está em cache")
+    void deveBuscarPorIdPelaReplica() throws Exception {
+        mockMvc.perform(get("/api/alunos/{id}", 1_000_000L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ra").value("REPLICA1"));
+    }
+    
+    @Test
+    @DisplayName("Deve gravar no primário e ler do primário logo após a escrita do mesmo cliente")
+    void deveLerDoPrimarioAposEscrita() throws Exception {
+        // Act - escrita
+        MockHttpServletResponse resposta = mockMvc.perform(post("/api/alunos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("nome", "Ana Souza", "ra", "11111"))))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists(FiltroLeituraAposEscrita.COOKIE_ULTIMA_ESCRITA))
+                .andReturn().getResponse();
+        Cookie ultimaEscrita = resposta.getCookie(FiltroLeituraAposEscrita.COOKIE_ULTIMA_ESCRITA);
+        long id = objectMapper.readTree(resposta.getContentAsString()).get("id").asLong();
+        
+        // Assert - gravado apenas no primário
+        assertThat(primario.queryForObject("SELECT COUNT(*) FROM tb_alunos WHERE ra = '11111'", Long.class)).isEqualTo(1L);
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM tb_alunos WHERE ra = '11111'", Long.class)).isZero();
+        
+        // Assert - o mesmo cliente lê do primário
+        mockMvc.perform(get("/api/alunos").cookie(ultimaEscrita))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].ra").value("11111"));
+        
+        // Assert - os demais também, enquanto a réplica pode estar atrasada em relação ao ETag
+        mockMvc.perform(get("/api/alunos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].ra").value("11111"));
+        mockMvc.perform(get("/api/alunos/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ra").value("11111"));
+        
+        // Assert - passado o atraso máximo, os demais voltam à réplica
+        Thread.sleep(ATRASO_REPLICAS_MS + 100);
+        mockMvc.perform(get("/api/alunos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].ra").value("REPLICA1"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de integração das migrações de tb_alunos e dos planos das consultas (EXPLAIN do H2)
+ * O contexto só sobe se a entidade Aluno bater com o schema criado (ddl-auto=validate)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:migracoes")
+@DisplayName("Testes de Integração das Migrações e Índices de Alunos")
+class MigracoesAlunosIntegrationTest {
+    
+    @Autowired
+    private Flyway flyway;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    @DisplayName("Deve aplicar todas as migrações na inicialização")
+    void deveAplicarTodasAsMigracoes() {
+        assertThat(flyway.info().applied())
+                .extracting(migracao -> migracao.getVersion().getVersion())
+                .containsExactly("1", "2", "3");
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).allMatch(MigrationInfo::isChecksumMatching);
+    }
+    
+    @Test
+    @DisplayName("Deve ler o ranking na ordem do índice, sem ordenar a tabela")
+    void deveLerRankingPeloIndice() {
+        // Act
+        String plano = explicar("""
+                SELECT id, nome, ra, media_final, cursos_adicionais, concluiu, data_criacao
+                FROM tb_alunos
+                ORDER BY media_final DESC, cursos_adicionais DESC, id
+                LIMIT 50
+                """);
+        
+        // Assert
+        assertThat(plano).containsIgnoringCase("idx_alunos_ranking").contains("index sorted");
+    }
+    
+    @Test
+    @DisplayName("Deve filtrar por conclusão pelo índice")
+    void deveFiltrarPorConclusaoPeloIndice() {
+        // Act
+        String plano = explicar("SELECT id, nome FROM tb_alunos WHERE concluiu = FALSE");
+        
+        // Assert
+        assertThat(plano).containsIgnoringCase("idx_alunos_concluiu");
+    }
+    
+    @Test
+    @DisplayName("Deve filtrar por período de atualização pelo índice")
+    void deveFiltrarPorDataAtualizacaoPeloIndice() {
+        // Act
+        String plano = explicar("SELECT id, nome FROM tb_alunos WHERE data_atualizacao >= TIMESTAMP '2026-01-01 00:00:00'");
+        
+        // Assert
+        assertThat(plano).containsIgnoringCase("idx_alunos_data_atualizacao");
+    }
+    
+    private String explicar(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
@@ -0,0 +1,89 @@
+package com.devops.projeto_ac2.infrastructure.persistence;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.exceptions.DomainException;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de integração do registro de tentativa pelo UPDATE condicional
+ * O caminho rápido (registrarTentativaSeDisponivel) deve aceitar e recusar
+ * exatamente os mesmos alunos que Aluno.registrarTentativa
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração do Registro de Tentativa")
+class RegistroTentativaIntegrationTest {
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @AfterEach
+    void tearDown() {
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+    }
+    
+    @ParameterizedTest(name = "{0} tentativas, concluiu = {1}")
+    @CsvSource({
+            "0, false",
+            "1, false",
+            "2, false",
+            "3, false",
+            "1, true",
+            "3, true"
+    })
+    @DisplayName("Deve aceitar e recusar os mesmos alunos pelo UPDATE e pela entidade")
+    void deveTerAsMesmasRegrasQueAEntidade(int tentativasAnteriores, boolean concluiu) {
+        // Arrange
+        Aluno pelaEntidade = salvarNoEstado("Ana Souza", "11111", tentativasAnteriores, concluiu);
+        Aluno peloUpdate = salvarNoEstado("Bruno Lima", "22222", tentativasAnteriores, concluiu);
+        
+        // Act
+        boolean aceitoPelaEntidade = registrarPelaEntidade(pelaEntidade.getId());
+        boolean aceitoPeloUpdate = new TransactionTemplate(transactionManager).execute(status ->
+                alunoRepository.registrarTentativaSeDisponivel(peloUpdate.getId(), 6.0).isPresent());
+        
+        // Assert
+        assertThat(aceitoPeloUpdate).isEqualTo(aceitoPelaEntidade);
+        assertThat(alunoRepository.buscarPorId(peloUpdate.getId()).orElseThrow().getTentativasAvaliacao())
+                .isEqualTo(alunoRepository.buscarPorId(pelaEntidade.getId()).orElseThrow().getTentativasAvaliacao());
+    }
+    
+    private boolean registrarPelaEntidade(Long id) {
+        Aluno aluno = alunoRepository.buscarPorId(id).orElseThrow();
+        try {
+            aluno.registrarTentativa(MediaFinal.criar(6.0));
+        } catch (DomainException e) {
+            return false;
+        }
+        alunoRepository.salvar(aluno);
+        return true;
+    }
+    
+    private Aluno salvarNoEstado(String nome, String ra, int tentativas, boolean concluiu) {
+        Aluno aluno = Aluno.criar(NomeAluno.criar(nome), RegistroAcademico.criar(ra));
+        for (int i = 0; i < tentativas; i++) {
+            aluno.registrarTentativa(MediaFinal.criar(5.0));
+        }
+        if (concluiu) {
+            aluno.concluirCurso(MediaFinal.criar(8.0));
+        }
+        return alunoRepository.salvar(aluno);
+    }
+}
@@ -0,0 +1,112 @@
+package com.devops.projeto_ac2.infrastructure.web.cache;
+
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.events.AlunoSalvoEvent;
+import com.devops.projeto_ac2.domain.readmodels.AlunoResumo;
+import com.devops.projeto_ac2.shared.mapper.AlunoMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para CacheJsonAlunos
+ */
+@DisplayName("Testes do Cache de JSON de Alunos")
+class CacheJsonAlunosTest {
+    
+    private static final LocalDateTime AGORA = LocalDateTime.of(2026, 3, 10, 14, 30);
+    private static final long EXPIRACAO_MS = 30_000;
+    
+    private final AtomicLong relogio = new AtomicLong();
+    private ObjectMapper objectMapper;
+    private AlunoMapper alunoMapper;
+    private CacheJsonAlunos cache;
+    
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        alunoMapper = spy(new AlunoMapper());
+        cache = new CacheJsonAlunos(alunoMapper, objectMapper, new SimpleMeterRegistry(), true, 1024 * 1024, EXPIRACAO_MS,
+                Runnable::run, relogio::get);
+    }
+    
+    @Test
+    @DisplayName("Deve serializar cada versão uma única vez, com o mesmo JSON do Jackson")
+    void deveSerializarCadaVersaoUmaVez() throws Exception {
+        // Arrange
+        AlunoResumo aluno = resumo(1L, "Ana Souza");
+        
+        // Act
+        byte[] primeira = cache.obter(aluno, "1-a");
+        byte[] segunda = cache.obter(aluno, "1-a");
+        
+        // Assert
+        assertThat(segunda).isSameAs(primeira);
+        assertThat(primeira).isEqualTo(objectMapper.writeValueAsBytes(new AlunoMapper().toResponseDTO(aluno)));
+        assertThat(cache.buscar(1L, "1-a")).containsSame(primeira);
+        verify(alunoMapper, times(1)).toResponseDTO(any(AlunoResumo.class));
+    }
+    
+    @Test
+    @DisplayName("Não deve servir o JSON de outra versão nem após a escrita do aluno")
+    void naoDeveServirVersaoDiferenteOuInvalidada() {
+        // Arrange
+        cache.obter(resumo(1L, "Ana Souza"), "1-a");
+        Aluno aluno = mock(Aluno.class);
+        when(aluno.getId()).thenReturn(1L);
+        
+        // Act & Assert
+        assertThat(cache.buscar(1L, "1-b")).isEmpty();
+        
+        cache.aoSalvarAluno(new AlunoSalvoEvent(aluno));
+        assertThat(cache.buscar(1L, "1-a")).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Deve respeitar o limite de memória despejando entradas")
+    void deveRespeitarLimiteDeMemoria() {
+        // Arrange - espaço para poucas entradas
+        cache = new CacheJsonAlunos(alunoMapper, objectMapper, new SimpleMeterRegistry(), true, 2_000, EXPIRACAO_MS,
+                Runnable::run, relogio::get);
+        
+        // Act
+        for (long id = 1; id <= 50; id++) {
+            cache.obter(resumo(id, "Aluno " + id), id + "-a");
+        }
+        
+        // Assert
+        long guardados = LongStream.rangeClosed(1, 50)
+                .filter(id -> cache.buscar(id, id + "-a").isPresent())
+                .count();
+        assertThat(guardados).isLessThan(50);
+    }
+    
+    @Test
+    @DisplayName("Deve expirar o JSON guardado mesmo sem escrita local do aluno")
+    void deveExpirarJsonGuardado() {
+        // Arrange
+        cache.obter(resumo(1L, "Ana Souza"), "1-a");
+        
+        // Act & Assert
+        relogio.addAndGet(TimeUnit.MILLISECONDS.toNanos(EXPIRACAO_MS - 1));
+        assertThat(cache.buscar(1L, "1-a")).isPresent();
+        
+        relogio.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(cache.buscar(1L, "1-a")).isEmpty();
+    }
+    
+    private static AlunoResumo resumo(Long id, String nome) {
+        return new AlunoResumo(id, nome, "11111", 8.0, false, 0, 1, 2, "NAO_CONCLUIDO", AGORA, AGORA, null);
+    }
+}
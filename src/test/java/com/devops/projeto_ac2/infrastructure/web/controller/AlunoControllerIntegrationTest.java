@@ -1,5 +1,6 @@
 package com.devops.projeto_ac2.infrastructure.web.controller;
 
+import com.devops.projeto_ac2.application.cache.RastreadorVersoes;
 import com.devops.projeto_ac2.domain.entities.Aluno;
 import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
 import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
@@ -17,9 +18,13 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -44,6 +49,9 @@ class AlunoControllerIntegrationTest {
     @Autowired
     private AlunoRepository alunoRepository;
     
+    @Autowired
+    private RastreadorVersoes rastreadorVersoes;
+    
     @BeforeEach
     void setUp() {
         // Limpar dados antes de cada teste
@@ -94,7 +102,7 @@ class AlunoControllerIntegrationTest {
     void deveRetornarErroQuandoRAJaExiste() throws Exception {
         // Arrange - criar aluno primeiro
         Aluno aluno = Aluno.criar(
-                NomeAluno.criar("João Silva"), 
+                NomeAluno.criar("João Silva"),
                 RegistroAcademico.criar("12345ABC")
         );
         alunoRepository.salvar(aluno);
@@ -117,7 +125,7 @@ class AlunoControllerIntegrationTest {
     void deveBuscarAlunoPorId() throws Exception {
         // Arrange
         Aluno aluno = Aluno.criar(
-                NomeAluno.criar("João Silva"), 
+                NomeAluno.criar("João Silva"),
                 RegistroAcademico.criar("12345ABC")
         );
         Aluno salvo = alunoRepository.salvar(aluno);
@@ -139,6 +147,30 @@ class AlunoControllerIntegrationTest {
                 .andExpect(jsonPath("$.error").value("Aluno não encontrado"));
     }
     
+    @Test
+    @DisplayName("GET /api/alunos/ra/{ra} - Deve buscar aluno por RA")
+    void deveBuscarAlunoPorRA() throws Exception {
+        // Arrange
+        Aluno aluno = salvarComNota("Ana Souza", "11111", 8.0);
+        
+        // Act & Assert
+        mockMvc.perform(get("/api/alunos/ra/11111"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.id").value(aluno.getId()))
+                .andExpect(jsonPath("$.nome").value("Ana Souza"))
+                .andExpect(jsonPath("$.mediaFinal").value(8.0));
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/ra/{ra} - Deve retornar 404 quando o RA não existe")
+    void deveRetornar404QuandoRANaoExiste() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/alunos/ra/99999"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Aluno não encontrado"));
+    }
+    
     @Test
     @DisplayName("GET /api/alunos - Deve listar todos os alunos")
     void deveListarTodosAlunos() throws Exception {
@@ -164,18 +196,18 @@ class AlunoControllerIntegrationTest {
                 RegistroAcademico.criar("12345ABC")
         );
         Aluno salvo = alunoRepository.salvar(aluno);
-
+        
         Map<String, Double> request = new HashMap<>();
         request.put("nota", 8.5);
-
+        
         mockMvc.perform(post("/api/alunos/" + salvo.getId() + "/tentativas")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk());
-
+        
         Map<String, Double> concluirRequest = new HashMap<>();
         concluirRequest.put("mediaFinal", 8.5);
-
+        
         // Act & Assert
         mockMvc.perform(patch("/api/alunos/" + salvo.getId() + "/concluir")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -192,7 +224,7 @@ class AlunoControllerIntegrationTest {
     void deveValidarMediaInvalida() throws Exception {
         // Arrange
         Aluno aluno = Aluno.criar(
-                NomeAluno.criar("João Silva"), 
+                NomeAluno.criar("João Silva"),
                 RegistroAcademico.criar("12345ABC")
         );
         Aluno salvo = alunoRepository.salvar(aluno);
@@ -215,13 +247,13 @@ class AlunoControllerIntegrationTest {
         Aluno aluno2 = Aluno.criar(NomeAluno.criar("Maria Santos"), RegistroAcademico.criar("67890"));
         aluno1 = alunoRepository.salvar(aluno1);
         aluno2 = alunoRepository.salvar(aluno2);
-
+        
         // Concluir apenas o primeiro
         MediaFinal media = com.devops.projeto_ac2.domain.valueobjects.MediaFinal.criar(8.0);
         aluno1.registrarTentativa(media);
         aluno1.concluirCurso(media);
         alunoRepository.salvar(aluno1);
-
+        
         // Act & Assert
         mockMvc.perform(get("/api/alunos?concluido=true"))
                 .andExpect(status().isOk())
@@ -229,4 +261,383 @@ class AlunoControllerIntegrationTest {
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].concluiu").value(true));
     }
+    
+    @Test
+    @DisplayName("GET /api/alunos?limit=2&sort=-mediaFinal - Deve paginar listagem por keyset")
+    void devePaginarListagemPorKeyset() throws Exception {
+        // Arrange
+        salvarComNota("Ana Souza", "11111", 6.0);
+        salvarComNota("Bruno Lima", "22222", 9.0);
+        salvarComNota("Carla Dias", "33333", 6.0);
+        
+        // Act & Assert - primeira página
+        String after = mockMvc.perform(get("/api/alunos").param("limit", "2").param("sort", "-mediaFinal"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].nome").value("Bruno Lima"))
+                .andExpect(jsonPath("$[0].situacao").value("NAO_CONCLUIDO"))
+                .andExpect(jsonPath("$[0].tentativasRestantes").value(2))
+                .andExpect(jsonPath("$[1].nome").value("Ana Souza"))
+                .andExpect(jsonPath("$[1].situacao").value("EM_RECUPERACAO"))
+                .andExpect(header().exists("X-Proximo-Cursor"))
+                .andReturn().getResponse().getHeader("X-Proximo-Cursor");
+        
+        // Act & Assert - última página (empate em mediaFinal resolvido pelo ID)
+        mockMvc.perform(get("/api/alunos").param("limit", "2").param("sort", "-mediaFinal").param("after", after))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].nome").value("Carla Dias"))
+                .andExpect(header().doesNotExist("X-Proximo-Cursor"));
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos?sort=... - Deve retornar 400 para ordenação inválida")
+    void deveRetornar400ParaOrdenacaoInvalida() throws Exception {
+        mockMvc.perform(get("/api/alunos").param("sort", "ra"))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/stream - Deve exportar alunos em NDJSON")
+    void deveExportarAlunosEmNdjson() throws Exception {
+        // Arrange
+        salvarComNota("Ana Souza", "11111", 8.0);
+        salvarComNota("Bruno Lima", "22222", 6.0);
+        
+        // Act
+        String corpo = mockMvc.perform(get("/api/alunos/stream"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        
+        // Assert
+        String[] linhas = corpo.split("\n");
+        assertThat(linhas).hasSize(2);
+        assertThat(objectMapper.readTree(linhas[0]).get("nome").asText()).isEqualTo("Ana Souza");
+        assertThat(objectMapper.readTree(linhas[1]).get("ra").asText()).isEqualTo("22222");
+        assertThat(corpo).endsWith("\n");
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/ranking?tamanho=2 - Deve paginar ranking com cursor e posições empatadas")
+    void devePaginarRankingComCursor() throws Exception {
+        // Arrange
+        salvarComNota("Ana Souza", "11111", 9.0);
+        salvarComNota("Bruno Lima", "22222", 9.0);
+        salvarComNota("Carla Dias", "33333", 7.0);
+        
+        // Act & Assert - primeira página
+        String cursor = mockMvc.perform(get("/api/alunos/ranking?tamanho=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].posicao").value(1))
+                .andExpect(jsonPath("$[1].posicao").value(1))
+                .andExpect(header().exists("X-Proximo-Cursor"))
+                .andReturn().getResponse().getHeader("X-Proximo-Cursor");
+        
+        // Act & Assert - última página
+        mockMvc.perform(get("/api/alunos/ranking").param("tamanho", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].nome").value("Carla Dias"))
+                .andExpect(jsonPath("$[0].posicao").value(3))
+                .andExpect(header().doesNotExist("X-Proximo-Cursor"));
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/ranking?apenasAprovados=true&tamanho=1 - Deve paginar apenas os aprovados")
+    void devePaginarRankingApenasAprovados() throws Exception {
+        // Arrange
+        concluirComNota("Ana Souza", "11111", 9.0);
+        concluirComNota("Bruno Lima", "22222", 4.0);
+        concluirComNota("Carla Dias", "33333", 7.5);
+        salvarComNota("Diego Alves", "44444", 8.0);
+        
+        // Act & Assert - primeira página
+        String cursor = mockMvc.perform(get("/api/alunos/ranking").param("apenasAprovados", "true").param("tamanho", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].nome").value("Ana Souza"))
+                .andExpect(jsonPath("$[0].posicao").value(1))
+                .andReturn().getResponse().getHeader("X-Proximo-Cursor");
+        
+        // Act & Assert - última página: reprovado e não concluído ficam de fora
+        mockMvc.perform(get("/api/alunos/ranking")
+                        .param("apenasAprovados", "true").param("tamanho", "1").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].nome").value("Carla Dias"))
+                .andExpect(jsonPath("$[0].posicao").value(2))
+                .andExpect(header().doesNotExist("X-Proximo-Cursor"));
+        
+        // Act & Assert - o cursor dos aprovados não vale no ranking geral
+        mockMvc.perform(get("/api/alunos/ranking").param("tamanho", "1").param("cursor", cursor))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/ranking?cursor=... - Deve retornar 400 para cursor inválido")
+    void deveRetornar400ParaCursorInvalido() throws Exception {
+        mockMvc.perform(get("/api/alunos/ranking").param("cursor", "invalido"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Cursor de paginação inválido"));
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/ranking?coorte=... - Deve retornar 400 para coorte com filtro ou paginação")
+    void deveRetornar400ParaCoorteComFiltroOuPaginacao() throws Exception {
+        for (String parametro : new String[] {"apenasAprovados", "tamanho", "versao"}) {
+            mockMvc.perform(get("/api/alunos/ranking").param("coorte", "2026-1")
+                            .param(parametro, "apenasAprovados".equals(parametro) ? "true" : "1"))
+                    .andExpect(status().isBadRequest());
+        }
+        mockMvc.perform(get("/api/alunos/ranking").param("coorte", "2026-1").param("cursor", "x")
+                        .param("fields", "posicao,nome"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/alunos/ranking").param("coorte", "2026-1").param("top", "5"))
+                .andExpect(status().isOk());
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos?fields=id,nome - Deve retornar apenas os campos pedidos")
+    void deveListarApenasCamposPedidos() throws Exception {
+        // Arrange
+        salvarComNota("Ana Souza", "11111", 8.0);
+        
+        // Act & Assert
+        mockMvc.perform(get("/api/alunos").param("fields", "id,nome,situacao"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].nome").value("Ana Souza"))
+                .andExpect(jsonPath("$[0].situacao").value("NAO_CONCLUIDO"))
+                .andExpect(jsonPath("$[0].id").exists())
+                .andExpect(jsonPath("$[0].ra").doesNotExist())
+                .andExpect(jsonPath("$[0].mediaFinal").doesNotExist());
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/{id}?fields=ra,mediaFinal - Deve retornar apenas os campos pedidos do aluno")
+    void deveBuscarApenasCamposPedidosPorId() throws Exception {
+        // Arrange
+        Aluno aluno = salvarComNota("Ana Souza", "11111", 8.0);
+        
+        // Act & Assert
+        mockMvc.perform(get("/api/alunos/" + aluno.getId()).param("fields", "ra,mediaFinal"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ra").value("11111"))
+                .andExpect(jsonPath("$.mediaFinal").value(8.0))
+                .andExpect(jsonPath("$.id").doesNotExist())
+                .andExpect(jsonPath("$.nome").doesNotExist());
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/ranking?fields=posicao,nome - Deve retornar apenas os campos pedidos do ranking")
+    void deveRetornarRankingApenasComCamposPedidos() throws Exception {
+        // Arrange
+        salvarComNota("Ana Souza", "11111", 9.0);
+        salvarComNota("Bruno Lima", "22222", 7.0);
+        
+        // Act & Assert
+        mockMvc.perform(get("/api/alunos/ranking").param("tamanho", "10").param("fields", "posicao,nome"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].posicao").value(1))
+                .andExpect(jsonPath("$[0].nome").value("Ana Souza"))
+                .andExpect(jsonPath("$[0].mediaFinal").doesNotExist());
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos?fields=senha - Deve retornar 400 para campo desconhecido")
+    void deveRetornar400ParaCampoDesconhecido() throws Exception {
+        mockMvc.perform(get("/api/alunos").param("fields", "id,senha"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Campo inválido"))
+                .andExpect(jsonPath("$.message", containsString("senha")));
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/{id} - Deve responder 304 quando o ETag não mudou")
+    void deveResponder304ParaAlunoNaoAlterado() throws Exception {
+        // Arrange
+        Aluno aluno = salvarComNota("Ana Souza", "11111", 8.0);
+        String etag = mockMvc.perform(get("/api/alunos/" + aluno.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+        
+        // Act & Assert
+        mockMvc.perform(get("/api/alunos/" + aluno.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+        
+        mockMvc.perform(get("/api/alunos/" + aluno.getId()).header("If-None-Match", "\"outra-versao\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Ana Souza"));
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/{id} - Deve responder com o ETag da versão entregue quando a versão conhecida não está em cache")
+    void deveResponderETagDaVersaoEntregue() throws Exception {
+        // Arrange - outra instância anunciou uma versão cujo JSON não está em cache
+        Aluno aluno = salvarComNota("Ana Souza", "11111", 8.0);
+        String etag = mockMvc.perform(get("/api/alunos/" + aluno.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        rastreadorVersoes.registrar(aluno.getId(), LocalDateTime.now().plusDays(1));
+        
+        // Act & Assert
+        mockMvc.perform(get("/api/alunos/" + aluno.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(jsonPath("$.nome").value("Ana Souza"));
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos e /ranking - Deve responder 304 quando a versão da coleção não mudou")
+    void deveResponder304ParaColecaoNaoAlterada() throws Exception {
+        // Arrange
+        salvarComNota("Ana Souza", "11111", 8.0);
+        String etagLista = mockMvc.perform(get("/api/alunos"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        String etagRanking = mockMvc.perform(get("/api/alunos/ranking"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        
+        // Act & Assert
+        assertThat(etagLista).isNotBlank().isNotEqualTo(etagRanking);
+        mockMvc.perform(get("/api/alunos").header("If-None-Match", etagLista))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/alunos/ranking").header("If-None-Match", etagRanking))
+                .andExpect(status().isNotModified());
+    }
+    
+    @Test
+    @DisplayName("POST /api/alunos/batch - Deve criar alunos em lote com resultado por item")
+    void deveCriarAlunosEmLote() throws Exception {
+        // Arrange
+        salvarComNota("Ana Souza", "11111", 8.0);
+        List<Map<String, String>> request = List.of(
+                Map.of("nome", "Bruno Lima", "ra", "22222"),
+                Map.of("nome", "Carla Dias", "ra", "11111"),
+                Map.of("nome", "Diego Melo", "ra", "33"),
+                Map.of("nome", "Elisa Rocha", "ra", "44444"));
+        
+        // Act & Assert
+        String corpo = mockMvc.perform(post("/api/alunos/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.total").value(4))
+                .andExpect(jsonPath("$.criados").value(2))
+                .andExpect(jsonPath("$.rejeitados").value(2))
+                .andExpect(jsonPath("$.resultados[0].status").value("CRIADO"))
+                .andExpect(jsonPath("$.resultados[1].status").value("REJEITADO"))
+                .andExpect(jsonPath("$.resultados[1].erro").value("Já existe um aluno cadastrado com o RA: 11111"))
+                .andExpect(jsonPath("$.resultados[2].erro").value("RA deve ter no mínimo 5 caracteres"))
+                .andExpect(jsonPath("$.resultados[3].id").exists())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        
+        long id = objectMapper.readTree(corpo).get("resultados").get(3).get("id").asLong();
+        mockMvc.perform(get("/api/alunos/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Elisa Rocha"));
+    }
+    
+    @Test
+    @DisplayName("POST /api/alunos/batch - Deve retornar 201 quando todos os alunos são criados")
+    void deveRetornar201QuandoTodoLoteCriado() throws Exception {
+        List<Map<String, String>> request = List.of(
+                Map.of("nome", "Bruno Lima", "ra", "22222"),
+                Map.of("nome", "Elisa Rocha", "ra", "44444"));
+        
+        mockMvc.perform(post("/api/alunos/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.criados").value(2))
+                .andExpect(jsonPath("$.resultados[0].erro").doesNotExist());
+    }
+    
+    @Test
+    @DisplayName("POST /api/alunos/tentativas/batch - Deve registrar tentativas por RA e recusar itens fora das regras")
+    void deveRegistrarTentativasEmLote() throws Exception {
+        // Arrange
+        Aluno ana = salvarComNota("Ana Souza", "11111", 6.0);
+        Aluno bruno = salvarComNota("Bruno Lima", "22222", 4.0);
+        bruno.registrarTentativa(MediaFinal.criar(5.0));
+        bruno.registrarTentativa(MediaFinal.criar(6.0));
+        Aluno carla = salvarComNota("Carla Dias", "33333", 8.0);
+        carla.concluirCurso(MediaFinal.criar(8.0));
+        
+        List<Map<String, Object>> request = List.of(
+                Map.of("ra", "11111", "nota", 9.0),
+                Map.of("ra", "22222", "nota", 7.0),
+                Map.of("ra", "33333", "nota", 7.0),
+                Map.of("ra", "99999", "nota", 7.0),
+                Map.of("ra", "11111", "nota", 10.0),
+                Map.of("ra", "44444", "nota", 11.0));
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/alunos/tentativas/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.total").value(6))
+                .andExpect(jsonPath("$.registradas").value(1))
+                .andExpect(jsonPath("$.rejeitadas").value(5))
+                .andExpect(jsonPath("$.resultados[0].status").value("REGISTRADA"))
+                .andExpect(jsonPath("$.resultados[0].tentativasRestantes").value(1))
+                .andExpect(jsonPath("$.resultados[1].status").value("TENTATIVAS_ESGOTADAS"))
+                .andExpect(jsonPath("$.resultados[2].status").value("CURSO_CONCLUIDO"))
+                .andExpect(jsonPath("$.resultados[3].status").value("NAO_ENCONTRADO"))
+                .andExpect(jsonPath("$.resultados[4].erro").value("RA repetido no lote: 11111"))
+                .andExpect(jsonPath("$.resultados[5].status").value("REJEITADA"));
+        
+        mockMvc.perform(get("/api/alunos/" + ana.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mediaFinal").value(9.0))
+                .andExpect(jsonPath("$.tentativasAvaliacao").value(2));
+    }
+    
+    @Test
+    @DisplayName("POST /api/alunos/{id}/tentativas - Deve registrar até o limite e recusar a quarta tentativa")
+    void deveRecusarTentativaAlemDoLimite() throws Exception {
+        // Arrange
+        Aluno aluno = salvarComNota("Ana Souza", "11111", 4.0);
+        String url = "/api/alunos/" + aluno.getId() + "/tentativas";
+        
+        // Act & Assert
+        for (double nota : new double[] {5.0, 6.5}) {
+            mockMvc.perform(post(url)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of("nota", nota))))
+                    .andExpect(status().isOk());
+        }
+        
+        mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("nota", 9.0))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Aluno já utilizou todas as 3 tentativas disponíveis"));
+        
+        mockMvc.perform(get("/api/alunos/" + aluno.getId()))
+                .andExpect(jsonPath("$.tentativasAvaliacao").value(3))
+                .andExpect(jsonPath("$.tentativasRestantes").value(0))
+                .andExpect(jsonPath("$.mediaFinal").value(6.5));
+    }
+    
+    private Aluno concluirComNota(String nome, String ra, double nota) {
+        Aluno aluno = Aluno.criar(NomeAluno.criar(nome), RegistroAcademico.criar(ra));
+        aluno.registrarTentativa(MediaFinal.criar(nota));
+        aluno.concluirCurso(MediaFinal.criar(nota));
+        return alunoRepository.salvar(aluno);
+    }
+    
+    private Aluno salvarComNota(String nome, String ra, double nota) {
+        Aluno aluno = Aluno.criar(NomeAluno.criar(nome), RegistroAcademico.criar(ra));
+        aluno.registrarTentativa(MediaFinal.criar(nota));
+        return alunoRepository.salvar(aluno);
+    }
 }
@@ -0,0 +1,143 @@
+package com.devops.projeto_ac2.infrastructure.web.controller;
+
+import com.devops.projeto_ac2.application.ranking.MaterializadorRanking;
+import com.devops.projeto_ac2.domain.entities.Aluno;
+import com.devops.projeto_ac2.domain.repositories.AlunoRepository;
+import com.devops.projeto_ac2.domain.valueobjects.MediaFinal;
+import com.devops.projeto_ac2.domain.valueobjects.NomeAluno;
+import com.devops.projeto_ac2.domain.valueobjects.RegistroAcademico;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração do ranking com o snapshot materializado habilitado
+ * 
+ * O refresh agendado fica com um intervalo longo: cada teste publica as versões
+ * chamando o materializador, para saber exatamente qual versão cada resposta deve ler
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rankingmaterializado",
+        "ranking.snapshot.habilitado=true",
+        "ranking.snapshot.intervalo-ms=3600000",
+        "ranking.snapshot.versoes-retidas=2"
+})
+@DisplayName("Testes de Integração do Ranking Materializado")
+class RankingMaterializadoIntegrationTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private MaterializadorRanking materializadorRanking;
+    
+    @BeforeEach
+    void setUp() {
+        alunoRepository.buscarTodos().forEach(aluno -> alunoRepository.deletar(aluno.getId()));
+        salvarComNota("Ana Souza", "11111", 9.0);
+        salvarComNota("Bruno Lima", "22222", 8.0);
+        salvarComNota("Carla Dias", "33333", 7.0);
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/ranking - Deve informar a versão do snapshot lido no header")
+    void deveInformarVersaoDoSnapshot() throws Exception {
+        // Arrange
+        long versao = materializadorRanking.materializar().getVersao();
+        
+        // Act & Assert
+        mockMvc.perform(get("/api/alunos/ranking"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(AlunoController.HEADER_VERSAO_RANKING, String.valueOf(versao)))
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].ra").value("11111"));
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/ranking?versao=... - Deve paginar a versão informada enquanto ela está retida")
+    void devePaginarVersaoInformada() throws Exception {
+        // Arrange - primeira página na versão inicial
+        long inicial = materializadorRanking.materializar().getVersao();
+        MockHttpServletResponse primeira = mockMvc.perform(get("/api/alunos/ranking").param("tamanho", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(AlunoController.HEADER_VERSAO_RANKING, String.valueOf(inicial)))
+                .andReturn().getResponse();
+        String cursor = primeira.getHeader(AlunoController.HEADER_PROXIMO_CURSOR);
+        
+        // Arrange - uma escrita publica uma versão nova, com Daniel entre Bruno e Carla
+        salvarComNota("Daniel Reis", "44444", 7.5);
+        long nova = materializadorRanking.materializar().getVersao();
+        
+        // Act & Assert - a versão inicial continua respondendo sem Daniel
+        mockMvc.perform(get("/api/alunos/ranking")
+                        .param("tamanho", "2")
+                        .param("cursor", cursor)
+                        .param("versao", String.valueOf(inicial)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(AlunoController.HEADER_VERSAO_RANKING, String.valueOf(inicial)))
+                .andExpect(header().doesNotExist(AlunoController.HEADER_PROXIMO_CURSOR))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].ra").value("33333"))
+                .andExpect(jsonPath("$[0].posicao").value(3));
+        
+        // Act & Assert - sem versao, a leitura vai ao snapshot mais recente
+        mockMvc.perform(get("/api/alunos/ranking").param("tamanho", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(header().string(AlunoController.HEADER_VERSAO_RANKING, String.valueOf(nova)))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].ra").value("44444"))
+                .andExpect(jsonPath("$[1].ra").value("33333"));
+    }
+    
+    @Test
+    @DisplayName("GET /api/alunos/ranking?versao=... - Deve continuar do cursor no snapshot mais recente quando a versão saiu da retenção")
+    void deveContinuarCursorAposVersaoDescartada() throws Exception {
+        // Arrange - primeira página na versão inicial
+        long inicial = materializadorRanking.materializar().getVersao();
+        String cursor = mockMvc.perform(get("/api/alunos/ranking").param("tamanho", "2"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(AlunoController.HEADER_PROXIMO_CURSOR);
+        
+        // Arrange - duas versões novas descartam a inicial (duas retidas)
+        salvarComNota("Daniel Reis", "44444", 10.0);
+        materializadorRanking.materializar();
+        salvarComNota("Eva Torres", "55555", 6.0);
+        long atual = materializadorRanking.materializar().getVersao();
+        
+        // Act & Assert - continua depois da chave do cursor, sem repetir Daniel, que entrou no topo
+        mockMvc.perform(get("/api/alunos/ranking")
+                        .param("tamanho", "2")
+                        .param("cursor", cursor)
+                        .param("versao", String.valueOf(inicial)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(AlunoController.HEADER_VERSAO_RANKING, String.valueOf(atual)))
+                .andExpect(header().doesNotExist(AlunoController.HEADER_PROXIMO_CURSOR))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].ra").value("33333"))
+                .andExpect(jsonPath("$[0].posicao").value(4))
+                .andExpect(jsonPath("$[1].ra").value("55555"))
+                .andExpect(jsonPath("$[1].posicao").value(5));
+    }
+    
+    private Aluno salvarComNota(String nome, String ra, double nota) {
+        Aluno aluno = Aluno.criar(NomeAluno.criar(nome), RegistroAcademico.criar(ra));
+        aluno.registrarTentativa(MediaFinal.criar(nota));
+        return alunoRepository.salvar(aluno);
+    }
+}